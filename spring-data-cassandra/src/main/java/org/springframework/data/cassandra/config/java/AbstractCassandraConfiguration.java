@@ -33,6 +33,7 @@ import org.springframework.data.cassandra.core.convert.MappingCassandraConverter
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.SimpleUserTypeResolver;
 import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.mapping.UserTypeChangeListener;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.cql.config.java.AbstractClusterConfiguration;
 import org.springframework.data.cql.core.session.DefaultSessionFactory;
@@ -113,6 +114,7 @@ public abstract class AbstractCassandraConfiguration extends AbstractClusterConf
 		MappingCassandraConverter mappingCassandraConverter = new MappingCassandraConverter(cassandraMapping());
 
 		mappingCassandraConverter.setCustomConversions(customConversions());
+		mappingCassandraConverter.setCodecRegistry(cluster().getObject().getConfiguration().getCodecRegistry());
 
 		return mappingCassandraConverter;
 	}
@@ -151,6 +153,8 @@ public abstract class AbstractCassandraConfiguration extends AbstractClusterConf
 		mappingContext.setSimpleTypeHolder(customConversions.getSimpleTypeHolder());
 		mappingContext.setUserTypeResolver(new SimpleUserTypeResolver(cluster().getObject(), getKeyspaceName()));
 
+		cluster().getObject().register(new UserTypeChangeListener(mappingContext));
+
 		return mappingContext;
 	}
 
@@ -203,6 +203,62 @@ public interface AsyncCassandraOperations {
 	 */
 	ListenableFuture<Long> count(Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by splitting the token ring into sub-ranges, counting up to
+	 * {@link ScanOptions#getParallelism()} sub-ranges concurrently and summing the results. Counting sub-ranges avoids
+	 * read timeouts of a single {@code SELECT count(*)} over large tables and spreads the load across all nodes.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	ListenableFuture<Long> count(Class<?> entityClass, ScanOptions options) throws DataAccessException;
+
+	/**
+	 * Estimate the number of partitions for the given entity class from {@code system.size_estimates}. Size estimates
+	 * are computed periodically by Cassandra and cover the token ranges of the coordinator node. The estimate is
+	 * extrapolated to the whole ring. The number of partitions equals the number of rows for tables without clustering
+	 * columns. Requires a session logged into the keyspace of the table.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the estimated number of partitions.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	ListenableFuture<Long> estimateCount(Class<?> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by querying token sub-ranges of the ring concurrently using
+	 * {@link ScanOptions#DEFAULT_PARALLELISM default parallelism} and notify {@link Consumer} for each entity.
+	 *
+	 * @param entityConsumer object that will be notified on each entity, must not be {@literal null}. The consumer may
+	 *          be called concurrently from multiple threads.
+	 * @param entityClass must not be {@literal null}.
+	 * @return the completion handle.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 * @see #scan(Consumer, Class, ScanOptions)
+	 */
+	<T> ListenableFuture<Void> scan(Consumer<T> entityConsumer, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by splitting the token ring into sub-ranges and querying up
+	 * to {@link ScanOptions#getParallelism()} sub-ranges concurrently. Sub-ranges are ordered by their primary replica so
+	 * the scan load is spread across all nodes. {@link Consumer} is notified for each entity in no particular order.
+	 *
+	 * @param entityConsumer object that will be notified on each entity, must not be {@literal null}. The consumer may
+	 *          be called concurrently from multiple threads.
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the completion handle.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	<T> ListenableFuture<Void> scan(Consumer<T> entityConsumer, Class<T> entityClass, ScanOptions options)
+			throws DataAccessException;
+
 	/**
 	 * Determine whether the row {@code entityClass} with the given {@code id} exists.
 	 *
@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.core;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Consumer;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.springframework.dao.DataAccessException;
@@ -44,6 +45,7 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.concurrent.ListenableFuture;
 
+import com.datastax.driver.core.Metadata;
 import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
@@ -84,6 +86,8 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final TokenRangeScan tokenRangeScan;
+
 	/**
 	 * Creates an instance of {@link AsyncCassandraTemplate} initialized with the given {@link Session} and a default
 	 * {@link MappingCassandraConverter}.
@@ -144,6 +148,7 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		this.cqlOperations = asyncCqlTemplate;
 		this.exceptionTranslator = asyncCqlTemplate.getExceptionTranslator();
 		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.tokenRangeScan = new TokenRangeScan(this.mappingContext);
 	}
 
 	/*
@@ -373,6 +378,90 @@ public class AsyncCassandraTemplate implements AsyncCassandraOperations {
 		return getAsyncCqlOperations().queryForObject(select, Long.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public ListenableFuture<Long> count(Class<?> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getAsyncCqlOperations().execute((AsyncSessionCallback<Long>) session -> {
+
+			List<Statement> statements = this.tokenRangeScan.count(persistentEntity, session.getCluster().getMetadata(),
+					session.getLoggedKeyspace(), options);
+			LongAdder total = new LongAdder();
+
+			ListenableFuture<Void> completion = new TokenRangeScan.AsyncScan(statements, options.getParallelism(),
+					statement -> new MappingListenableFutureAdapter<>(
+							getAsyncCqlOperations().queryForObject(statement, Long.class), count -> {
+								total.add(count);
+								return null;
+							})).execute();
+
+			return new MappingListenableFutureAdapter<>(completion, aVoid -> total.sum());
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public ListenableFuture<Long> estimateCount(Class<?> entityClass) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getAsyncCqlOperations().execute((AsyncSessionCallback<Long>) session -> {
+
+			Statement statement = TokenRangeScan.sizeEstimates(session.getLoggedKeyspace(), persistentEntity);
+			Metadata metadata = session.getCluster().getMetadata();
+
+			return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(statement),
+					resultSet -> TokenRangeScan.estimatePartitions(resultSet, metadata));
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#scan(java.util.function.Consumer, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<Void> scan(Consumer<T> entityConsumer, Class<T> entityClass)
+			throws DataAccessException {
+		return scan(entityConsumer, entityClass, ScanOptions.empty());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#scan(java.util.function.Consumer, java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> ListenableFuture<Void> scan(Consumer<T> entityConsumer, Class<T> entityClass, ScanOptions options)
+			throws DataAccessException {
+
+		Assert.notNull(entityConsumer, "Entity Consumer must not be empty");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getAsyncCqlOperations().execute((AsyncSessionCallback<Void>) session -> {
+
+			List<Statement> statements = this.tokenRangeScan.select(persistentEntity, session.getCluster().getMetadata(),
+					session.getLoggedKeyspace(), options);
+
+			return new TokenRangeScan.AsyncScan(statements, options.getParallelism(),
+					statement -> select(statement, entityConsumer, entityClass)).execute();
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#exists(java.lang.Object, java.lang.Class)
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import org.springframework.data.cql.core.WriteOptions;
+
+/**
+ * Bulk write operations for insert/update/delete actions on tables. In contrast to {@link CassandraBatchOperations},
+ * {@link CassandraBulkOperations} do not apply writes within a single logged {@code BATCH}. Writes are grouped by table
+ * and partition key and applied as {@code UNLOGGED} single-partition batches of up to {@link #withBatchSize(int) batch
+ * size} statements. Batches for different partitions are executed concurrently with a bounded number of
+ * {@link #withConcurrency(int) in-flight requests}. A {@link CassandraBulkOperations} instance cannot be modified/used
+ * once it was executed.
+ * <p>
+ * Bulk writes are not atomic across partitions. Writes of a single partition are applied atomically and isolated only
+ * if they fit into one batch. Use {@link CassandraBatchOperations} if atomicity across partitions is required.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see CassandraBatchOperations
+ */
+public interface CassandraBulkOperations {
+
+	/**
+	 * Execute the bulk write. The bulk write can be executed only once. Execution blocks until all batches are applied.
+	 *
+	 * @throws IllegalStateException if the bulk write is executed after it was executed already.
+	 */
+	void execute();
+
+	/**
+	 * Apply a given {@code timestamp} to all writes.
+	 *
+	 * @param timestamp the timestamp to apply.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations withTimestamp(long timestamp);
+
+	/**
+	 * Apply the maximum number of statements per single-partition batch.
+	 *
+	 * @param batchSize the maximum number of statements per batch, must be greater zero.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations withBatchSize(int batchSize);
+
+	/**
+	 * Apply the maximum number of batches that are executed concurrently.
+	 *
+	 * @param concurrency the maximum number of in-flight batches, must be greater zero.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations withConcurrency(int concurrency);
+
+	/**
+	 * Add an array of inserts to the bulk write.
+	 *
+	 * @param entities the entities to insert; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations insert(Object... entities);
+
+	/**
+	 * Add a collection of inserts to the bulk write.
+	 *
+	 * @param entities the entities to insert; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations insert(Iterable<?> entities);
+
+	/**
+	 * Add a collection of inserts with given {@link WriteOptions} to the bulk write.
+	 *
+	 * @param entities the entities to insert; must not be {@literal null}.
+	 * @param options the WriteOptions to apply; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations insert(Iterable<?> entities, WriteOptions options);
+
+	/**
+	 * Add an array of updates to the bulk write.
+	 *
+	 * @param entities the entities to update; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations update(Object... entities);
+
+	/**
+	 * Add a collection of updates to the bulk write.
+	 *
+	 * @param entities the entities to update; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations update(Iterable<?> entities);
+
+	/**
+	 * Add a collection of updates with given {@link WriteOptions} to the bulk write.
+	 *
+	 * @param entities the entities to update; must not be {@literal null}.
+	 * @param options the WriteOptions to apply; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations update(Iterable<?> entities, WriteOptions options);
+
+	/**
+	 * Add an array of deletes to the bulk write.
+	 *
+	 * @param entities the entities to delete; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations delete(Object... entities);
+
+	/**
+	 * Add a collection of deletes to the bulk write.
+	 *
+	 * @param entities the entities to delete; must not be {@literal null}.
+	 * @return {@code this} {@link CassandraBulkOperations}.
+	 * @throws IllegalStateException if the bulk write was already executed.
+	 */
+	CassandraBulkOperations delete(Iterable<?> entities);
+
+}
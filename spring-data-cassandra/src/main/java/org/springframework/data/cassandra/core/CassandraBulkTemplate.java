@@ -0,0 +1,301 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.cassandra.core.PartitionKeyResolver.PartitionKey;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cql.core.PipelinedStatementCallback;
+import org.springframework.data.cql.core.WriteOptions;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.querybuilder.Batch;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+
+/**
+ * Default implementation for {@link CassandraBulkOperations}.
+ * <p>
+ * Statements are grouped by table and partition key value(s) in the order they were added. Each group is split into
+ * {@code UNLOGGED} batches of up to {@code batchSize} statements. Batches are executed using
+ * {@link PipelinedStatementCallback}, the number of in-flight batches is limited to {@code concurrency}. No further
+ * batches are issued once a batch has failed.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class CassandraBulkTemplate implements CassandraBulkOperations {
+
+	private static final WriteOptions EMPTY = new WriteOptions();
+
+	static final int DEFAULT_BATCH_SIZE = 50;
+
+	static final int DEFAULT_CONCURRENCY = PipelinedStatementCallback.DEFAULT_MAX_IN_FLIGHT;
+
+	private final AtomicBoolean executed = new AtomicBoolean();
+
+	private final Map<PartitionKey, List<RegularStatement>> partitions = new LinkedHashMap<>();
+
+	private final CassandraOperations operations;
+
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private Long timestamp;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private int concurrency = DEFAULT_CONCURRENCY;
+
+	/**
+	 * Create a new {@link CassandraBulkTemplate} given {@link CassandraOperations}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 */
+	public CassandraBulkTemplate(CassandraOperations operations) {
+
+		Assert.notNull(operations, "CassandraOperations must not be null");
+
+		this.operations = operations;
+		this.partitionKeyResolver = new PartitionKeyResolver(operations.getConverter());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#execute()
+	 */
+	@Override
+	public void execute() {
+
+		if (executed.compareAndSet(false, true)) {
+
+			List<Batch> batches = createBatches();
+
+			if (!batches.isEmpty()) {
+
+				operations.getCqlOperations().execute(new PipelinedStatementCallback(batches, concurrency, true));
+			}
+
+			return;
+		}
+
+		assertNotExecuted();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#withTimestamp(long)
+	 */
+	@Override
+	public CassandraBulkOperations withTimestamp(long timestamp) {
+
+		assertNotExecuted();
+
+		this.timestamp = timestamp;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#withBatchSize(int)
+	 */
+	@Override
+	public CassandraBulkOperations withBatchSize(int batchSize) {
+
+		assertNotExecuted();
+		Assert.isTrue(batchSize > 0, "Batch size must be greater zero");
+
+		this.batchSize = batchSize;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#withConcurrency(int)
+	 */
+	@Override
+	public CassandraBulkOperations withConcurrency(int concurrency) {
+
+		assertNotExecuted();
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater zero");
+
+		this.concurrency = concurrency;
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#insert(java.lang.Object[])
+	 */
+	@Override
+	public CassandraBulkOperations insert(Object... entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return insert(Arrays.asList(entities));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#insert(java.lang.Iterable)
+	 */
+	@Override
+	public CassandraBulkOperations insert(Iterable<?> entities) {
+		return insert(entities, EMPTY);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#insert(java.lang.Iterable, org.springframework.data.cql.core.WriteOptions)
+	 */
+	@Override
+	public CassandraBulkOperations insert(Iterable<?> entities, WriteOptions options) {
+
+		assertNotExecuted();
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "WriteOptions must not be null");
+
+		for (Object entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity);
+
+			add(persistentEntity, entity, QueryUtils.createInsertQuery(persistentEntity.getTableName().toCql(), entity,
+					options, operations.getConverter()));
+		}
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#update(java.lang.Object[])
+	 */
+	@Override
+	public CassandraBulkOperations update(Object... entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return update(Arrays.asList(entities));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#update(java.lang.Iterable)
+	 */
+	@Override
+	public CassandraBulkOperations update(Iterable<?> entities) {
+		return update(entities, EMPTY);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#update(java.lang.Iterable, org.springframework.data.cql.core.WriteOptions)
+	 */
+	@Override
+	public CassandraBulkOperations update(Iterable<?> entities, WriteOptions options) {
+
+		assertNotExecuted();
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "WriteOptions must not be null");
+
+		for (Object entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity);
+
+			add(persistentEntity, entity, QueryUtils.createUpdateQuery(persistentEntity.getTableName().toCql(), entity,
+					options, operations.getConverter()));
+		}
+
+		return this;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#delete(java.lang.Object[])
+	 */
+	@Override
+	public CassandraBulkOperations delete(Object... entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		return delete(Arrays.asList(entities));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraBulkOperations#delete(java.lang.Iterable)
+	 */
+	@Override
+	public CassandraBulkOperations delete(Iterable<?> entities) {
+
+		assertNotExecuted();
+		Assert.notNull(entities, "Entities must not be null");
+
+		for (Object entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity);
+
+			add(persistentEntity, entity, QueryUtils.createDeleteQuery(persistentEntity.getTableName().toCql(), entity,
+					null, operations.getConverter()));
+		}
+
+		return this;
+	}
+
+	private void add(CassandraPersistentEntity<?> persistentEntity, Object entity, RegularStatement statement) {
+
+		PartitionKey partitionKey = partitionKeyResolver.resolve(persistentEntity, entity);
+
+		partitions.computeIfAbsent(partitionKey, key -> new ArrayList<>()).add(statement);
+	}
+
+	/**
+	 * Split statements of each partition into {@code UNLOGGED} batches of up to {@code batchSize} statements.
+	 */
+	List<Batch> createBatches() {
+
+		List<Batch> batches = new ArrayList<>();
+
+		for (List<RegularStatement> statements : partitions.values()) {
+
+			for (int offset = 0; offset < statements.size(); offset += batchSize) {
+
+				Batch batch = QueryBuilder.unloggedBatch(statements
+						.subList(offset, Math.min(offset + batchSize, statements.size())).toArray(new RegularStatement[0]));
+
+				if (timestamp != null) {
+					batch.using(QueryBuilder.timestamp(timestamp));
+				}
+
+				batches.add(batch);
+			}
+		}
+
+		return batches;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Object entity) {
+		return operations.getConverter().getMappingContext()
+				.getRequiredPersistentEntity(ClassUtils.getUserClass(entity.getClass()));
+	}
+
+	private void assertNotExecuted() {
+		Assert.state(!executed.get(), "This Cassandra Bulk operation was already executed");
+	}
+}
@@ -54,6 +54,15 @@ public interface CassandraOperations {
 	 */
 	CassandraBatchOperations batchOps();
 
+	/**
+	 * Returns a new {@link CassandraBulkOperations}. Each {@link CassandraBulkOperations} instance can be executed only
+	 * once so you might want to obtain new {@link CassandraBulkOperations} instances for each bulk write.
+	 *
+	 * @return a new {@link CassandraBulkOperations}.
+	 * @since 2.0
+	 */
+	CassandraBulkOperations bulkOps();
+
 	/**
 	 * Returns the underlying {@link CassandraConverter}.
 	 *
@@ -224,6 +233,58 @@ public interface CassandraOperations {
 	 */
 	long count(Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by splitting the token ring into sub-ranges, counting up to
+	 * {@link ScanOptions#getParallelism()} sub-ranges concurrently and summing the results. Counting sub-ranges avoids
+	 * read timeouts of a single {@code SELECT count(*)} over large tables and spreads the load across all nodes.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	long count(Class<?> entityClass, ScanOptions options) throws DataAccessException;
+
+	/**
+	 * Estimate the number of partitions for the given entity class from {@code system.size_estimates}. Size estimates
+	 * are computed periodically by Cassandra and cover the token ranges of the coordinator node. The estimate is
+	 * extrapolated to the whole ring. The number of partitions equals the number of rows for tables without clustering
+	 * columns. Requires a session logged into the keyspace of the table.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the estimated number of partitions.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	long estimateCount(Class<?> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by querying token sub-ranges of the ring concurrently using
+	 * {@link ScanOptions#DEFAULT_PARALLELISM default parallelism}. The returned {@link Stream} emits entities in no
+	 * particular order.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the {@link Stream} of all entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 * @see #scan(Class, ScanOptions)
+	 */
+	<T> Stream<T> scan(Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by splitting the token ring into sub-ranges and querying up
+	 * to {@link ScanOptions#getParallelism()} sub-ranges concurrently. Sub-ranges are ordered by their primary replica so
+	 * the scan load is spread across all nodes. The returned {@link Stream} emits entities in no particular order.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Stream} of all entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	<T> Stream<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Determine whether the row {@code entityClass} with the given {@code id} exists.
 	 *
@@ -251,9 +312,29 @@ public interface CassandraOperations {
 	 * @param entityClass The entity type must not be {@literal null}.
 	 * @return the converted results
 	 * @throws DataAccessException if there is any problem executing the query.
+	 * @see #selectByIds(Iterable, Class)
 	 */
 	<T> List<T> selectBySimpleIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Select objects for the given {@code entityClass} and {@code ids} by issuing concurrent single-partition reads
+	 * instead of a multi-partition {@code IN} query. Each id is read with a prepared statement routed to a replica owning
+	 * the partition. {@code ids} can be simple, {@link org.springframework.data.cassandra.repository.MapId} or composite
+	 * primary keys. Ids without a matching row are skipped and duplicate ids are read once per occurrence.
+	 * <p>
+	 * Reads are always executed as prepared statements, regardless of
+	 * {@link CassandraTemplate#setUsePreparedStatements(boolean)}, as routing a read to a replica requires the routing
+	 * key of a bound statement. Use {@link #selectBySimpleIds(Iterable, Class)} to read simple ids with a single
+	 * {@code IN} query.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results in the order of {@code ids}.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	<T> List<T> selectByIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Insert the given entity and return the entity if the insert was applied.
 	 *
@@ -273,6 +354,29 @@ public interface CassandraOperations {
 	 */
 	<T> T insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert the given entities and return the entities for which the insert was applied. Inserts are executed
+	 * concurrently and are not atomic.
+	 *
+	 * @param entities The entities to insert, must not be {@literal null}.
+	 * @return the inserted entities.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	<T> List<T> insert(Iterable<? extends T> entities) throws DataAccessException;
+
+	/**
+	 * Insert the given entities applying {@link WriteOptions} and return the entities for which the insert was applied.
+	 * Inserts are executed concurrently and are not atomic.
+	 *
+	 * @param entities The entities to insert, must not be {@literal null}.
+	 * @param options may be {@literal null}.
+	 * @return the inserted entities. Does not contain entities for which the {@code INSERT} operation was not applied.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 2.0
+	 */
+	<T> List<T> insert(Iterable<? extends T> entities, InsertOptions options) throws DataAccessException;
+
 	/**
 	 * Update the given entity and return the entity if the update was applied.
 	 *
@@ -17,12 +17,18 @@ package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
@@ -35,15 +41,26 @@ import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlOperations;
 import org.springframework.data.cql.core.CqlProvider;
 import org.springframework.data.cql.core.CqlTemplate;
+import org.springframework.data.cql.core.PipelinedStatementCallback;
+import org.springframework.data.cql.core.PrefetchingResultSetIterator;
 import org.springframework.data.cql.core.QueryOptions;
+import org.springframework.data.cql.core.ResultSetExtractor;
 import org.springframework.data.cql.core.SessionCallback;
 import org.springframework.data.cql.core.session.DefaultSessionFactory;
 import org.springframework.data.cql.core.session.SessionFactory;
+import org.springframework.data.cql.core.support.CachedPreparedStatementCreator;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
+import org.springframework.data.cql.support.CassandraAccessor;
+import org.springframework.data.cql.support.CassandraExceptionTranslator;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Configuration;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
@@ -66,6 +83,10 @@ import com.datastax.driver.core.querybuilder.Update;
  * <p>
  * Note: The {@link Session} should always be configured as a bean in the application context, in the first case given
  * to the service directly, in the second case to the prepared template.
+ * <p>
+ * Entity-related operations (insert, update, delete and lookups by id) can be executed as prepared statements by
+ * enabling {@link #setUsePreparedStatements(boolean)}. Prepared statements are parameterized per entity type and
+ * operation and cached using {@link PreparedStatementCache}.
  *
  * @author Mark Paluch
  * @author John Blum
@@ -81,16 +102,30 @@ public class CassandraTemplate implements CassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final TokenRangeScan tokenRangeScan;
+
+	private PreparedStatementCache preparedStatementCache = PreparedStatementCache.create();
+
+	private boolean usePreparedStatements;
+
+	private int multiGetParallelism = PipelinedStatementCallback.DEFAULT_MAX_IN_FLIGHT;
+
+	private int writeParallelism = PipelinedStatementCallback.DEFAULT_MAX_IN_FLIGHT;
+
+	private int streamPrefetchThreshold;
+
+	private ForkJoinPool streamConversionPool;
+
 	/**
 	 * Creates an instance of {@link CassandraTemplate} initialized with the given {@link Session} and a default
-	 * {@link MappingCassandraConverter}.
+	 * {@link MappingCassandraConverter} using the {@link com.datastax.driver.core.CodecRegistry} of the {@link Cluster}.
 	 *
 	 * @param session {@link Session} used to interact with Cassandra; must not be {@literal null}.
 	 * @see CassandraConverter
 	 * @see Session
 	 */
 	public CassandraTemplate(Session session) {
-		this(session, newConverter());
+		this(session, newConverter(session));
 	}
 
 	/**
@@ -140,6 +175,7 @@ public class CassandraTemplate implements CassandraOperations {
 		this.cqlOperations = cqlOperations;
 		this.mappingContext = converter.getMappingContext();
 		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.tokenRangeScan = new TokenRangeScan(this.mappingContext);
 	}
 
 	/* (non-Javadoc)
@@ -151,10 +187,26 @@ public class CassandraTemplate implements CassandraOperations {
 	}
 
 	/* (non-Javadoc) */
-	private static MappingCassandraConverter newConverter() {
+	private PersistenceExceptionTranslator getExceptionTranslator() {
+
+		CqlOperations cqlOperations = getCqlOperations();
+
+		return cqlOperations instanceof CassandraAccessor ? ((CassandraAccessor) cqlOperations).getExceptionTranslator()
+				: new CassandraExceptionTranslator();
+	}
+
+	/* (non-Javadoc) */
+	private static MappingCassandraConverter newConverter(Session session) {
 
 		MappingCassandraConverter converter = new MappingCassandraConverter();
 
+		Cluster cluster = session != null ? session.getCluster() : null;
+		Configuration configuration = cluster != null ? cluster.getConfiguration() : null;
+
+		if (configuration != null && configuration.getCodecRegistry() != null) {
+			converter.setCodecRegistry(configuration.getCodecRegistry());
+		}
+
 		converter.afterPropertiesSet();
 
 		return converter;
@@ -190,6 +242,141 @@ public class CassandraTemplate implements CassandraOperations {
 		return this.statementFactory;
 	}
 
+	/**
+	 * Set whether to use prepared statements for entity-related operations such as {@link #insert(Object)},
+	 * {@link #update(Object)}, {@link #delete(Object)}, {@link #selectOneById(Object, Class)},
+	 * {@link #exists(Object, Class)} and {@link #deleteById(Object, Class)}. Prepared statements are derived once per
+	 * entity type and operation and cached using the configured {@link PreparedStatementCache}. Defaults to
+	 * {@literal false}. {@link #selectByIds(Iterable, Class)} uses prepared statements regardless of this setting.
+	 *
+	 * @param usePreparedStatements {@literal true} to use prepared statements.
+	 * @see #setPreparedStatementCache(PreparedStatementCache)
+	 */
+	public void setUsePreparedStatements(boolean usePreparedStatements) {
+		this.usePreparedStatements = usePreparedStatements;
+	}
+
+	/**
+	 * Returns whether this template uses prepared statements for entity-related operations.
+	 *
+	 * @return {@literal true} if prepared statements are used.
+	 */
+	public boolean isUsePreparedStatements() {
+		return this.usePreparedStatements;
+	}
+
+	/**
+	 * Set the {@link PreparedStatementCache} to cache prepared statements for entity-related operations. Defaults to
+	 * {@link PreparedStatementCache#create()}.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 * @see #setUsePreparedStatements(boolean)
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "PreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link PreparedStatementCache} used by this template to cache prepared statements.
+	 *
+	 * @return the {@link PreparedStatementCache}.
+	 */
+	public PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
+	/**
+	 * Set the maximum number of concurrent single-partition reads issued by {@link #selectByIds(Iterable, Class)}.
+	 * Defaults to {@link PipelinedStatementCallback#DEFAULT_MAX_IN_FLIGHT}.
+	 *
+	 * @param multiGetParallelism the maximum number of in-flight reads, must be greater zero.
+	 */
+	public void setMultiGetParallelism(int multiGetParallelism) {
+
+		Assert.isTrue(multiGetParallelism > 0, "Multi-get parallelism must be greater zero");
+
+		this.multiGetParallelism = multiGetParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent single-partition reads issued by {@link #selectByIds(Iterable, Class)}.
+	 *
+	 * @return the maximum number of concurrent single-partition reads.
+	 */
+	public int getMultiGetParallelism() {
+		return this.multiGetParallelism;
+	}
+
+	/**
+	 * Set the maximum number of concurrent writes issued by {@link #insert(Iterable, InsertOptions)}. Defaults to
+	 * {@link PipelinedStatementCallback#DEFAULT_MAX_IN_FLIGHT}.
+	 *
+	 * @param writeParallelism the maximum number of in-flight writes, must be greater zero.
+	 */
+	public void setWriteParallelism(int writeParallelism) {
+
+		Assert.isTrue(writeParallelism > 0, "Write parallelism must be greater zero");
+
+		this.writeParallelism = writeParallelism;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent writes issued by {@link #insert(Iterable, InsertOptions)}.
+	 *
+	 * @return the maximum number of concurrent writes.
+	 */
+	public int getWriteParallelism() {
+		return this.writeParallelism;
+	}
+
+	/**
+	 * Set the number of rows that are available without fetching at which {@link #stream(Statement, Class)} requests the
+	 * next result page asynchronously. Prefetching overlaps fetching the next page with mapping rows of the current page.
+	 * Defaults to {@literal 0} which requests the next page as soon as the last row of the current page is consumed.
+	 *
+	 * @param streamPrefetchThreshold must not be negative.
+	 * @see com.datastax.driver.core.ResultSet#fetchMoreResults()
+	 */
+	public void setStreamPrefetchThreshold(int streamPrefetchThreshold) {
+
+		Assert.isTrue(streamPrefetchThreshold >= 0, "Stream prefetch threshold must not be negative");
+
+		this.streamPrefetchThreshold = streamPrefetchThreshold;
+	}
+
+	/**
+	 * Returns the number of rows available without fetching at which {@link #stream(Statement, Class)} requests the next
+	 * result page.
+	 *
+	 * @return the prefetch threshold.
+	 */
+	public int getStreamPrefetchThreshold() {
+		return this.streamPrefetchThreshold;
+	}
+
+	/**
+	 * Set the {@link ForkJoinPool} to convert rows of a result page in parallel when using
+	 * {@link #stream(Statement, Class)}. Parallel conversion preserves the row order. Defaults to {@literal null} to
+	 * convert rows sequentially on the consuming thread.
+	 *
+	 * @param streamConversionPool the {@link ForkJoinPool} for parallel conversion, may be {@literal null}.
+	 */
+	public void setStreamConversionPool(ForkJoinPool streamConversionPool) {
+		this.streamConversionPool = streamConversionPool;
+	}
+
+	/**
+	 * Returns the {@link ForkJoinPool} used to convert rows in parallel when streaming results.
+	 *
+	 * @return the {@link ForkJoinPool}, may be {@literal null} if rows are converted sequentially.
+	 */
+	public ForkJoinPool getStreamConversionPool() {
+		return this.streamConversionPool;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with static CQL
 	// -------------------------------------------------------------------------
@@ -257,8 +444,9 @@ public class CassandraTemplate implements CassandraOperations {
 		Assert.notNull(statement, "Statement must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return StreamSupport.stream(getCqlOperations().queryForResultSet(statement).spliterator(), false)
-				.map(row -> getConverter().read(entityClass, row));
+		return PrefetchingResultSetIterator.stream(getCqlOperations().queryForResultSet(statement),
+				(row, rowNum) -> getConverter().read(entityClass, row), getStreamPrefetchThreshold(),
+				getStreamConversionPool());
 	}
 
 	/*
@@ -358,6 +546,75 @@ public class CassandraTemplate implements CassandraOperations {
 		return getCqlOperations().queryForObject(select, Long.class);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public long count(Class<?> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		List<ResultSet> resultSets = getCqlOperations().execute((SessionCallback<List<ResultSet>>) session -> {
+
+			List<Statement> statements = this.tokenRangeScan.count(persistentEntity, session.getCluster().getMetadata(),
+					session.getLoggedKeyspace(), options);
+
+			return new PipelinedStatementCallback(statements, options.getParallelism()).doInSession(session);
+		});
+
+		return resultSets.stream().mapToLong(resultSet -> resultSet.one().getLong(0)).sum();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public long estimateCount(Class<?> entityClass) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getCqlOperations().execute((SessionCallback<Long>) session -> TokenRangeScan.estimatePartitions(
+				session.execute(TokenRangeScan.sizeEstimates(session.getLoggedKeyspace(), persistentEntity)),
+				session.getCluster().getMetadata()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scan(java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<T> scan(Class<T> entityClass) throws DataAccessException {
+		return scan(entityClass, ScanOptions.empty());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#scan(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Stream<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		TokenRangeScan.ScanIterator<T> iterator = getCqlOperations()
+				.execute((SessionCallback<TokenRangeScan.ScanIterator<T>>) session -> {
+
+					List<Statement> statements = this.tokenRangeScan.select(persistentEntity,
+							session.getCluster().getMetadata(), session.getLoggedKeyspace(), options);
+
+					return new TokenRangeScan.ScanIterator<>(session, statements, options.getParallelism(),
+							row -> getConverter().read(entityClass, row), getExceptionTranslator());
+				});
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false).onClose(iterator::close);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#exists(java.lang.Object, java.lang.Class)
@@ -370,6 +627,11 @@ public class CassandraTemplate implements CassandraOperations {
 
 		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedSelectByIdQuery(entity, id, getConverter()),
+					resultSet -> resultSet.iterator().hasNext());
+		}
+
 		Select select = QueryBuilder.select().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
@@ -389,6 +651,15 @@ public class CassandraTemplate implements CassandraOperations {
 
 		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedSelectByIdQuery(entity, id, getConverter()), resultSet -> {
+
+				Iterator<Row> iterator = resultSet.iterator();
+
+				return iterator.hasNext() ? getConverter().read(entityClass, iterator.next()) : null;
+			});
+		}
+
 		Select select = QueryBuilder.select().all().from(entity.getTableName().toCql());
 
 		getConverter().write(id, select.where(), entity);
@@ -396,6 +667,10 @@ public class CassandraTemplate implements CassandraOperations {
 		return selectOne(select, entityClass);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectBySimpleIds(java.lang.Iterable, java.lang.Class)
+	 */
 	@Override
 	public <T> List<T> selectBySimpleIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException {
 
@@ -421,6 +696,58 @@ public class CassandraTemplate implements CassandraOperations {
 		return select(select, entityClass);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#selectByIds(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> List<T> selectByIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(ids, "Ids must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
+		List<ParameterizedStatement> statements = MultiGet.createStatements(entity, ids, getConverter());
+
+		if (statements.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		return getCqlOperations().execute((SessionCallback<List<T>>) session -> {
+
+			List<BoundStatement> boundStatements = new ArrayList<>(statements.size());
+
+			for (ParameterizedStatement statement : statements) {
+				boundStatements.add(statement
+						.bindValues(getPreparedStatementCache().getPreparedStatement(session, statement.getStatement())));
+			}
+
+			List<BoundStatement> ordered = MultiGet.orderByReplica(boundStatements, session.getCluster(),
+					session.getLoggedKeyspace());
+			List<ResultSet> resultSets = new PipelinedStatementCallback(ordered, getMultiGetParallelism())
+					.doInSession(session);
+
+			Map<Statement, ResultSet> resultSetsByStatement = new IdentityHashMap<>(ordered.size());
+
+			for (int index = 0; index < ordered.size(); index++) {
+				resultSetsByStatement.put(ordered.get(index), resultSets.get(index));
+			}
+
+			List<T> result = new ArrayList<>(boundStatements.size());
+
+			for (BoundStatement statement : boundStatements) {
+
+				Row row = resultSetsByStatement.get(statement).one();
+
+				if (row != null) {
+					result.add(getConverter().read(entityClass, row));
+				}
+			}
+
+			return result;
+		});
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Object)
@@ -439,11 +766,87 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedInsertQuery(getPersistentEntity(entity), entity, options,
+					getConverter()), resultSet -> resultSet.wasApplied() ? entity : null);
+		}
+
 		Insert insert = QueryUtils.createInsertQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
 
 		return getCqlOperations().execute(new StatementCallback<>(insert, entity));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Iterable)
+	 */
+	@Override
+	public <T> List<T> insert(Iterable<? extends T> entities) {
+		return insert(entities, null);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#insert(java.lang.Iterable, org.springframework.data.cassandra.core.InsertOptions)
+	 */
+	@Override
+	public <T> List<T> insert(Iterable<? extends T> entities, InsertOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		List<T> toInsert = new ArrayList<>();
+
+		for (T entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			toInsert.add(entity);
+		}
+
+		if (toInsert.isEmpty()) {
+			return toInsert;
+		}
+
+		List<ResultSet> resultSets = getCqlOperations().execute((SessionCallback<List<ResultSet>>) session -> {
+
+			List<Statement> statements = new ArrayList<>(toInsert.size());
+
+			for (T entity : toInsert) {
+				statements.add(createInsertStatement(session, entity, options));
+			}
+
+			return new PipelinedStatementCallback(statements, getWriteParallelism()).doInSession(session);
+		});
+
+		List<T> result = new ArrayList<>(toInsert.size());
+
+		for (int index = 0; index < toInsert.size(); index++) {
+			if (resultSets.get(index).wasApplied()) {
+				result.add(toInsert.get(index));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Create a {@link Statement} to insert {@code entity} using the given {@link Session}. Returns a
+	 * {@link BoundStatement} of a cached prepared statement if {@link #isUsePreparedStatements() prepared statements} are
+	 * enabled or an {@link Insert} with inlined values otherwise.
+	 */
+	private Statement createInsertStatement(Session session, Object entity, InsertOptions options) {
+
+		if (isUsePreparedStatements()) {
+
+			ParameterizedStatement statement = QueryUtils.createPreparedInsertQuery(getPersistentEntity(entity), entity,
+					options, getConverter());
+
+			return statement.bindValues(getPreparedStatementCache().getPreparedStatement(session, statement.getStatement()));
+		}
+
+		return QueryUtils.createInsertQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#update(java.lang.Object)
@@ -462,6 +865,11 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedUpdateQuery(getPersistentEntity(entity), entity, options,
+					getConverter()), resultSet -> resultSet.wasApplied() ? entity : null);
+		}
+
 		Update update = QueryUtils.createUpdateQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
 
 		return getCqlOperations().execute(new StatementCallback<>(update, entity));
@@ -485,6 +893,11 @@ public class CassandraTemplate implements CassandraOperations {
 
 		Assert.notNull(entity, "Entity must not be null");
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedDeleteQuery(getPersistentEntity(entity), entity, options,
+					getConverter()), resultSet -> resultSet.wasApplied() ? entity : null);
+		}
+
 		Delete delete = QueryUtils.createDeleteQuery(getTableName(entity.getClass()).toCql(), entity, options, converter);
 
 		return getCqlOperations().execute(new StatementCallback<>(delete, entity));
@@ -502,6 +915,11 @@ public class CassandraTemplate implements CassandraOperations {
 
 		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
 
+		if (isUsePreparedStatements()) {
+			return executePrepared(QueryUtils.createPreparedDeleteQuery(entity, id, null, getConverter()),
+					ResultSet::wasApplied);
+		}
+
 		Delete delete = QueryBuilder.delete().from(entity.getTableName().toCql());
 
 		getConverter().write(id, delete.where(), entity);
@@ -547,6 +965,25 @@ public class CassandraTemplate implements CassandraOperations {
 		return new CassandraBatchTemplate(this);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#bulkOps()
+	 */
+	@Override
+	public CassandraBulkOperations bulkOps() {
+		return new CassandraBulkTemplate(this);
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Object entity) {
+		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entity.getClass()));
+	}
+
+	private <T> T executePrepared(ParameterizedStatement statement, ResultSetExtractor<T> resultSetExtractor) {
+		return getCqlOperations().query(
+				CachedPreparedStatementCreator.of(getPreparedStatementCache(), statement.getStatement()), statement,
+				resultSetExtractor);
+	}
+
 	private <T> List<T> toList(Iterable<T> iterable) {
 
 		if (iterable instanceof List) {
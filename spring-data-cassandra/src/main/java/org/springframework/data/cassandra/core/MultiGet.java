@@ -0,0 +1,122 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Support class to select multiple entities by their primary key with single-partition reads instead of a
+ * multi-partition {@code IN} query. Each id is rendered as prepared {@code SELECT * FROM t WHERE pk = ?} statement so
+ * that simple, {@link org.springframework.data.cassandra.repository.MapId} and
+ * {@link org.springframework.data.cassandra.core.mapping.PrimaryKeyClass composite} primary keys are supported alike.
+ * <p>
+ * Bound statements carry their routing key so that a token-aware load balancing policy sends each read to a replica
+ * owning the partition. Statements are ordered round-robin by their primary replica so that concurrently executed
+ * reads are spread across all nodes.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see TokenRangeScan
+ */
+class MultiGet {
+
+	/**
+	 * Create a {@link ParameterizedStatement} selecting a single row by primary key for each of the given {@code ids}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param ids must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @return the {@link ParameterizedStatement}s in the order of {@code ids}.
+	 */
+	static List<ParameterizedStatement> createStatements(CassandraPersistentEntity<?> entity, Iterable<?> ids,
+			CassandraConverter converter) {
+
+		Assert.notNull(ids, "Ids must not be null");
+
+		List<ParameterizedStatement> statements = new ArrayList<>();
+
+		for (Object id : ids) {
+			statements.add(QueryUtils.createPreparedSelectByIdQuery(entity, id, converter));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Order {@code statements} round-robin by the primary replica of their routing key. Statements without a routing key
+	 * are grouped together.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param cluster must not be {@literal null}.
+	 * @param loggedKeyspace may be {@literal null}.
+	 * @return the interleaved statements.
+	 */
+	static <T extends Statement> List<T> orderByReplica(List<T> statements, Cluster cluster, String loggedKeyspace) {
+
+		Configuration configuration = cluster.getConfiguration();
+		ProtocolVersion protocolVersion = configuration.getProtocolOptions().getProtocolVersion();
+
+		if (statements.size() < 2 || protocolVersion == null) {
+			return statements;
+		}
+
+		Metadata metadata = cluster.getMetadata();
+		CodecRegistry codecRegistry = configuration.getCodecRegistry();
+		Map<Host, List<T>> statementsByReplica = new LinkedHashMap<>();
+
+		for (T statement : statements) {
+
+			Host replica = getPrimaryReplica(statement, metadata, loggedKeyspace, protocolVersion, codecRegistry);
+
+			statementsByReplica.computeIfAbsent(replica, key -> new ArrayList<>()).add(statement);
+		}
+
+		return TokenRangeScan.interleave(statementsByReplica.values());
+	}
+
+	private static Host getPrimaryReplica(Statement statement, Metadata metadata, String loggedKeyspace,
+			ProtocolVersion protocolVersion, CodecRegistry codecRegistry) {
+
+		String keyspace = StringUtils.hasText(statement.getKeyspace()) ? statement.getKeyspace() : loggedKeyspace;
+		ByteBuffer routingKey = statement.getRoutingKey(protocolVersion, codecRegistry);
+
+		if (!StringUtils.hasText(keyspace) || routingKey == null) {
+			return null;
+		}
+
+		Set<Host> replicas = metadata.getReplicas(Metadata.quote(keyspace), routingKey);
+
+		return replicas.isEmpty() ? null : replicas.iterator().next();
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.List;
+
+import org.springframework.data.cql.core.CqlProvider;
+import org.springframework.data.cql.core.PreparedStatementBinder;
+import org.springframework.data.cql.core.QueryOptions;
+import org.springframework.data.cql.core.QueryOptionsUtil;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * Value object holding a {@link RegularStatement} using positional bind markers along with the values to bind.
+ * <p>
+ * The {@link RegularStatement} does not carry any values or {@link QueryOptions} so it can be prepared once and
+ * cached by its CQL text. {@link QueryOptions} and the {@link PagingState} are applied to the {@link BoundStatement}
+ * on each execution. {@literal null} values can be left unset instead of being bound as {@literal null} to avoid
+ * writing tombstones (requires protocol version 4 or newer).
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class ParameterizedStatement implements PreparedStatementBinder, CqlProvider {
+
+	private final RegularStatement statement;
+
+	private final Object[] values;
+
+	private final QueryOptions queryOptions;
+
+	private final PagingState pagingState;
+
+	private final boolean unsetNullValues;
+
+	/**
+	 * Create a new {@link ParameterizedStatement}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param queryOptions may be {@literal null}.
+	 */
+	ParameterizedStatement(RegularStatement statement, List<Object> values, QueryOptions queryOptions) {
+		this(statement, values, queryOptions, null);
+	}
+
+	/**
+	 * Create a new {@link ParameterizedStatement}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param queryOptions may be {@literal null}.
+	 * @param pagingState may be {@literal null}.
+	 */
+	ParameterizedStatement(RegularStatement statement, List<Object> values, QueryOptions queryOptions,
+			PagingState pagingState) {
+		this(statement, values, queryOptions, pagingState, false);
+	}
+
+	/**
+	 * Create a new {@link ParameterizedStatement}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param queryOptions may be {@literal null}.
+	 * @param pagingState may be {@literal null}.
+	 * @param unsetNullValues whether to leave {@literal null} values unset instead of binding {@literal null}.
+	 */
+	ParameterizedStatement(RegularStatement statement, List<Object> values, QueryOptions queryOptions,
+			PagingState pagingState, boolean unsetNullValues) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(values, "Values must not be null");
+
+		this.statement = statement;
+		this.values = values.toArray();
+		this.queryOptions = queryOptions;
+		this.pagingState = pagingState;
+		this.unsetNullValues = unsetNullValues;
+	}
+
+	/**
+	 * @return the {@link RegularStatement} to prepare.
+	 */
+	public RegularStatement getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * @return the values to bind.
+	 */
+	public Object[] getValues() {
+		return this.values;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.PreparedStatementBinder#bindValues(com.datastax.driver.core.PreparedStatement)
+	 */
+	@Override
+	public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+
+		BoundStatement boundStatement = QueryOptionsUtil.addQueryOptions(ps.bind(this.values), this.queryOptions);
+
+		if (this.unsetNullValues) {
+			for (int index = 0; index < this.values.length; index++) {
+				if (this.values[index] == null) {
+					boundStatement.unset(index);
+				}
+			}
+		}
+
+		if (this.pagingState != null) {
+			boundStatement.setPagingState(this.pagingState);
+		}
+
+		return boundStatement;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.CqlProvider#getCql()
+	 */
+	@Override
+	public String getCql() {
+		return this.statement.toString();
+	}
+}
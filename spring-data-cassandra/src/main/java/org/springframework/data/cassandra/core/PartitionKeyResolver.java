@@ -0,0 +1,132 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import lombok.EqualsAndHashCode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves the {@link PartitionKey} of an entity. A {@link PartitionKey} consists of the table name and the values of
+ * the partition key columns and is used to group writes to the same partition.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class PartitionKeyResolver {
+
+	private final Map<CassandraPersistentEntity<?>, Set<CqlIdentifier>> partitionKeyColumns = new ConcurrentHashMap<>();
+
+	private final CassandraConverter converter;
+
+	/**
+	 * Create a new {@link PartitionKeyResolver} given {@link CassandraConverter}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 */
+	PartitionKeyResolver(CassandraConverter converter) {
+
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		this.converter = converter;
+	}
+
+	/**
+	 * Resolve the {@link PartitionKey} for {@code entity}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link PartitionKey}.
+	 */
+	PartitionKey resolve(Object entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		return resolve(converter.getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entity)),
+				entity);
+	}
+
+	/**
+	 * Resolve the {@link PartitionKey} for {@code entity}.
+	 *
+	 * @param persistentEntity must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link PartitionKey}.
+	 */
+	PartitionKey resolve(CassandraPersistentEntity<?> persistentEntity, Object entity) {
+
+		Map<CqlIdentifier, Object> where = converter.getPrimaryKeyValues(entity, persistentEntity);
+
+		Set<CqlIdentifier> partitionKeyColumns = getPartitionKeyColumns(persistentEntity);
+		List<Object> values = new ArrayList<>(partitionKeyColumns.size());
+
+		where.forEach((columnName, value) -> {
+			if (partitionKeyColumns.isEmpty() || partitionKeyColumns.contains(columnName)) {
+				values.add(value);
+			}
+		});
+
+		return new PartitionKey(persistentEntity.getTableName(), values);
+	}
+
+	private Set<CqlIdentifier> getPartitionKeyColumns(CassandraPersistentEntity<?> persistentEntity) {
+		return partitionKeyColumns.computeIfAbsent(persistentEntity, this::doGetPartitionKeyColumns);
+	}
+
+	private Set<CqlIdentifier> doGetPartitionKeyColumns(CassandraPersistentEntity<?> persistentEntity) {
+
+		Set<CqlIdentifier> columns = new HashSet<>();
+
+		persistentEntity.getPersistentProperties().forEach(property -> {
+
+			if (property.isCompositePrimaryKey()) {
+				columns.addAll(
+						doGetPartitionKeyColumns(converter.getMappingContext().getRequiredPersistentEntity(property)));
+			} else if (property.isPartitionKeyColumn() || (property.isIdProperty() && !property.isPrimaryKeyColumn())) {
+				columns.add(property.getColumnName());
+			}
+		});
+
+		return Collections.unmodifiableSet(columns);
+	}
+
+	/**
+	 * Value object identifying a partition of a table.
+	 */
+	@EqualsAndHashCode
+	static class PartitionKey {
+
+		final CqlIdentifier tableName;
+		final List<Object> values;
+
+		PartitionKey(CqlIdentifier tableName, List<Object> values) {
+
+			this.tableName = tableName;
+			this.values = values;
+		}
+	}
+}
@@ -15,16 +15,28 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.convert.EntityWriter;
+import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.QueryOptionsUtil;
 import org.springframework.data.cql.core.WriteOptions;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
-import com.datastax.driver.core.querybuilder.Delete.Where;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
 import com.datastax.driver.core.querybuilder.Update;
 
 /**
@@ -121,10 +133,162 @@ class QueryUtils {
 
 		Delete.Selection deleteSelection = QueryBuilder.delete();
 		Delete delete = deleteSelection.from(tableName);
-		Where where = QueryOptionsUtil.addQueryOptions(delete.where(), options);
+		Delete.Where where = QueryOptionsUtil.addQueryOptions(delete.where(), options);
 
 		entityWriter.write(objectToDelete, where);
 
 		return delete;
 	}
+
+	/**
+	 * Creates a {@link ParameterizedStatement} for an insert. The resulting CQL uses bind markers for all mapped columns
+	 * and the TTL so the statement can be prepared once per entity type and options shape. {@literal null} column values
+	 * are left unset.
+	 *
+	 * @param entity the {@link CassandraPersistentEntity} of {@code objectToInsert}, must not be {@literal null}.
+	 * @param objectToInsert the object to save, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply, may be {@literal null}.
+	 * @param converter the {@link CassandraConverter} to obtain insert values.
+	 * @return the {@link ParameterizedStatement} to prepare and bind.
+	 */
+	static ParameterizedStatement createPreparedInsertQuery(CassandraPersistentEntity<?> entity, Object objectToInsert,
+			WriteOptions options, CassandraConverter converter) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(objectToInsert, "Object to insert must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		Map<String, Object> columns = new LinkedHashMap<>();
+		converter.write(objectToInsert, columns, entity);
+
+		Insert insert = QueryBuilder.insertInto(entity.getTableName().toCql());
+		List<Object> values = new ArrayList<>(columns.size());
+
+		columns.forEach((columnName, value) -> {
+			insert.value(columnName, QueryBuilder.bindMarker());
+			values.add(value);
+		});
+
+		if (options != null && options.getTtl() != null) {
+			insert.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+			values.add(options.getTtl());
+		}
+
+		if (options instanceof InsertOptions && ((InsertOptions) options).isIfNotExists()) {
+			insert.ifNotExists();
+		}
+
+		return new ParameterizedStatement(insert.setForceNoValues(true), values, options, null, true);
+	}
+
+	/**
+	 * Creates a {@link ParameterizedStatement} for an update. The resulting CQL uses bind markers for the TTL, all
+	 * assignments and primary key restrictions so the statement can be prepared once per entity type and options shape.
+	 *
+	 * @param entity the {@link CassandraPersistentEntity} of {@code objectToUpdate}, must not be {@literal null}.
+	 * @param objectToUpdate the object to update, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply, may be {@literal null}.
+	 * @param converter the {@link CassandraConverter} to obtain update values and primary key restrictions.
+	 * @return the {@link ParameterizedStatement} to prepare and bind.
+	 */
+	static ParameterizedStatement createPreparedUpdateQuery(CassandraPersistentEntity<?> entity, Object objectToUpdate,
+			WriteOptions options, CassandraConverter converter) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(objectToUpdate, "Object to update must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		Map<String, Object> columns = new LinkedHashMap<>();
+		converter.write(objectToUpdate, columns, entity);
+
+		Map<CqlIdentifier, Object> where = converter.getPrimaryKeyValues(objectToUpdate, entity);
+
+		Set<String> keyColumns = where.keySet().stream().map(CqlIdentifier::toCql).collect(Collectors.toSet());
+
+		Update update = QueryBuilder.update(entity.getTableName().toCql());
+		List<Object> values = new ArrayList<>(columns.size() + 1);
+
+		// USING TTL precedes assignments in the rendered CQL
+		if (options != null && options.getTtl() != null) {
+			update.using(QueryBuilder.ttl(QueryBuilder.bindMarker()));
+			values.add(options.getTtl());
+		}
+
+		columns.forEach((columnName, value) -> {
+
+			if (!keyColumns.contains(columnName)) {
+				update.with(QueryBuilder.set(columnName, QueryBuilder.bindMarker()));
+				values.add(value);
+			}
+		});
+
+		where.forEach((columnName, value) -> {
+			update.where(QueryBuilder.eq(columnName.toCql(), QueryBuilder.bindMarker()));
+			values.add(value);
+		});
+
+		if (options instanceof UpdateOptions && ((UpdateOptions) options).isIfExists()) {
+			update.where().ifExists();
+		}
+
+		return new ParameterizedStatement(update.setForceNoValues(true), values, options);
+	}
+
+	/**
+	 * Creates a {@link ParameterizedStatement} for a delete by entity or id. The resulting CQL uses bind markers for all
+	 * primary key restrictions so the statement can be prepared once per entity type.
+	 *
+	 * @param entity the {@link CassandraPersistentEntity}, must not be {@literal null}.
+	 * @param objectOrId the object or its id to delete, must not be {@literal null}.
+	 * @param options optional {@link QueryOptions} to apply, may be {@literal null}.
+	 * @param converter the {@link CassandraConverter} to obtain primary key restrictions.
+	 * @return the {@link ParameterizedStatement} to prepare and bind.
+	 */
+	static ParameterizedStatement createPreparedDeleteQuery(CassandraPersistentEntity<?> entity, Object objectOrId,
+			QueryOptions options, CassandraConverter converter) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(objectOrId, "Object to delete must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		Delete.Where delete = QueryBuilder.delete().from(entity.getTableName().toCql()).where();
+
+		return new ParameterizedStatement(delete, bindWhere(entity, objectOrId, converter, delete::and), options);
+	}
+
+	/**
+	 * Creates a {@link ParameterizedStatement} selecting a single row by entity or id. The resulting CQL uses bind markers
+	 * for all primary key restrictions so the statement can be prepared once per entity type.
+	 *
+	 * @param entity the {@link CassandraPersistentEntity}, must not be {@literal null}.
+	 * @param objectOrId the object or its id to select, must not be {@literal null}.
+	 * @param converter the {@link CassandraConverter} to obtain primary key restrictions.
+	 * @return the {@link ParameterizedStatement} to prepare and bind.
+	 */
+	static ParameterizedStatement createPreparedSelectByIdQuery(CassandraPersistentEntity<?> entity, Object objectOrId,
+			CassandraConverter converter) {
+
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(objectOrId, "Id must not be null");
+		Assert.notNull(converter, "CassandraConverter must not be null");
+
+		Select.Where select = QueryBuilder.select().all().from(entity.getTableName().toCql()).where();
+
+		return new ParameterizedStatement(select, bindWhere(entity, objectOrId, converter, select::and), null);
+	}
+
+	private static List<Object> bindWhere(CassandraPersistentEntity<?> entity, Object objectOrId,
+			CassandraConverter converter, Consumer<Clause> clauseConsumer) {
+
+		Map<CqlIdentifier, Object> where = converter.getPrimaryKeyValues(objectOrId, entity);
+
+		List<Object> values = new ArrayList<>(where.size());
+
+		where.forEach((columnName, value) -> {
+			clauseConsumer.accept(QueryBuilder.eq(columnName.toCql(), QueryBuilder.bindMarker()));
+			values.add(value);
+		});
+
+		return values;
+	}
 }
@@ -151,6 +151,23 @@ public interface ReactiveCassandraOperations {
 	 */
 	<T> Mono<T> selectOneById(Object id, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Select objects for the given {@code entityClass} and {@code ids} by issuing concurrent single-partition reads
+	 * instead of a multi-partition {@code IN} query. Each id is read with a prepared statement routed to a replica owning
+	 * the partition. {@code ids} can be simple, {@link org.springframework.data.cassandra.repository.MapId} or composite
+	 * primary keys. Ids without a matching row are skipped. Entities are emitted in no particular order.
+	 * <p>
+	 * Reads are always executed as prepared statements, as routing a read to a replica requires the routing key of a
+	 * bound statement.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return the converted results.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 */
+	<T> Flux<T> selectByIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException;
+
 	/**
 	 * Determine whether the row {@code entityClass} with the given {@code id} exists.
 	 *
@@ -170,6 +187,57 @@ public interface ReactiveCassandraOperations {
 	 */
 	Mono<Long> count(Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Returns the number of rows for the given entity class by splitting the token ring into sub-ranges, counting up to
+	 * {@link ScanOptions#getParallelism()} sub-ranges concurrently and summing the results. Counting sub-ranges avoids
+	 * read timeouts of a single {@code SELECT count(*)} over large tables and spreads the load across all nodes.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the number of existing entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 */
+	Mono<Long> count(Class<?> entityClass, ScanOptions options) throws DataAccessException;
+
+	/**
+	 * Estimate the number of partitions for the given entity class from {@code system.size_estimates}. Size estimates
+	 * are computed periodically by Cassandra and cover the token ranges of the coordinator node. The estimate is
+	 * extrapolated to the whole ring. The number of partitions equals the number of rows for tables without clustering
+	 * columns. Requires a session logged into the keyspace of the table.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the estimated number of partitions.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 */
+	Mono<Long> estimateCount(Class<?> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by querying token sub-ranges of the ring concurrently using
+	 * {@link ScanOptions#DEFAULT_PARALLELISM default parallelism}. Entities are emitted in no particular order.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @return the entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 * @see #scan(Class, ScanOptions)
+	 */
+	<T> Flux<T> scan(Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Scan all rows of the table for the given entity class by splitting the token ring into sub-ranges and querying up
+	 * to {@link ScanOptions#getParallelism()} sub-ranges concurrently. Sub-ranges are ordered by their primary replica so
+	 * the scan load is spread across all nodes. Entities are emitted in no particular order.
+	 *
+	 * @param entityClass must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the entities.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 2.0
+	 */
+	<T> Flux<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException;
+
 	/**
 	 * Insert the given entity and emit the entity if the insert was applied.
 	 *
@@ -18,8 +18,17 @@ package org.springframework.data.cassandra.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.PartitionKeyResolver.PartitionKey;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
@@ -38,14 +47,20 @@ import org.springframework.data.cql.core.session.DefaultReactiveSessionFactory;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 import org.springframework.data.cql.core.session.ReactiveSessionFactory;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.DriverException;
+import com.datastax.driver.core.querybuilder.Batch;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
@@ -79,16 +94,49 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 	private final StatementFactory statementFactory;
 
+	private final PartitionKeyResolver partitionKeyResolver;
+
+	private final TokenRangeScan tokenRangeScan;
+
+	private int writeConcurrency = DEFAULT_WRITE_CONCURRENCY;
+
+	private boolean orderedWrites;
+
+	private int writeBatchSize = 1;
+
+	private Duration writeBatchFlushInterval = DEFAULT_WRITE_BATCH_FLUSH_INTERVAL;
+
+	private int multiGetConcurrency = DEFAULT_MULTI_GET_CONCURRENCY;
+
+	private AsyncPreparedStatementCache preparedStatementCache = AsyncPreparedStatementCache.create();
+
+	/**
+	 * Default number of concurrent writes for {@link #insert(Publisher)}, {@link #update(Publisher)} and
+	 * {@link #delete(Publisher)}.
+	 */
+	public static final int DEFAULT_WRITE_CONCURRENCY = 32;
+
+	/**
+	 * Default maximum time to collect entities for a micro-batch before writing an incomplete batch.
+	 */
+	public static final Duration DEFAULT_WRITE_BATCH_FLUSH_INTERVAL = Duration.ofMillis(10);
+
+	/**
+	 * Default number of concurrent single-partition reads for {@link #selectByIds(Iterable, Class)}.
+	 */
+	public static final int DEFAULT_MULTI_GET_CONCURRENCY = 32;
+
 	/**
 	 * Creates an instance of {@link ReactiveCassandraTemplate} initialized with the given {@link ReactiveSession} and a
-	 * default {@link MappingCassandraConverter}.
+	 * default {@link MappingCassandraConverter} using the {@link com.datastax.driver.core.CodecRegistry} of the
+	 * {@link Cluster}.
 	 *
 	 * @param session {@link ReactiveSession} used to interact with Cassandra; must not be {@literal null}.
 	 * @see CassandraConverter
 	 * @see Session
 	 */
 	public ReactiveCassandraTemplate(ReactiveSession session) {
-		this(session, newConverter());
+		this(session, newConverter(session));
 	}
 
 	/**
@@ -124,6 +172,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		this.cqlOperations = new ReactiveCqlTemplate(sessionFactory);
 		this.mappingContext = this.converter.getMappingContext();
 		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = new PartitionKeyResolver(converter);
+		this.tokenRangeScan = new TokenRangeScan(this.mappingContext);
 	}
 
 	/**
@@ -146,6 +196,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		this.cqlOperations = reactiveCqlOperations;
 		this.mappingContext = this.converter.getMappingContext();
 		this.statementFactory = new StatementFactory(new QueryMapper(converter), new UpdateMapper(converter));
+		this.partitionKeyResolver = new PartitionKeyResolver(converter);
+		this.tokenRangeScan = new TokenRangeScan(this.mappingContext);
 	}
 
 	/*
@@ -157,11 +209,161 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return this.converter;
 	}
 
+	/**
+	 * Set the maximum number of concurrent in-flight writes (or write batches if {@link #setWriteBatchSize(int)
+	 * micro-batching} is enabled) issued by {@link #insert(Publisher)}, {@link #update(Publisher)} and
+	 * {@link #delete(Publisher)}. Entities are requested from the upstream {@link Publisher} according to the number of
+	 * in-flight writes. Defaults to {@link #DEFAULT_WRITE_CONCURRENCY}.
+	 *
+	 * @param writeConcurrency the maximum number of in-flight writes, must be greater zero.
+	 */
+	public void setWriteConcurrency(int writeConcurrency) {
+
+		Assert.isTrue(writeConcurrency > 0, "Write concurrency must be greater zero");
+
+		this.writeConcurrency = writeConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent in-flight writes.
+	 *
+	 * @return the maximum number of concurrent in-flight writes.
+	 */
+	public int getWriteConcurrency() {
+		return this.writeConcurrency;
+	}
+
+	/**
+	 * Set whether {@link #insert(Publisher)}, {@link #update(Publisher)} and {@link #delete(Publisher)} emit written
+	 * entities in the order of the upstream {@link Publisher}. Unordered mode emits entities as soon as their write
+	 * completes. Defaults to {@literal false}.
+	 * <p>
+	 * Ordered mode only guarantees the emission order. Writes are issued concurrently in both modes, so writes of the
+	 * same partition may be applied by Cassandra in any order. Use a {@link #setWriteConcurrency(int) write concurrency}
+	 * of {@literal 1} to apply writes in upstream order.
+	 *
+	 * @param orderedWrites {@literal true} to emit entities in upstream order.
+	 */
+	public void setOrderedWrites(boolean orderedWrites) {
+		this.orderedWrites = orderedWrites;
+	}
+
+	/**
+	 * Returns whether written entities are emitted in upstream order.
+	 *
+	 * @return {@literal true} if written entities are emitted in upstream order.
+	 */
+	public boolean isOrderedWrites() {
+		return this.orderedWrites;
+	}
+
+	/**
+	 * Set the number of upstream entities to collect for micro-batching by {@link #insert(Publisher)},
+	 * {@link #update(Publisher)} and {@link #delete(Publisher)}. Collected entities are grouped by table and partition
+	 * key and each group is written as a single-partition {@code UNLOGGED} batch. A value of {@literal 1} disables
+	 * micro-batching. Defaults to {@literal 1}.
+	 *
+	 * @param writeBatchSize the number of entities to collect, must be greater zero.
+	 * @see #setWriteBatchFlushInterval(Duration)
+	 */
+	public void setWriteBatchSize(int writeBatchSize) {
+
+		Assert.isTrue(writeBatchSize > 0, "Write batch size must be greater zero");
+
+		this.writeBatchSize = writeBatchSize;
+	}
+
+	/**
+	 * Returns the number of upstream entities to collect for micro-batching.
+	 *
+	 * @return the number of upstream entities to collect for micro-batching.
+	 */
+	public int getWriteBatchSize() {
+		return this.writeBatchSize;
+	}
+
+	/**
+	 * Set the maximum time to collect entities for a micro-batch. An incomplete micro-batch is written once the interval
+	 * elapses so that a slow upstream {@link Publisher} does not delay writes indefinitely. Defaults to
+	 * {@link #DEFAULT_WRITE_BATCH_FLUSH_INTERVAL}.
+	 *
+	 * @param writeBatchFlushInterval must not be {@literal null} and must be positive.
+	 * @see #setWriteBatchSize(int)
+	 */
+	public void setWriteBatchFlushInterval(Duration writeBatchFlushInterval) {
+
+		Assert.notNull(writeBatchFlushInterval, "Write batch flush interval must not be null");
+		Assert.isTrue(!writeBatchFlushInterval.isNegative() && !writeBatchFlushInterval.isZero(),
+				"Write batch flush interval must be positive");
+
+		this.writeBatchFlushInterval = writeBatchFlushInterval;
+	}
+
+	/**
+	 * Returns the maximum time to collect entities for a micro-batch.
+	 *
+	 * @return the maximum time to collect entities for a micro-batch.
+	 */
+	public Duration getWriteBatchFlushInterval() {
+		return this.writeBatchFlushInterval;
+	}
+
+	/**
+	 * Set the maximum number of concurrent single-partition reads issued by {@link #selectByIds(Iterable, Class)}.
+	 * Defaults to {@link #DEFAULT_MULTI_GET_CONCURRENCY}.
+	 *
+	 * @param multiGetConcurrency the maximum number of in-flight reads, must be greater zero.
+	 */
+	public void setMultiGetConcurrency(int multiGetConcurrency) {
+
+		Assert.isTrue(multiGetConcurrency > 0, "Multi-get concurrency must be greater zero");
+
+		this.multiGetConcurrency = multiGetConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent single-partition reads issued by {@link #selectByIds(Iterable, Class)}.
+	 *
+	 * @return the maximum number of concurrent single-partition reads.
+	 */
+	public int getMultiGetConcurrency() {
+		return this.multiGetConcurrency;
+	}
+
+	/**
+	 * Set the {@link AsyncPreparedStatementCache} to cache prepared statements used by
+	 * {@link #selectByIds(Iterable, Class)}. Defaults to {@link AsyncPreparedStatementCache#create()}.
+	 *
+	 * @param preparedStatementCache must not be {@literal null}.
+	 */
+	public void setPreparedStatementCache(AsyncPreparedStatementCache preparedStatementCache) {
+
+		Assert.notNull(preparedStatementCache, "AsyncPreparedStatementCache must not be null");
+
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
+	/**
+	 * Returns the {@link AsyncPreparedStatementCache} used by this template to cache prepared statements.
+	 *
+	 * @return the {@link AsyncPreparedStatementCache}.
+	 */
+	public AsyncPreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/* (non-Javadoc) */
-	private static MappingCassandraConverter newConverter() {
+	private static MappingCassandraConverter newConverter(ReactiveSession session) {
 
 		MappingCassandraConverter converter = new MappingCassandraConverter();
 
+		Cluster cluster = session != null ? session.getCluster() : null;
+		Configuration configuration = cluster != null ? cluster.getConfiguration() : null;
+
+		if (configuration != null && configuration.getCodecRegistry() != null) {
+			converter.setCodecRegistry(configuration.getCodecRegistry());
+		}
+
 		converter.afterPropertiesSet();
 
 		return converter;
@@ -202,6 +404,57 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return getMappingContext().getRequiredPersistentEntity(ClassUtils.getUserClass(entity)).getTableName();
 	}
 
+	/**
+	 * Write {@code entities} with at most {@link #getWriteConcurrency()} in-flight writes. Entities are written
+	 * individually using {@code singleWrite} unless {@link #getWriteBatchSize() micro-batching} is enabled. Micro-batches
+	 * are written once they are complete or {@link #getWriteBatchFlushInterval()} has elapsed.
+	 */
+	private <T> Flux<T> write(Publisher<? extends T> entities, Function<T, Mono<T>> singleWrite,
+			Function<T, RegularStatement> statementFunction) {
+
+		Flux<T> source = Flux.from(entities);
+
+		if (getWriteBatchSize() > 1) {
+
+			// bufferTimeout signals an overflow error when emitting a buffer without downstream demand
+			Flux<List<T>> partitions = source.bufferTimeout(getWriteBatchSize(), getWriteBatchFlushInterval())
+					.onBackpressureBuffer()
+					.concatMapIterable(this::groupByPartition);
+
+			return flatMapWrites(partitions, partition -> writeBatch(partition, statementFunction));
+		}
+
+		return flatMapWrites(source, singleWrite);
+	}
+
+	private <S, T> Flux<T> flatMapWrites(Flux<S> source,
+			Function<? super S, ? extends Publisher<? extends T>> mapper) {
+
+		return isOrderedWrites() ? source.flatMapSequential(mapper, getWriteConcurrency())
+				: source.flatMap(mapper, getWriteConcurrency());
+	}
+
+	private <T> Collection<List<T>> groupByPartition(List<T> entities) {
+
+		Map<PartitionKey, List<T>> partitions = new LinkedHashMap<>();
+
+		for (T entity : entities) {
+			partitions.computeIfAbsent(partitionKeyResolver.resolve(entity), key -> new ArrayList<>()).add(entity);
+		}
+
+		return partitions.values();
+	}
+
+	private <T> Flux<T> writeBatch(List<T> entities, Function<T, RegularStatement> statementFunction) {
+
+		Batch batch = QueryBuilder.unloggedBatch();
+
+		entities.forEach(entity -> batch.add(statementFunction.apply(entity)));
+
+		return getReactiveCqlOperations().execute(batch)
+				.flatMapMany(applied -> applied ? Flux.fromIterable(entities) : Flux.<T> empty());
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with static CQL
 	// -------------------------------------------------------------------------
@@ -334,6 +587,34 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return selectOne(select, entityClass);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectByIds(java.lang.Iterable, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> selectByIds(Iterable<?> ids, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(ids, "Ids must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(entityClass);
+		List<ParameterizedStatement> statements = MultiGet.createStatements(entity, ids, getConverter());
+
+		if (statements.isEmpty()) {
+			return Flux.empty();
+		}
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<BoundStatement>) session -> Flux.fromIterable(statements)
+						.concatMap(statement -> getPreparedStatementCache()
+								.getPreparedStatement(session, statement.getStatement()).map(statement::bindValues))
+						.collectList()
+						.flatMapMany(boundStatements -> Flux.fromIterable(
+								MultiGet.orderByReplica(boundStatements, session.getCluster(), session.getLoggedKeyspace()))))
+				.flatMap(statement -> getReactiveCqlOperations().queryForRows(statement).next(), getMultiGetConcurrency())
+				.map(row -> getConverter().read(entityClass, row));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#exists(java.lang.Object, java.lang.Class)
@@ -368,6 +649,70 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 		return getReactiveCqlOperations().queryForObject(select, Long.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#count(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public Mono<Long> count(Class<?> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<Statement>) session -> Flux.fromIterable(this.tokenRangeScan
+						.count(persistentEntity, session.getCluster().getMetadata(), session.getLoggedKeyspace(), options)))
+				.flatMap(statement -> getReactiveCqlOperations().queryForObject(statement, Long.class),
+						options.getParallelism())
+				.reduce(0L, Long::sum);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#estimateCount(java.lang.Class)
+	 */
+	@Override
+	public Mono<Long> estimateCount(Class<?> entityClass) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getReactiveCqlOperations().execute((ReactiveSessionCallback<Long>) session -> session
+				.execute(TokenRangeScan.sizeEstimates(session.getLoggedKeyspace(), persistentEntity))
+				.flatMapMany(ReactiveResultSet::rows).collectList()
+				.map(rows -> TokenRangeScan.estimatePartitions(rows, session.getCluster().getMetadata()))).single();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#scan(java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<T> scan(Class<T> entityClass) throws DataAccessException {
+		return scan(entityClass, ScanOptions.empty());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#scan(java.lang.Class, org.springframework.data.cassandra.core.ScanOptions)
+	 */
+	@Override
+	public <T> Flux<T> scan(Class<T> entityClass, ScanOptions options) throws DataAccessException {
+
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		CassandraPersistentEntity<?> persistentEntity = getMappingContext().getRequiredPersistentEntity(entityClass);
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<Statement>) session -> Flux.fromIterable(this.tokenRangeScan
+						.select(persistentEntity, session.getCluster().getMetadata(), session.getLoggedKeyspace(), options)))
+				.flatMap(statement -> select(statement, entityClass), options.getParallelism());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#insert(java.lang.Object)
@@ -423,7 +768,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
 
-		return Flux.from(entities).flatMap(entity -> insert(entity, options));
+		return write(entities, (T entity) -> insert(entity, options),
+				entity -> QueryUtils.createInsertQuery(getTableName(entity).toCql(), entity, options, getConverter()));
 	}
 
 	/*
@@ -481,7 +827,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
 
-		return Flux.from(entities).flatMap(entity -> update(entity, options));
+		return write(entities, (T entity) -> update(entity, options),
+				entity -> QueryUtils.createUpdateQuery(getTableName(entity).toCql(), entity, options, getConverter()));
 	}
 
 	/*
@@ -558,7 +905,8 @@ public class ReactiveCassandraTemplate implements ReactiveCassandraOperations {
 
 		Assert.notNull(entities, "Entity publisher must not be null");
 
-		return Flux.from(entities).flatMap(entity -> delete(entity, options));
+		return write(entities, (T entity) -> delete(entity, options),
+				entity -> QueryUtils.createDeleteQuery(getTableName(entity).toCql(), entity, options, getConverter()));
 	}
 
 	/*
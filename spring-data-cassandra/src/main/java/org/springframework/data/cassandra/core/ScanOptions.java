@@ -0,0 +1,201 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.cql.core.QueryOptions;
+import org.springframework.util.Assert;
+
+/**
+ * Extension to {@link QueryOptions} for use with token-range scans. A scan splits the token ring into sub-ranges and
+ * queries each sub-range with {@code token(…) > ? AND token(…) <= ?}. {@link #getParallelism() Parallelism} limits the
+ * number of sub-ranges that are queried concurrently. {@link #getSplitsPerRange() Splits per range} divides each token
+ * range of the ring further into evenly sized sub-ranges.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class ScanOptions extends QueryOptions {
+
+	/**
+	 * Default number of sub-ranges queried concurrently.
+	 */
+	public static final int DEFAULT_PARALLELISM = 8;
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private int splitsPerRange = 1;
+
+	/**
+	 * Creates new {@link ScanOptions}.
+	 */
+	ScanOptions() {}
+
+	/**
+	 * Create a new {@link ScanOptionsBuilder}.
+	 *
+	 * @return a new {@link ScanOptionsBuilder}.
+	 */
+	public static ScanOptionsBuilder builder() {
+		return new ScanOptionsBuilder();
+	}
+
+	/**
+	 * @return new {@link ScanOptions} using default settings.
+	 */
+	public static ScanOptions empty() {
+		return builder().build();
+	}
+
+	/**
+	 * @return the maximum number of sub-ranges queried concurrently.
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
+	/**
+	 * @return the number of sub-ranges each token range of the ring is split into.
+	 */
+	public int getSplitsPerRange() {
+		return this.splitsPerRange;
+	}
+
+	/**
+	 * Builder for {@link ScanOptions}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.0
+	 */
+	public static class ScanOptionsBuilder extends QueryOptionsBuilder {
+
+		private int parallelism = DEFAULT_PARALLELISM;
+
+		private int splitsPerRange = 1;
+
+		private ScanOptionsBuilder() {}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#consistencyLevel(com.datastax.driver.core.ConsistencyLevel)
+		 */
+		@Override
+		public ScanOptionsBuilder consistencyLevel(com.datastax.driver.core.ConsistencyLevel consistencyLevel) {
+			return (ScanOptionsBuilder) super.consistencyLevel(consistencyLevel);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#retryPolicy(org.springframework.data.cql.core.RetryPolicy)
+		 */
+		@Override
+		public ScanOptionsBuilder retryPolicy(com.datastax.driver.core.policies.RetryPolicy driverRetryPolicy) {
+			return (ScanOptionsBuilder) super.retryPolicy(driverRetryPolicy);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#fetchSize(int)
+		 */
+		@Override
+		public ScanOptionsBuilder fetchSize(int fetchSize) {
+			return (ScanOptionsBuilder) super.fetchSize(fetchSize);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#readTimeout(long)
+		 */
+		@Override
+		public ScanOptionsBuilder readTimeout(long readTimeout) {
+			return (ScanOptionsBuilder) super.readTimeout(readTimeout);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#readTimeout(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public ScanOptionsBuilder readTimeout(long readTimeout, TimeUnit timeUnit) {
+			return (ScanOptionsBuilder) super.readTimeout(readTimeout, timeUnit);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#tracing(boolean)
+		 */
+		@Override
+		public ScanOptionsBuilder tracing(boolean tracing) {
+			return (ScanOptionsBuilder) super.tracing(tracing);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cql.core.QueryOptions.QueryOptionsBuilder#withTracing()
+		 */
+		@Override
+		public ScanOptionsBuilder withTracing() {
+			return (ScanOptionsBuilder) super.withTracing();
+		}
+
+		/**
+		 * Sets the maximum number of sub-ranges that are queried concurrently.
+		 *
+		 * @param parallelism must be greater zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder parallelism(int parallelism) {
+
+			Assert.isTrue(parallelism > 0, "Parallelism must be greater zero");
+
+			this.parallelism = parallelism;
+
+			return this;
+		}
+
+		/**
+		 * Sets the number of evenly sized sub-ranges each token range of the ring is split into. Splitting is useful with
+		 * a small number of tokens per node to spread a scan over more, smaller queries.
+		 *
+		 * @param splitsPerRange must be greater zero.
+		 * @return {@code this} {@link ScanOptionsBuilder}
+		 */
+		public ScanOptionsBuilder splitsPerRange(int splitsPerRange) {
+
+			Assert.isTrue(splitsPerRange > 0, "Splits per range must be greater zero");
+
+			this.splitsPerRange = splitsPerRange;
+
+			return this;
+		}
+
+		/**
+		 * Builds a new {@link ScanOptions} with the configured values.
+		 *
+		 * @return a new {@link ScanOptions} with the configured values
+		 */
+		public ScanOptions build() {
+
+			ScanOptions scanOptions = applyOptions(new ScanOptions());
+
+			scanOptions.parallelism = this.parallelism;
+			scanOptions.splitsPerRange = this.splitsPerRange;
+
+			return scanOptions;
+		}
+	}
+}
@@ -16,13 +16,18 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.ColumnName;
 import org.springframework.data.cassandra.core.query.Columns.ColumnSelector;
 import org.springframework.data.cassandra.core.query.Columns.FunctionCall;
 import org.springframework.data.cassandra.core.query.Columns.Selector;
@@ -30,6 +35,7 @@ import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition.Predicate;
 import org.springframework.data.cassandra.core.query.Filter;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.core.query.TupleCriteria;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.core.query.Update.AddToMapOp;
 import org.springframework.data.cassandra.core.query.Update.AddToOp;
@@ -41,6 +47,7 @@ import org.springframework.data.cassandra.core.query.Update.SetAtIndexOp;
 import org.springframework.data.cassandra.core.query.Update.SetAtKeyOp;
 import org.springframework.data.cassandra.core.query.Update.SetOp;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.QueryOptions;
 import org.springframework.data.cql.core.QueryOptionsUtil;
 import org.springframework.data.cql.core.WriteOptions;
 import org.springframework.data.domain.Sort;
@@ -50,6 +57,7 @@ import org.springframework.util.Assert;
 import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Assignment;
+import com.datastax.driver.core.querybuilder.BindMarker;
 import com.datastax.driver.core.querybuilder.Clause;
 import com.datastax.driver.core.querybuilder.Delete;
 import com.datastax.driver.core.querybuilder.Ordering;
@@ -143,7 +151,7 @@ public class StatementFactory {
 		Sort sort = Optional.ofNullable(query.getSort()).map(querySort -> getQueryMapper().getMappedSort(querySort, entity))
 				.orElse(null);
 
-		Select select = select(selectors, entity.getTableName(), filter, sort);
+		Select select = select(selectors, entity.getTableName(), filter, sort, null);
 
 		query.getQueryOptions().ifPresent(queryOptions -> QueryOptionsUtil.addQueryOptions(select, queryOptions));
 
@@ -160,7 +168,46 @@ public class StatementFactory {
 		return select;
 	}
 
-	private static Select select(List<Selector> selectors, CqlIdentifier from, Filter filter, Sort sort) {
+	/**
+	 * Create a parameterized {@literal SELECT} statement by mapping {@link Query} to {@link Select}. Predicate values are
+	 * rendered as bind markers and returned as bind values so the CQL depends only on the shape of the {@link Query} and
+	 * not on its values. {@code IN} predicates use a single bind marker for the whole value list. {@link QueryOptions}
+	 * and the {@link com.datastax.driver.core.PagingState} are applied when binding values.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link ParameterizedStatement}.
+	 */
+	public ParameterizedStatement selectParameterized(Query query, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+
+		Filter filter = getQueryMapper().getMappedObject(query, entity);
+
+		List<Selector> selectors = getQueryMapper().getMappedSelectors(query.getColumns(), entity);
+
+		Sort sort = Optional.ofNullable(query.getSort()).map(querySort -> getQueryMapper().getMappedSort(querySort, entity))
+				.orElse(null);
+
+		List<Object> values = new ArrayList<>();
+
+		Select select = select(selectors, entity.getTableName(), filter, sort, values);
+
+		if (query.getLimit() > 0) {
+			select.limit(Ints.checkedCast(query.getLimit()));
+		}
+
+		if (query.isAllowFiltering()) {
+			select.allowFiltering();
+		}
+
+		return new ParameterizedStatement(select.setForceNoValues(true), values, query.getQueryOptions().orElse(null),
+				query.getPagingState().orElse(null));
+	}
+
+	private static Select select(List<Selector> selectors, CqlIdentifier from, Filter filter, Sort sort,
+			List<Object> bindValues) {
 
 		Select select;
 
@@ -175,7 +222,7 @@ public class StatementFactory {
 		}
 
 		for (CriteriaDefinition criteriaDefinition : filter) {
-			select.where(toClause(criteriaDefinition));
+			select.where(toClause(criteriaDefinition, bindValues));
 		}
 
 		if (sort != null) {
@@ -258,7 +305,7 @@ public class StatementFactory {
 		}
 
 		for (CriteriaDefinition criteriaDefinition : filter) {
-			update.where(toClause(criteriaDefinition));
+			update.where(toClause(criteriaDefinition, null));
 		}
 
 		return update;
@@ -378,17 +425,25 @@ public class StatementFactory {
 		}
 
 		for (CriteriaDefinition criteriaDefinition : filter) {
-			select.where(toClause(criteriaDefinition));
+			select.where(toClause(criteriaDefinition, null));
 		}
 
 		return select;
 	}
 
-	private static Clause toClause(CriteriaDefinition criteriaDefinition) {
+	private static Clause toClause(CriteriaDefinition criteriaDefinition, List<Object> bindValues) {
+
+		if (criteriaDefinition instanceof TupleCriteria) {
+			return toTupleClause((TupleCriteria) criteriaDefinition, bindValues);
+		}
 
 		Predicate predicate = criteriaDefinition.getPredicate();
 		String columnName = criteriaDefinition.getColumnName().toCql();
 
+		if (bindValues != null) {
+			return toParameterizedClause(columnName, predicate, bindValues);
+		}
+
 		switch (predicate.getOperator().toString()) {
 
 			case "=":
@@ -431,4 +486,101 @@ public class StatementFactory {
 		throw new IllegalArgumentException(
 				String.format("Criteria %s %s %s not supported", columnName, predicate.getOperator(), predicate.getValue()));
 	}
+
+	private static Clause toParameterizedClause(String columnName, Predicate predicate, List<Object> bindValues) {
+
+		BindMarker marker = QueryBuilder.bindMarker();
+
+		switch (predicate.getOperator().toString()) {
+
+			case "=":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.eq(columnName, marker);
+
+			case ">":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.gt(columnName, marker);
+
+			case ">=":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.gte(columnName, marker);
+
+			case "<":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.lt(columnName, marker);
+
+			case "<=":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.lte(columnName, marker);
+
+			case "IN":
+				bindValues.add(toList(predicate.getValue()));
+				return QueryBuilder.in(columnName, marker);
+
+			case "LIKE":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.like(columnName, marker);
+
+			case "CONTAINS":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.contains(columnName, marker);
+
+			case "CONTAINS KEY":
+				bindValues.add(predicate.getValue());
+				return QueryBuilder.containsKey(columnName, marker);
+		}
+
+		throw new IllegalArgumentException(
+				String.format("Criteria %s %s %s not supported", columnName, predicate.getOperator(), predicate.getValue()));
+	}
+
+	private static Clause toTupleClause(TupleCriteria criteria, List<Object> bindValues) {
+
+		Predicate predicate = criteria.getPredicate();
+		List<String> columnNames = criteria.getColumnNames().stream().map(ColumnName::toCql).collect(Collectors.toList());
+		List<?> values = (List<?>) predicate.getValue();
+
+		if (bindValues != null) {
+
+			bindValues.addAll(values);
+			values = values.stream().map(it -> QueryBuilder.bindMarker()).collect(Collectors.toList());
+		}
+
+		switch (predicate.getOperator().toString()) {
+
+			case "=":
+				return QueryBuilder.eq(columnNames, values);
+
+			case ">":
+				return QueryBuilder.gt(columnNames, values);
+
+			case ">=":
+				return QueryBuilder.gte(columnNames, values);
+
+			case "<":
+				return QueryBuilder.lt(columnNames, values);
+
+			case "<=":
+				return QueryBuilder.lte(columnNames, values);
+		}
+
+		throw new IllegalArgumentException(String.format("Criteria %s not supported", criteria));
+	}
+
+	private static List<?> toList(Object value) {
+
+		if (value instanceof List) {
+			return (List<?>) value;
+		}
+
+		if (value instanceof Collection) {
+			return new ArrayList<>((Collection<?>) value);
+		}
+
+		if (value.getClass().isArray()) {
+			return Arrays.asList((Object[]) value);
+		}
+
+		return Collections.singletonList(value);
+	}
 }
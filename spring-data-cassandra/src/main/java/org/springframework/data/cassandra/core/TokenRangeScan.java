@@ -0,0 +1,614 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cql.core.QueryOptionsUtil;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TokenRange;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Select;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * Support class to scan a table by splitting the token ring into sub-ranges. Each sub-range is queried with
+ * {@code token(pk) > ? AND token(pk) <= ?} so sub-ranges can be queried concurrently and each query reads data owned by
+ * a single replica set.
+ * <p>
+ * Sub-ranges are ordered round-robin by their primary replica so that concurrently executed queries are spread across
+ * all nodes instead of hitting the nodes one after another in ring order.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see Metadata#getTokenRanges()
+ */
+class TokenRangeScan {
+
+	private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
+
+	/**
+	 * Create a new {@link TokenRangeScan} given {@link MappingContext}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	TokenRangeScan(MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Create {@code SELECT *} {@link Statement}s for each token sub-range of the ring.
+	 *
+	 * @param persistentEntity must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param keyspace the keyspace to resolve replicas, may be {@literal null} if the session is not logged into a
+	 *          keyspace.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Statement}s covering the whole token ring.
+	 */
+	List<Statement> select(CassandraPersistentEntity<?> persistentEntity, Metadata metadata, String keyspace,
+			ScanOptions options) {
+		return createStatements(persistentEntity, metadata, keyspace, options,
+				() -> QueryBuilder.select().all().from(persistentEntity.getTableName().toCql()));
+	}
+
+	/**
+	 * Create {@code SELECT count(*)} {@link Statement}s for each token sub-range of the ring.
+	 *
+	 * @param persistentEntity must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @param keyspace the keyspace to resolve replicas, may be {@literal null} if the session is not logged into a
+	 *          keyspace.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link Statement}s covering the whole token ring.
+	 */
+	List<Statement> count(CassandraPersistentEntity<?> persistentEntity, Metadata metadata, String keyspace,
+			ScanOptions options) {
+		return createStatements(persistentEntity, metadata, keyspace, options,
+				() -> QueryBuilder.select().countAll().from(persistentEntity.getTableName().toCql()));
+	}
+
+	private List<Statement> createStatements(CassandraPersistentEntity<?> persistentEntity, Metadata metadata,
+			String keyspace, ScanOptions options, Supplier<Select> selectSupplier) {
+
+		Assert.notNull(persistentEntity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(metadata, "Metadata must not be null");
+		Assert.notNull(options, "ScanOptions must not be null");
+
+		String token = getTokenExpression(persistentEntity);
+		List<TokenRange> ranges = split(metadata, keyspace, options.getSplitsPerRange());
+		List<Statement> statements = new ArrayList<>(ranges.size());
+
+		for (TokenRange range : ranges) {
+			statements.add(QueryOptionsUtil.addQueryOptions(restrict(selectSupplier.get(), token, range), options));
+		}
+
+		return statements;
+	}
+
+	/**
+	 * Create a {@link Statement} reading the size estimates of {@code persistentEntity} from
+	 * {@code system.size_estimates}.
+	 *
+	 * @param keyspace must not be {@literal null} or empty.
+	 * @param persistentEntity must not be {@literal null}.
+	 * @return the {@link Statement} to read size estimates.
+	 */
+	static Statement sizeEstimates(String keyspace, CassandraPersistentEntity<?> persistentEntity) {
+
+		Assert.state(StringUtils.hasText(keyspace), "Estimating a table size requires a Session logged into a keyspace");
+
+		return QueryBuilder.select("range_start", "range_end", "partitions_count").from("system", "size_estimates")
+				.where(QueryBuilder.eq("keyspace_name", keyspace))
+				.and(QueryBuilder.eq("table_name", persistentEntity.getTableName().getUnquoted()));
+	}
+
+	/**
+	 * Estimate the number of partitions of a table from {@code system.size_estimates} rows. Size estimates cover only the
+	 * token ranges of the node that was queried so the estimated partition count is extrapolated to the whole ring by
+	 * the fraction of the ring that is covered by the estimates.
+	 *
+	 * @param rows {@code system.size_estimates} rows, must not be {@literal null}.
+	 * @param metadata must not be {@literal null}.
+	 * @return the estimated number of partitions.
+	 */
+	static long estimatePartitions(Iterable<Row> rows, Metadata metadata) {
+
+		BigInteger ringSize = getRingSize(metadata.getPartitioner());
+		BigInteger covered = BigInteger.ZERO;
+		long partitions = 0;
+		int ranges = 0;
+
+		for (Row row : rows) {
+
+			partitions += row.getLong("partitions_count");
+			ranges++;
+
+			if (ringSize != null) {
+				covered = covered.add(getWidth(new BigInteger(row.getString("range_start")),
+						new BigInteger(row.getString("range_end")), ringSize));
+			}
+		}
+
+		if (ranges == 0) {
+			return 0;
+		}
+
+		if (ringSize != null && covered.signum() > 0) {
+			return BigInteger.valueOf(partitions).multiply(ringSize).divide(covered).longValue();
+		}
+
+		return partitions * metadata.getTokenRanges().size() / ranges;
+	}
+
+	private static BigInteger getRingSize(String partitioner) {
+
+		if (partitioner == null) {
+			return null;
+		}
+
+		if (partitioner.endsWith("Murmur3Partitioner")) {
+			return BigInteger.ONE.shiftLeft(64);
+		}
+
+		if (partitioner.endsWith("RandomPartitioner")) {
+			return BigInteger.ONE.shiftLeft(127);
+		}
+
+		return null;
+	}
+
+	private static BigInteger getWidth(BigInteger start, BigInteger end, BigInteger ringSize) {
+
+		BigInteger width = end.subtract(start);
+
+		return width.signum() > 0 ? width : width.add(ringSize);
+	}
+
+	/**
+	 * Restrict {@link Select} to the given {@link TokenRange}. A range whose end precedes its start ends at the minimum
+	 * token and is rendered without an upper bound. A range whose start equals its end spans the whole ring.
+	 */
+	static Statement restrict(Select select, String token, TokenRange range) {
+
+		if (range.getStart().equals(range.getEnd())) {
+			return select;
+		}
+
+		Select.Where where = select.where(QueryBuilder.gt(token, range.getStart().getValue()));
+
+		if (range.getEnd().compareTo(range.getStart()) > 0) {
+			where.and(QueryBuilder.lte(token, range.getEnd().getValue()));
+		}
+
+		return where;
+	}
+
+	/**
+	 * Split the token ring into unwrapped sub-ranges, interleaved by primary replica.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param keyspace may be {@literal null}.
+	 * @param splitsPerRange number of sub-ranges per token range.
+	 * @return the sub-ranges.
+	 */
+	static List<TokenRange> split(Metadata metadata, String keyspace, int splitsPerRange) {
+
+		Map<Host, List<TokenRange>> rangesByReplica = new LinkedHashMap<>();
+
+		for (TokenRange range : new TreeSet<>(metadata.getTokenRanges())) {
+
+			List<TokenRange> ranges = rangesByReplica.computeIfAbsent(getPrimaryReplica(metadata, keyspace, range),
+					key -> new ArrayList<>());
+
+			List<TokenRange> splits = splitsPerRange > 1 && !range.getStart().equals(range.getEnd())
+					? range.splitEvenly(splitsPerRange) : Collections.singletonList(range);
+
+			splits.forEach(split -> ranges.addAll(split.unwrap()));
+		}
+
+		return interleave(rangesByReplica.values());
+	}
+
+	private static Host getPrimaryReplica(Metadata metadata, String keyspace, TokenRange range) {
+
+		if (!StringUtils.hasText(keyspace)) {
+			return null;
+		}
+
+		Set<Host> replicas = metadata.getReplicas(Metadata.quote(keyspace), range);
+
+		return replicas.isEmpty() ? null : replicas.iterator().next();
+	}
+
+	/**
+	 * Interleave {@code itemsByReplica} round-robin so that consecutive items belong to different replicas.
+	 *
+	 * @param itemsByReplica items grouped by replica.
+	 * @return the interleaved items.
+	 */
+	static <T> List<T> interleave(Collection<List<T>> itemsByReplica) {
+
+		List<T> result = new ArrayList<>();
+		List<Iterator<T>> iterators = new ArrayList<>(itemsByReplica.size());
+
+		itemsByReplica.forEach(items -> iterators.add(items.iterator()));
+
+		while (!iterators.isEmpty()) {
+			for (Iterator<Iterator<T>> it = iterators.iterator(); it.hasNext();) {
+
+				Iterator<T> iterator = it.next();
+
+				if (iterator.hasNext()) {
+					result.add(iterator.next());
+				} else {
+					it.remove();
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private String getTokenExpression(CassandraPersistentEntity<?> persistentEntity) {
+
+		List<String> columns = new ArrayList<>();
+
+		collectPartitionKeyColumns(persistentEntity, columns);
+
+		Assert.state(!columns.isEmpty(),
+				String.format("Entity %s does not declare partition key columns", persistentEntity.getName()));
+
+		return QueryBuilder.token(columns.toArray(new String[columns.size()]));
+	}
+
+	private void collectPartitionKeyColumns(CassandraPersistentEntity<?> persistentEntity, List<String> columns) {
+
+		persistentEntity.doWithProperties((PropertyHandler<CassandraPersistentProperty>) property -> {
+
+			if (property.isCompositePrimaryKey()) {
+				collectPartitionKeyColumns(mappingContext.getRequiredPersistentEntity(property), columns);
+			} else if (property.isPartitionKeyColumn() || (property.isIdProperty() && !property.isPrimaryKeyColumn())) {
+				columns.add(property.getColumnName().toCql());
+			}
+		});
+	}
+
+	/**
+	 * {@link Iterator} executing token range {@link Statement}s with a bounded number of concurrently executed
+	 * statements. Rows are emitted as soon as a page of any in-flight statement is available. The next page of a
+	 * statement is fetched asynchronously while rows of its current page are consumed. Rows of different token ranges
+	 * are interleaved, rows within a token range retain their order. Driver exceptions are translated using the given
+	 * {@link PersistenceExceptionTranslator}. A failure or {@link #close() closing} the iterator cancels all in-flight
+	 * statements.
+	 *
+	 * @param <T> mapped element type.
+	 */
+	static class ScanIterator<T> implements Iterator<T>, AutoCloseable {
+
+		private final Session session;
+
+		private final Iterator<Statement> pending;
+
+		private final int parallelism;
+
+		private final Function<Row, T> mapper;
+
+		private final PersistenceExceptionTranslator exceptionTranslator;
+
+		private final List<InFlight> inFlight = new ArrayList<>();
+
+		private final Semaphore completions = new Semaphore(0);
+
+		private Iterator<T> chunk = Collections.emptyIterator();
+
+		private int position;
+
+		private boolean closed;
+
+		/**
+		 * Create a new {@link ScanIterator}.
+		 *
+		 * @param session must not be {@literal null}.
+		 * @param statements must not be {@literal null}.
+		 * @param parallelism maximum number of concurrently executed statements, must be greater zero.
+		 * @param mapper must not be {@literal null}.
+		 * @param exceptionTranslator must not be {@literal null}.
+		 */
+		ScanIterator(Session session, List<Statement> statements, int parallelism, Function<Row, T> mapper,
+				PersistenceExceptionTranslator exceptionTranslator) {
+
+			Assert.notNull(session, "Session must not be null");
+			Assert.notNull(statements, "Statements must not be null");
+			Assert.isTrue(parallelism > 0, "Parallelism must be greater zero");
+			Assert.notNull(mapper, "Mapper must not be null");
+			Assert.notNull(exceptionTranslator, "PersistenceExceptionTranslator must not be null");
+
+			this.session = session;
+			this.pending = statements.iterator();
+			this.parallelism = parallelism;
+			this.mapper = mapper;
+			this.exceptionTranslator = exceptionTranslator;
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			try {
+
+				while (!chunk.hasNext()) {
+
+					if (closed) {
+						return false;
+					}
+
+					while (inFlight.size() < parallelism && pending.hasNext()) {
+						inFlight.add(new InFlight(session.executeAsync(pending.next())));
+					}
+
+					if (inFlight.isEmpty()) {
+						return false;
+					}
+
+					if (!poll()) {
+						completions.acquireUninterruptibly();
+						completions.drainPermits();
+					}
+				}
+
+				return true;
+			} catch (RuntimeException e) {
+
+				close();
+
+				DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(e);
+
+				throw translated != null ? translated : e;
+			}
+		}
+
+		/* (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return chunk.next();
+		}
+
+		/**
+		 * Close this iterator. Cancels all in-flight statements and discards pending statements and buffered rows.
+		 *
+		 * @see java.lang.AutoCloseable#close()
+		 */
+		@Override
+		public void close() {
+
+			closed = true;
+			chunk = Collections.emptyIterator();
+
+			inFlight.forEach(it -> it.future.cancel(true));
+			inFlight.clear();
+		}
+
+		/**
+		 * Poll in-flight statements round-robin for available rows.
+		 *
+		 * @return {@literal true} if progress was made (rows were consumed or a statement completed).
+		 */
+		private boolean poll() {
+
+			for (int i = 0; i < inFlight.size(); i++) {
+
+				int index = (position + i) % inFlight.size();
+				InFlight current = inFlight.get(index);
+
+				if (!current.future.isDone()) {
+					continue;
+				}
+
+				ResultSet resultSet = current.get();
+				int available = resultSet.getAvailableWithoutFetching();
+
+				if (available > 0) {
+
+					List<T> rows = new ArrayList<>(available);
+
+					for (int row = 0; row < available; row++) {
+						rows.add(mapper.apply(resultSet.one()));
+					}
+
+					if (!resultSet.isFullyFetched()) {
+						current.fetchMore(resultSet);
+					}
+
+					chunk = rows.iterator();
+					position = index + 1;
+
+					return true;
+				}
+
+				if (resultSet.isFullyFetched()) {
+
+					inFlight.remove(index);
+
+					return true;
+				}
+
+				current.fetchMore(resultSet);
+			}
+
+			return false;
+		}
+
+		private class InFlight {
+
+			private com.google.common.util.concurrent.ListenableFuture<ResultSet> future;
+
+			InFlight(com.google.common.util.concurrent.ListenableFuture<ResultSet> future) {
+				listen(future);
+			}
+
+			void fetchMore(ResultSet resultSet) {
+				listen(resultSet.fetchMoreResults());
+			}
+
+			private void listen(com.google.common.util.concurrent.ListenableFuture<ResultSet> future) {
+
+				this.future = future;
+
+				future.addListener(completions::release, Runnable::run);
+			}
+
+			ResultSet get() {
+
+				try {
+					return Uninterruptibles.getUninterruptibly(future);
+				} catch (ExecutionException e) {
+
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+
+					throw new IllegalStateException(e.getCause());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Asynchronous execution of token range {@link Statement}s with a bounded number of concurrently executed
+	 * statements. The resulting {@link ListenableFuture} completes once all statements have completed or fails with the
+	 * first failure. No further statements are issued after a failure.
+	 */
+	static class AsyncScan {
+
+		private final Iterator<Statement> pending;
+
+		private final int parallelism;
+
+		private final Function<Statement, ListenableFuture<Void>> executor;
+
+		private final AtomicInteger remaining;
+
+		private final SettableListenableFuture<Void> result = new SettableListenableFuture<>();
+
+		/**
+		 * Create a new {@link AsyncScan}.
+		 *
+		 * @param statements must not be {@literal null}.
+		 * @param parallelism maximum number of concurrently executed statements, must be greater zero.
+		 * @param executor function executing a single {@link Statement}, must not be {@literal null}.
+		 */
+		AsyncScan(List<Statement> statements, int parallelism, Function<Statement, ListenableFuture<Void>> executor) {
+
+			Assert.notNull(statements, "Statements must not be null");
+			Assert.isTrue(parallelism > 0, "Parallelism must be greater zero");
+			Assert.notNull(executor, "Executor function must not be null");
+
+			this.pending = statements.iterator();
+			this.parallelism = parallelism;
+			this.executor = executor;
+			this.remaining = new AtomicInteger(statements.size());
+		}
+
+		/**
+		 * Start executing statements.
+		 *
+		 * @return the {@link ListenableFuture} completing once all statements have completed.
+		 */
+		ListenableFuture<Void> execute() {
+
+			if (remaining.get() == 0) {
+				result.set(null);
+			}
+
+			for (int i = 0; i < parallelism; i++) {
+				executeNext();
+			}
+
+			return result;
+		}
+
+		private void executeNext() {
+
+			Statement statement;
+
+			synchronized (pending) {
+
+				if (result.isDone() || !pending.hasNext()) {
+					return;
+				}
+
+				statement = pending.next();
+			}
+
+			try {
+				executor.apply(statement).addCallback(success -> {
+
+					if (remaining.decrementAndGet() == 0) {
+						result.set(null);
+					} else {
+						executeNext();
+					}
+				}, result::setException);
+			} catch (RuntimeException e) {
+				result.setException(e);
+			}
+		}
+	}
+}
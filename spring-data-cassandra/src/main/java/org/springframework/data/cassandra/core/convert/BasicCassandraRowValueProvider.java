@@ -17,11 +17,13 @@ package org.springframework.data.cassandra.core.convert;
 
 import java.util.Optional;
 
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.Row;
 
 /**
@@ -36,6 +38,10 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 	private final ColumnReader reader;
 
+	private final ColumnIndexCache columnIndexCache;
+
+	private ColumnIndexCache.PropertyIndexes propertyIndexes;
+
 	private final SpELExpressionEvaluator evaluator;
 
 	/**
@@ -50,7 +56,45 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 		Assert.notNull(source, "Source Row must not be null");
 		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
 
-		this.reader = new ColumnReader(source);
+		this.columnIndexCache = new ColumnIndexCache(source.getColumnDefinitions());
+		this.reader = new ColumnReader(source, columnIndexCache);
+		this.evaluator = evaluator;
+	}
+
+	/**
+	 * Create a new {@link BasicCassandraRowValueProvider} with the given {@link Row}, {@link ColumnIndexCache} and
+	 * {@link DefaultSpELExpressionEvaluator}. The {@link ColumnIndexCache} is expected to be shared across all rows
+	 * described by the same {@link com.datastax.driver.core.ColumnDefinitions}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param columnIndexCache must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public BasicCassandraRowValueProvider(Row source, ColumnIndexCache columnIndexCache,
+			DefaultSpELExpressionEvaluator evaluator) {
+		this(source, columnIndexCache, evaluator, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	/**
+	 * Create a new {@link BasicCassandraRowValueProvider} with the given {@link Row}, {@link ColumnIndexCache},
+	 * {@link DefaultSpELExpressionEvaluator} and {@link CodecRegistry}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param columnIndexCache must not be {@literal null}.
+	 * @param evaluator must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public BasicCassandraRowValueProvider(Row source, ColumnIndexCache columnIndexCache,
+			DefaultSpELExpressionEvaluator evaluator, CodecRegistry codecRegistry) {
+
+		Assert.notNull(source, "Source Row must not be null");
+		Assert.notNull(columnIndexCache, "ColumnIndexCache must not be null");
+		Assert.notNull(evaluator, "DefaultSpELExpressionEvaluator must not be null");
+
+		this.columnIndexCache = columnIndexCache;
+		this.reader = new ColumnReader(source, columnIndexCache, codecRegistry);
 		this.evaluator = evaluator;
 	}
 
@@ -66,7 +110,14 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 			return spelExpression.flatMap(s -> Optional.ofNullable(evaluator.evaluate(s)));
 		}
 
-		return Optional.ofNullable((T) reader.get(property.getColumnName()));
+		int index = getColumnIndex(property);
+
+		if (index == -1) {
+			throw new IllegalArgumentException(
+					"Column does not exist in Cassandra table: " + property.getColumnName().toCql());
+		}
+
+		return Optional.ofNullable((T) reader.get(index));
 	}
 
 	/* (non-Javadoc)
@@ -85,6 +136,22 @@ public class BasicCassandraRowValueProvider implements CassandraRowValueProvider
 
 		Assert.notNull(property, "CassandraPersistentProperty must not be null");
 
-		return getRow().getColumnDefinitions().contains(property.getColumnName().toCql());
+		return getColumnIndex(property) != -1;
+	}
+
+	/**
+	 * Resolve the column index of {@code property}. Column indexes are resolved once per owning entity and
+	 * {@link com.datastax.driver.core.ColumnDefinitions} and looked up by property position.
+	 */
+	private int getColumnIndex(CassandraPersistentProperty property) {
+
+		ColumnIndexCache.PropertyIndexes propertyIndexes = this.propertyIndexes;
+
+		if (propertyIndexes == null || propertyIndexes.getEntity() != property.getOwner()) {
+			propertyIndexes = columnIndexCache.getPropertyIndexes((CassandraPersistentEntity<?>) property.getOwner());
+			this.propertyIndexes = propertyIndexes;
+		}
+
+		return propertyIndexes.getIndexOf(property);
 	}
 }
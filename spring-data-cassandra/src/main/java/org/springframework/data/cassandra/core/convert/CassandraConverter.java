@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core.convert;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
@@ -22,8 +23,11 @@ import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.EntityConverter;
+import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.util.TypeInformation;
 
+import com.datastax.driver.core.CodecRegistry;
+
 /**
  * Central Cassandra specific converter interface from Object to Row.
  *
@@ -41,6 +45,14 @@ public interface CassandraConverter
 	 */
 	CustomConversions getCustomConversions();
 
+	/**
+	 * Returns the {@link CodecRegistry} used to read and write collection, tuple and user-defined type values.
+	 *
+	 * @return the {@link CodecRegistry}.
+	 * @since 2.0
+	 */
+	CodecRegistry getCodecRegistry();
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.convert.EntityConverter#getMappingContext()
 	 */
@@ -64,6 +76,18 @@ public interface CassandraConverter
 	 */
 	Object getId(Object object, CassandraPersistentEntity<?> entity);
 
+	/**
+	 * Returns the primary key column values of an entity or an id value (simple id,
+	 * {@link org.springframework.data.cassandra.repository.MapId} or primary key class). Values are converted to
+	 * Cassandra column types and retain column order.
+	 *
+	 * @param objectOrId must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the primary key column values by column name.
+	 * @since 2.0
+	 */
+	Map<CqlIdentifier, Object> getPrimaryKeyValues(Object objectOrId, CassandraPersistentEntity<?> entity);
+
 	/**
 	 * Converts the given object into a value Cassandra will be able to store natively in a column.
 	 *
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.DataType.Name;
+import com.datastax.driver.core.GettableByIndexData;
+import com.datastax.driver.core.TypeCodec;
+
+/**
+ * Reads a single column (or UDT field) by its index. Collections are decoded with a {@link TypeCodec} that is resolved
+ * once when creating the accessor, so reading a collection requires neither a {@link CodecRegistry} lookup nor
+ * {@link DataType} construction per value.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+interface ColumnAccessor {
+
+	/**
+	 * Read the value from {@code data}.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @return the value, may be {@literal null}.
+	 */
+	Object get(GettableByIndexData data);
+
+	/**
+	 * Create a {@link ColumnAccessor} for the column at {@code index} of the given {@link DataType}. Mirrors the value
+	 * mapping of {@link ColumnReader#get(int)}.
+	 *
+	 * @param index the column index.
+	 * @param type the column type.
+	 * @param codecRegistry the {@link CodecRegistry} to resolve collection codecs.
+	 * @return the {@link ColumnAccessor}.
+	 */
+	static ColumnAccessor create(int index, DataType type, CodecRegistry codecRegistry) {
+
+		ColumnAccessor accessor = getAccessor(index, type, codecRegistry);
+
+		return data -> data.isNull(index) ? null : accessor.get(data);
+	}
+
+	static ColumnAccessor getAccessor(int index, DataType type, CodecRegistry codecRegistry) {
+
+		if (type.isCollection()) {
+
+			int typeArguments = type.getTypeArguments().size();
+
+			if ((typeArguments == 1 && (Name.LIST.equals(type.getName()) || Name.SET.equals(type.getName())))
+					|| (typeArguments == 2 && Name.MAP.equals(type.getName()))) {
+
+				TypeCodec<Object> codec = codecRegistry.codecFor(type);
+
+				return data -> data.get(index, codec);
+			}
+
+			throw new IllegalStateException("Unknown Collection type encountered. Valid collections are Set, List and Map.");
+		}
+
+		if (Name.TUPLE.equals(type.getName())) {
+			return data -> data.getTupleValue(index);
+		}
+
+		if (Name.UDT.equals(type.getName())) {
+			return data -> data.getUDTValue(index);
+		}
+
+		return data -> data.getObject(index);
+	}
+}
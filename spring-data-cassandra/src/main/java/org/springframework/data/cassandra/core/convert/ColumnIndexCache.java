@@ -0,0 +1,158 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ColumnDefinitions;
+
+/**
+ * Caches column index lookups for a single {@link ColumnDefinitions} instance. All rows of a result set page share
+ * their {@link ColumnDefinitions} so resolving a column to its index happens once per result set instead of once per
+ * row.
+ * <p>
+ * Column indexes of {@link CassandraPersistentProperty properties} are resolved for all properties of their owning
+ * {@link CassandraPersistentEntity} at once and held in an array indexed by property position. Reading a property
+ * requires an identity lookup of the property position instead of hashing the column name.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class ColumnIndexCache {
+
+	private final ColumnDefinitions columnDefinitions;
+
+	private final Map<CqlIdentifier, Integer> indexes = new ConcurrentHashMap<>();
+
+	private final Map<CassandraPersistentEntity<?>, PropertyIndexes> propertyIndexes = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link ColumnIndexCache} for the given {@link ColumnDefinitions}.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 */
+	public ColumnIndexCache(ColumnDefinitions columnDefinitions) {
+
+		Assert.notNull(columnDefinitions, "ColumnDefinitions must not be null");
+
+		this.columnDefinitions = columnDefinitions;
+	}
+
+	/**
+	 * Returns the index of the column {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	public int getIndexOf(CqlIdentifier name) {
+		return indexes.computeIfAbsent(name, it -> columnDefinitions.getIndexOf(it.toCql()));
+	}
+
+	/**
+	 * Returns the index of the column mapped by {@code property}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+	 */
+	public int getIndexOf(CassandraPersistentProperty property) {
+		return getPropertyIndexes((CassandraPersistentEntity<?>) property.getOwner()).getIndexOf(property);
+	}
+
+	/**
+	 * Returns whether the column {@code name} is part of the {@link ColumnDefinitions}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return {@literal true} if the column exists.
+	 */
+	public boolean contains(CqlIdentifier name) {
+		return getIndexOf(name) != -1;
+	}
+
+	/**
+	 * @return the underlying {@link ColumnDefinitions}.
+	 */
+	public ColumnDefinitions getColumnDefinitions() {
+		return columnDefinitions;
+	}
+
+	/**
+	 * Returns the column indexes of all properties of {@code entity}, resolved once per {@link ColumnDefinitions}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link PropertyIndexes} for {@code entity}.
+	 */
+	PropertyIndexes getPropertyIndexes(CassandraPersistentEntity<?> entity) {
+		return propertyIndexes.computeIfAbsent(entity, it -> new PropertyIndexes(it, this));
+	}
+
+	/**
+	 * Column indexes of the properties of a single {@link CassandraPersistentEntity} indexed by property position.
+	 */
+	static class PropertyIndexes {
+
+		private final CassandraPersistentEntity<?> entity;
+
+		private final Map<CassandraPersistentProperty, Integer> positions = new IdentityHashMap<>();
+
+		private final int[] columnIndexes;
+
+		private final ColumnIndexCache columnIndexCache;
+
+		PropertyIndexes(CassandraPersistentEntity<?> entity, ColumnIndexCache columnIndexCache) {
+
+			this.entity = entity;
+			this.columnIndexCache = columnIndexCache;
+
+			entity.getPersistentProperties().forEach(property -> {
+				if (!property.isCompositePrimaryKey()) {
+					positions.put(property, positions.size());
+				}
+			});
+
+			this.columnIndexes = new int[positions.size()];
+
+			positions.forEach((property, position) -> columnIndexes[position] = columnIndexCache
+					.getIndexOf(property.getColumnName()));
+		}
+
+		/**
+		 * @return the {@link CassandraPersistentEntity} owning the properties.
+		 */
+		CassandraPersistentEntity<?> getEntity() {
+			return entity;
+		}
+
+		/**
+		 * Returns the index of the column mapped by {@code property}.
+		 *
+		 * @param property must not be {@literal null}.
+		 * @return the column index or {@literal -1} if the column is not part of the {@link ColumnDefinitions}.
+		 */
+		int getIndexOf(CassandraPersistentProperty property) {
+
+			Integer position = positions.get(property);
+
+			return position != null ? columnIndexes[position] : columnIndexCache.getIndexOf(property.getColumnName());
+		}
+	}
+}
@@ -18,13 +18,13 @@ package org.springframework.data.cassandra.core.convert;
 import java.util.List;
 
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.util.Assert;
 
 import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
 import com.datastax.driver.core.Row;
-import com.datastax.driver.core.TypeCodec;
 
 /**
  * Helpful class to read a column's value from a row, with possible type conversion.
@@ -37,19 +37,51 @@ public class ColumnReader {
 
 	protected Row row;
 	protected ColumnDefinitions columns;
+	private final ColumnIndexCache columnIndexCache;
 	private final CodecRegistry codecRegistry;
 
 	public ColumnReader(Row row) {
+		this(row, new ColumnIndexCache(row.getColumnDefinitions()));
+	}
+
+	/**
+	 * Create a new {@link ColumnReader} for the given {@link Row} resolving column indexes through a
+	 * {@link ColumnIndexCache} that can be shared across all rows of a result set.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param columnIndexCache must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public ColumnReader(Row row, ColumnIndexCache columnIndexCache) {
+		this(row, columnIndexCache, CodecRegistry.DEFAULT_INSTANCE);
+	}
+
+	/**
+	 * Create a new {@link ColumnReader} for the given {@link Row} resolving column indexes through a
+	 * {@link ColumnIndexCache} and decoding collection values with the given {@link CodecRegistry}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param columnIndexCache must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public ColumnReader(Row row, ColumnIndexCache columnIndexCache, CodecRegistry codecRegistry) {
+
+		Assert.notNull(row, "Row must not be null");
+		Assert.notNull(columnIndexCache, "ColumnIndexCache must not be null");
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
 		this.row = row;
 		this.columns = row.getColumnDefinitions();
-		this.codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+		this.columnIndexCache = columnIndexCache;
+		this.codecRegistry = codecRegistry;
 	}
 
 	/**
 	 * Returns the row's column value.
 	 */
 	public Object get(CqlIdentifier name) {
-		return get(name.toCql());
+		return get(getColumnIndex(name));
 	}
 
 	/**
@@ -94,29 +126,13 @@ public class ColumnReader {
 		List<DataType> collectionTypes = type.getTypeArguments();
 
 		// List/Set
-		if (collectionTypes.size() == 1) {
-
-			DataType valueType = collectionTypes.get(0);
-			TypeCodec<Object> typeCodec = codecRegistry.codecFor(valueType);
-			if (type.equals(DataType.list(valueType))) {
-				return row.getList(i, typeCodec.getJavaType().getRawType());
-			}
-
-			if (type.equals(DataType.set(valueType))) {
-				return row.getSet(i, typeCodec.getJavaType().getRawType());
-			}
-
+		if (collectionTypes.size() == 1 && (Name.LIST.equals(type.getName()) || Name.SET.equals(type.getName()))) {
+			return row.get(i, codecRegistry.codecFor(type));
 		}
 
 		// Map
-		if (collectionTypes.size() == 2) {
-
-			DataType keyType = collectionTypes.get(0);
-			TypeCodec<Object> keyTypeCodec = codecRegistry.codecFor(keyType);
-
-			DataType valueType = collectionTypes.get(1);
-			TypeCodec<Object> valueTypeCodec = codecRegistry.codecFor(valueType);
-			return row.getMap(i, keyTypeCodec.getJavaType().getRawType(), valueTypeCodec.getJavaType().getRawType());
+		if (collectionTypes.size() == 2 && Name.MAP.equals(type.getName())) {
+			return row.get(i, codecRegistry.codecFor(type));
 		}
 
 		throw new IllegalStateException("Unknown Collection type encountered. Valid collections are Set, List and Map.");
@@ -132,7 +148,7 @@ public class ColumnReader {
 	 * @throws ClassCastException if the value cannot be converted to the requested type.
 	 */
 	public <T> T get(CqlIdentifier name, Class<T> requestedType) {
-		return get(getColumnIndex(name.toCql()), requestedType);
+		return get(getColumnIndex(name), requestedType);
 	}
 
 	/**
@@ -161,6 +177,26 @@ public class ColumnReader {
 		return (T) o;
 	}
 
+	/**
+	 * Returns whether the row contains the column {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return {@literal true} if the row contains the column.
+	 * @since 2.0
+	 */
+	public boolean contains(CqlIdentifier name) {
+		return columnIndexCache.contains(name);
+	}
+
+	private int getColumnIndex(CqlIdentifier name) {
+
+		int indexOf = columnIndexCache.getIndexOf(name);
+		if (indexOf == -1) {
+			throw new IllegalArgumentException("Column does not exist in Cassandra table: " + name.toCql());
+		}
+		return indexOf;
+	}
+
 	private int getColumnIndex(String name) {
 
 		int indexOf = columns.getIndexOf(name);
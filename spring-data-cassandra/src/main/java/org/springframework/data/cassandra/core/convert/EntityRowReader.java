@@ -0,0 +1,389 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter.MappingAndConvertingValueProvider;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PreferredConstructor.Parameter;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
+
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.GettableByIndexData;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.UDTValue;
+import com.datastax.driver.core.UserType;
+
+/**
+ * Precompiled reader materializing a {@link CassandraPersistentEntity} from {@link Row}s sharing the same
+ * {@link ColumnDefinitions} shape or from {@link UDTValue}s of the same {@link UserType}. Column indexes, column codecs
+ * and the property population plan are resolved once when compiling the reader so reading a row is reduced to an
+ * indexed loop over the mapped columns.
+ * <p>
+ * Only entities without SpEL-backed properties and without composite primary keys are supported, see
+ * {@link #isSupported(CassandraPersistentEntity)}. Other entities are read through the generic mapping path of
+ * {@link MappingCassandraConverter}. Properties annotated with
+ * {@link org.springframework.data.cassandra.core.mapping.LazyLoad} are set to a {@link LazyLoadingProxy} that decodes
+ * the column on first access.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class EntityRowReader<T> {
+
+	@SuppressWarnings("rawtypes") //
+	private static final ParameterValueProvider NO_PARAMETERS = new ParameterValueProvider() {
+
+		@Override
+		public Optional<Object> getParameterValue(Parameter parameter) {
+			return Optional.empty();
+		}
+	};
+
+	private final MappingCassandraConverter converter;
+
+	private final CassandraPersistentEntity<T> entity;
+
+	private final EntityInstantiator instantiator;
+
+	private final CassandraPersistentProperty[] properties;
+
+	private final ColumnAccessor[] columns;
+
+	private final int[] lazyColumnIndexes;
+
+	private final Map<CassandraPersistentProperty, ColumnAccessor> parameterColumns;
+
+	private final List<String> mappedColumnNames;
+
+	private final int[] mappedColumnIndexes;
+
+	private final DataType[] mappedColumnTypes;
+
+	private final UserType userType;
+
+	private volatile ColumnDefinitions lastColumnDefinitions;
+
+	private EntityRowReader(MappingCassandraConverter converter, CassandraPersistentEntity<T> entity,
+			EntityInstantiator instantiator, CodecRegistry codecRegistry, ToIntFunction<CqlIdentifier> indexResolver,
+			IntFunction<DataType> typeResolver, ColumnDefinitions columnDefinitions, UserType userType) {
+
+		this.converter = converter;
+		this.entity = entity;
+		this.instantiator = instantiator;
+
+		List<CassandraPersistentProperty> properties = new ArrayList<>();
+		List<ColumnAccessor> columns = new ArrayList<>();
+		List<Integer> lazyColumnIndexes = new ArrayList<>();
+		Map<CassandraPersistentProperty, ColumnAccessor> parameterColumns = new HashMap<>();
+		List<String> mappedColumnNames = new ArrayList<>();
+		List<Integer> mappedColumnIndexes = new ArrayList<>();
+		List<DataType> mappedColumnTypes = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			String columnName = property.getColumnName().toCql();
+			int index = indexResolver.applyAsInt(property.getColumnName());
+			DataType type = index == -1 ? null : typeResolver.apply(index);
+
+			mappedColumnNames.add(columnName);
+			mappedColumnIndexes.add(index);
+			mappedColumnTypes.add(type);
+
+			if (index == -1) {
+				return;
+			}
+
+			ColumnAccessor accessor = ColumnAccessor.create(index, type, codecRegistry);
+
+			if (entity.isConstructorArgument(property)) {
+				parameterColumns.put(property, accessor);
+				return;
+			}
+
+			properties.add(property);
+			columns.add(accessor);
+			lazyColumnIndexes.add(converter.isLazyLoading(property) ? index : -1);
+		});
+
+		this.properties = properties.toArray(new CassandraPersistentProperty[properties.size()]);
+		this.columns = columns.toArray(new ColumnAccessor[columns.size()]);
+		this.lazyColumnIndexes = lazyColumnIndexes.stream().mapToInt(Integer::intValue).toArray();
+		this.parameterColumns = parameterColumns;
+		this.mappedColumnNames = mappedColumnNames;
+		this.mappedColumnIndexes = mappedColumnIndexes.stream().mapToInt(Integer::intValue).toArray();
+		this.mappedColumnTypes = mappedColumnTypes.toArray(new DataType[mappedColumnTypes.size()]);
+		this.userType = userType;
+		this.lastColumnDefinitions = columnDefinitions;
+	}
+
+	/**
+	 * Returns whether the given {@link CassandraPersistentEntity} can be read with a precompiled {@link EntityRowReader}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return {@literal true} if the entity can be read with a precompiled reader.
+	 */
+	static boolean isSupported(CassandraPersistentEntity<?> entity) {
+
+		if (!entity.getPersistenceConstructor().isPresent()) {
+			return false;
+		}
+
+		boolean[] supported = { true };
+
+		entity.getPersistentProperties().forEach(property -> {
+			if (property.isCompositePrimaryKey() || property.getSpelExpression().isPresent()) {
+				supported[0] = false;
+			}
+		});
+
+		return supported[0];
+	}
+
+	/**
+	 * Compile a new {@link EntityRowReader} for the given {@link CassandraPersistentEntity} and
+	 * {@link ColumnDefinitions}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param instantiator must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return the compiled {@link EntityRowReader}.
+	 */
+	static <T> EntityRowReader<T> compile(MappingCassandraConverter converter, CassandraPersistentEntity<T> entity,
+			EntityInstantiator instantiator, CodecRegistry codecRegistry, ColumnDefinitions columnDefinitions) {
+
+		return new EntityRowReader<>(converter, entity, instantiator, codecRegistry,
+				name -> columnDefinitions.getIndexOf(name.toCql()), columnDefinitions::getType, columnDefinitions, null);
+	}
+
+	/**
+	 * Compile a new {@link EntityRowReader} for the columns of the table mapped by {@link CassandraPersistentEntity}.
+	 * Columns are expected in the order in which Cassandra returns them for {@code SELECT *}: partition key columns
+	 * first, then clustering columns followed by all other columns. Column types are derived from the mapping metadata.
+	 * The reader verifies the actual {@link ColumnDefinitions} once on first use, see
+	 * {@link #matches(ColumnDefinitions)}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param instantiator must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @return the compiled {@link EntityRowReader}.
+	 */
+	static <T> EntityRowReader<T> compile(MappingCassandraConverter converter, CassandraPersistentEntity<T> entity,
+			EntityInstantiator instantiator, CodecRegistry codecRegistry) {
+
+		List<CassandraPersistentProperty> partitionKeyColumns = new ArrayList<>();
+		List<CassandraPersistentProperty> clusteringColumns = new ArrayList<>();
+		List<CassandraPersistentProperty> otherColumns = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+				partitionKeyColumns.add(property);
+			} else if (property.isClusterKeyColumn()) {
+				clusteringColumns.add(property);
+			} else {
+				otherColumns.add(property);
+			}
+		});
+
+		List<CqlIdentifier> columnNames = new ArrayList<>();
+		List<DataType> columnTypes = new ArrayList<>();
+
+		Stream.of(partitionKeyColumns, clusteringColumns, otherColumns).flatMap(List::stream).forEach(property -> {
+
+			columnNames.add(property.getColumnName());
+			columnTypes.add(converter.getMappingContext().getDataType(property));
+		});
+
+		return new EntityRowReader<>(converter, entity, instantiator, codecRegistry, columnNames::indexOf,
+				columnTypes::get, null, null);
+	}
+
+	/**
+	 * Compile a new {@link EntityRowReader} for the given {@link CassandraPersistentEntity} and {@link UserType}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param instantiator must not be {@literal null}.
+	 * @param codecRegistry must not be {@literal null}.
+	 * @param userType must not be {@literal null}.
+	 * @return the compiled {@link EntityRowReader} or {@literal null} if a mapped field cannot be resolved to its index.
+	 */
+	static <T> EntityRowReader<T> compile(MappingCassandraConverter converter, CassandraPersistentEntity<T> entity,
+			EntityInstantiator instantiator, CodecRegistry codecRegistry, UserType userType) {
+
+		List<String> fieldNames = new ArrayList<>(userType.getFieldNames());
+		List<DataType> fieldTypes = new ArrayList<>(fieldNames.size());
+
+		fieldNames.forEach(fieldName -> fieldTypes.add(userType.getFieldType(fieldName)));
+
+		boolean[] resolvable = { true };
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (userType.contains(property.getColumnName().toCql())
+					&& !fieldNames.contains(property.getColumnName().getUnquoted())) {
+				resolvable[0] = false;
+			}
+		});
+
+		if (!resolvable[0]) {
+			return null;
+		}
+
+		return new EntityRowReader<>(converter, entity, instantiator, codecRegistry,
+				name -> userType.contains(name.toCql()) ? fieldNames.indexOf(name.getUnquoted()) : -1,
+				fieldTypes::get, null, userType);
+	}
+
+	/**
+	 * Returns whether this reader was compiled for the shape of the given {@link ColumnDefinitions}. Rows of the same
+	 * result set page share their {@link ColumnDefinitions} instance so the shape is verified only once per instance.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return {@literal true} if this reader can read rows described by {@link ColumnDefinitions}.
+	 */
+	boolean matches(ColumnDefinitions columnDefinitions) {
+
+		if (userType != null) {
+			return false;
+		}
+
+		if (lastColumnDefinitions == columnDefinitions) {
+			return true;
+		}
+
+		for (int i = 0; i < mappedColumnIndexes.length; i++) {
+
+			int index = columnDefinitions.getIndexOf(mappedColumnNames.get(i));
+
+			if (index != mappedColumnIndexes[i]) {
+				return false;
+			}
+
+			if (index != -1 && !mappedColumnTypes[i].equals(columnDefinitions.getType(index))) {
+				return false;
+			}
+		}
+
+		lastColumnDefinitions = columnDefinitions;
+
+		return true;
+	}
+
+	/**
+	 * Returns whether this reader was compiled for the given {@link UserType}.
+	 *
+	 * @param userType must not be {@literal null}.
+	 * @return {@literal true} if this reader can read values of the {@link UserType}.
+	 */
+	boolean matches(UserType userType) {
+		return this.userType == userType || (this.userType != null && this.userType.equals(userType));
+	}
+
+	/**
+	 * Materialize the entity from the given {@link Row} or {@link UDTValue}.
+	 *
+	 * @param data must not be {@literal null}.
+	 * @return the materialized entity.
+	 */
+	@SuppressWarnings("unchecked")
+	T read(GettableByIndexData data) {
+
+		ParameterValueProvider<CassandraPersistentProperty> parameterValueProvider = parameterColumns.isEmpty()
+				? NO_PARAMETERS
+				: new PersistentEntityParameterValueProvider<>(entity,
+						converter.new MappingAndConvertingValueProvider(new ColumnValueProvider(data)), Optional.empty());
+
+		T instance = instantiator.createInstance(entity, parameterValueProvider);
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
+
+		for (int i = 0; i < properties.length; i++) {
+
+			if (lazyColumnIndexes[i] != -1) {
+				accessor.setProperty(properties[i], readLazily(data, properties[i], columns[i], lazyColumnIndexes[i]));
+				continue;
+			}
+
+			accessor.setProperty(properties[i], converter.readValue(columns[i].get(data), properties[i]));
+		}
+
+		return instance;
+	}
+
+	private Optional<Object> readLazily(GettableByIndexData data, CassandraPersistentProperty property,
+			ColumnAccessor column, int index) {
+
+		if (data.isNull(index)) {
+			return Optional.empty();
+		}
+
+		return Optional.of(converter.createLazyLoadingProxy(property,
+				() -> converter.readValue(column.get(data), property).orElse(null)));
+	}
+
+	/**
+	 * {@link CassandraValueProvider} resolving constructor arguments through the precompiled {@link ColumnAccessor}s.
+	 * Values are converted by {@link MappingAndConvertingValueProvider}.
+	 */
+	private class ColumnValueProvider implements CassandraValueProvider {
+
+		private final GettableByIndexData data;
+
+		ColumnValueProvider(GettableByIndexData data) {
+			this.data = data;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.mapping.model.PropertyValueProvider#getPropertyValue(org.springframework.data.mapping.PersistentProperty)
+		 */
+		@Override
+		@SuppressWarnings("unchecked")
+		public <S> Optional<S> getPropertyValue(CassandraPersistentProperty property) {
+
+			ColumnAccessor accessor = parameterColumns.get(property);
+
+			return accessor == null ? Optional.empty() : Optional.ofNullable((S) accessor.get(data));
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.convert.CassandraValueProvider#hasProperty(org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty)
+		 */
+		@Override
+		public boolean hasProperty(CassandraPersistentProperty property) {
+			return parameterColumns.containsKey(property);
+		}
+	}
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.util.TypeInformation;
+
+import com.datastax.driver.core.querybuilder.Insert;
+import com.datastax.driver.core.querybuilder.QueryBuilder;
+import com.datastax.driver.core.querybuilder.Update;
+
+/**
+ * Precomputed write plan for a {@link CassandraPersistentEntity}. The plan flattens composite primary keys into a fixed
+ * column order and resolves the write target type of each property once so writing an entity only reads property
+ * values and applies value conversion.
+ * <p>
+ * Values are emitted in a fixed column order that is shared by all sinks (insert, update and map).
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class EntityWritePlan {
+
+	private final MappingCassandraConverter converter;
+
+	private final CassandraPersistentEntity<?> entity;
+
+	private final WriteProperty[] properties;
+
+	private final List<CqlIdentifier> columnNames;
+
+	private final String[] cqlNames;
+
+	private final boolean[] primaryKeyParts;
+
+	private EntityWritePlan(MappingCassandraConverter converter, CassandraPersistentEntity<?> entity,
+			Function<CassandraPersistentProperty, Class<?>> targetTypeFunction, boolean primaryKey) {
+
+		this.converter = converter;
+		this.entity = entity;
+
+		List<WriteProperty> properties = new ArrayList<>();
+		List<CqlIdentifier> columnNames = new ArrayList<>();
+		List<Boolean> primaryKeyParts = new ArrayList<>();
+
+		entity.getPersistentProperties().forEach(property -> {
+
+			if (property.isCompositePrimaryKey()) {
+
+				EntityWritePlan keyPlan = new EntityWritePlan(converter,
+						converter.getMappingContext().getRequiredPersistentEntity(property), targetTypeFunction, true);
+
+				properties.add(new WriteProperty(property, null, keyPlan));
+				columnNames.addAll(keyPlan.columnNames);
+				keyPlan.columnNames.forEach(it -> primaryKeyParts.add(true));
+
+				return;
+			}
+
+			properties.add(new WriteProperty(property, targetTypeFunction.apply(property), null));
+			columnNames.add(property.getColumnName());
+			primaryKeyParts.add(primaryKey || property.isPrimaryKeyColumn() || property.isIdProperty());
+		});
+
+		this.properties = properties.toArray(new WriteProperty[properties.size()]);
+		this.columnNames = Collections.unmodifiableList(columnNames);
+		this.cqlNames = columnNames.stream().map(CqlIdentifier::toCql).toArray(String[]::new);
+		this.primaryKeyParts = new boolean[primaryKeyParts.size()];
+
+		for (int i = 0; i < this.primaryKeyParts.length; i++) {
+			this.primaryKeyParts[i] = primaryKeyParts.get(i);
+		}
+	}
+
+	/**
+	 * Create a new {@link EntityWritePlan} for the given {@link CassandraPersistentEntity}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param targetTypeFunction function resolving the write target type of a property.
+	 * @return the {@link EntityWritePlan}.
+	 */
+	static EntityWritePlan create(MappingCassandraConverter converter, CassandraPersistentEntity<?> entity,
+			Function<CassandraPersistentProperty, Class<?>> targetTypeFunction) {
+		return new EntityWritePlan(converter, entity, targetTypeFunction, false);
+	}
+
+	/**
+	 * Read and convert all column values from {@code source}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the column values in column order. {@literal null} elements represent absent values.
+	 */
+	Object[] getValues(Object source) {
+
+		Object[] values = new Object[cqlNames.length];
+
+		writeValues(source, values, 0);
+
+		return values;
+	}
+
+	/**
+	 * Add all non-{@literal null} column values of {@code source} to the {@link Insert}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param insert must not be {@literal null}.
+	 */
+	void writeInsert(Object source, Insert insert) {
+
+		Object[] values = getValues(source);
+
+		for (int i = 0; i < values.length; i++) {
+			if (values[i] != null) {
+				insert.value(cqlNames[i], values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Add all column values of {@code source} to the {@link Update}. Primary key columns are added as {@code WHERE}
+	 * clauses, all other columns as assignments.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 */
+	void writeUpdate(Object source, Update update) {
+
+		Object[] values = getValues(source);
+
+		for (int i = 0; i < values.length; i++) {
+
+			if (primaryKeyParts[i]) {
+				update.where(QueryBuilder.eq(cqlNames[i], values[i]));
+			} else {
+				update.with(QueryBuilder.set(cqlNames[i], values[i]));
+			}
+		}
+	}
+
+	/**
+	 * Put all column values of {@code source} into the {@link Map}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param sink must not be {@literal null}.
+	 */
+	void writeMap(Object source, Map<String, Object> sink) {
+
+		Object[] values = getValues(source);
+
+		for (int i = 0; i < values.length; i++) {
+			sink.put(cqlNames[i], values[i]);
+		}
+	}
+
+	private void writeValues(Object source, Object[] values, int offset) {
+
+		if (source == null) {
+			Arrays.fill(values, offset, offset + cqlNames.length, null);
+			return;
+		}
+
+		PersistentPropertyAccessor accessor = entity.getPropertyAccessor(source);
+		int index = offset;
+
+		for (WriteProperty property : properties) {
+
+			Object value = LazyLoadingProxyFactory.unwrap(accessor.getProperty(property.property).orElse(null));
+
+			if (property.keyPlan != null) {
+
+				property.keyPlan.writeValues(value, values, index);
+				index += property.keyPlan.cqlNames.length;
+
+				continue;
+			}
+
+			values[index++] = converter.getWriteValue(value, property.targetType, property.typeInformation);
+		}
+	}
+
+	/**
+	 * Write metadata of a single property.
+	 */
+	private static class WriteProperty {
+
+		final CassandraPersistentProperty property;
+
+		final Class<?> targetType;
+
+		final TypeInformation<?> typeInformation;
+
+		final EntityWritePlan keyPlan;
+
+		WriteProperty(CassandraPersistentProperty property, Class<?> targetType, EntityWritePlan keyPlan) {
+
+			this.property = property;
+			this.targetType = targetType;
+			this.typeInformation = property.getTypeInformation();
+			this.keyPlan = keyPlan;
+		}
+	}
+}
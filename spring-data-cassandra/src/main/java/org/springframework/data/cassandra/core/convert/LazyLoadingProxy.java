@@ -0,0 +1,41 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+/**
+ * Interface implemented by proxies of {@link org.springframework.data.cassandra.core.mapping.LazyLoad lazily loaded}
+ * properties.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see org.springframework.data.cassandra.core.mapping.LazyLoad
+ */
+public interface LazyLoadingProxy {
+
+	/**
+	 * Returns whether the property value was already materialized.
+	 *
+	 * @return {@literal true} if the value was materialized.
+	 */
+	boolean isMaterialized();
+
+	/**
+	 * Materialize the property value, if not already materialized, and return it.
+	 *
+	 * @return the materialized value, may be {@literal null}.
+	 */
+	Object materialize();
+}
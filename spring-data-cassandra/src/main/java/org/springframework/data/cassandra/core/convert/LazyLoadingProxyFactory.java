@@ -0,0 +1,154 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Factory for {@link LazyLoadingProxy lazy loading proxies}. Interfaces are proxied with JDK dynamic proxies, non-final
+ * classes with class-based proxies.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class LazyLoadingProxyFactory {
+
+	private static final Method IS_MATERIALIZED = ReflectionUtils.findMethod(LazyLoadingProxy.class, "isMaterialized");
+
+	private static final Method MATERIALIZE = ReflectionUtils.findMethod(LazyLoadingProxy.class, "materialize");
+
+	private LazyLoadingProxyFactory() {}
+
+	/**
+	 * Returns whether values of the given {@code type} can be represented by a {@link LazyLoadingProxy}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return {@literal true} if a proxy can be created.
+	 */
+	static boolean isProxyable(Class<?> type) {
+
+		if (type.isInterface()) {
+			return true;
+		}
+
+		return !type.isPrimitive() && !type.isArray() && !type.isEnum() && !Modifier.isFinal(type.getModifiers())
+				&& !type.getName().startsWith("java.");
+	}
+
+	/**
+	 * Create a {@link LazyLoadingProxy} for {@code type} resolving its target through {@code resolver} on first access.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @param classLoader may be {@literal null} to use the default class loader.
+	 * @return the proxy.
+	 */
+	static Object createProxy(Class<?> type, Supplier<Object> resolver, ClassLoader classLoader) {
+
+		ProxyFactory proxyFactory = new ProxyFactory();
+
+		if (type.isInterface()) {
+			proxyFactory.addInterface(type);
+		} else {
+			proxyFactory.setProxyTargetClass(true);
+			proxyFactory.setTargetClass(type);
+		}
+
+		proxyFactory.addInterface(LazyLoadingProxy.class);
+		proxyFactory.addAdvice(new LazyLoadingInterceptor(resolver));
+
+		return proxyFactory.getProxy(classLoader);
+	}
+
+	/**
+	 * Returns the materialized target of {@code value} if it is a {@link LazyLoadingProxy}. Proxies must be unwrapped
+	 * before their type or fields are inspected, as a class-based proxy is a subclass without any state of its own.
+	 *
+	 * @param value may be {@literal null}.
+	 * @return the materialized target or {@code value} itself if it is not a {@link LazyLoadingProxy}.
+	 */
+	static Object unwrap(Object value) {
+		return value instanceof LazyLoadingProxy ? ((LazyLoadingProxy) value).materialize() : value;
+	}
+
+	/**
+	 * {@link MethodInterceptor} materializing the target on first invocation and delegating all method calls to it.
+	 */
+	static class LazyLoadingInterceptor implements MethodInterceptor {
+
+		private final Object lock = new Object();
+
+		private volatile Supplier<Object> resolver;
+
+		private volatile Object target;
+
+		LazyLoadingInterceptor(Supplier<Object> resolver) {
+			this.resolver = resolver;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.intercept.MethodInvocation)
+		 */
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (IS_MATERIALIZED.equals(method)) {
+				return resolver == null;
+			}
+
+			Object target = materialize();
+
+			if (MATERIALIZE.equals(method)) {
+				return target;
+			}
+
+			if (target == null) {
+				throw new IllegalStateException(
+						String.format("Lazily loaded property resolved to null; Cannot invoke %s", method));
+			}
+
+			return AopUtils.invokeJoinpointUsingReflection(target, method, invocation.getArguments());
+		}
+
+		private Object materialize() {
+
+			if (resolver != null) {
+
+				synchronized (lock) {
+
+					Supplier<Object> resolver = this.resolver;
+
+					if (resolver != null) {
+						this.target = resolver.get();
+						this.resolver = null;
+					}
+				}
+			}
+
+			return target;
+		}
+	}
+}
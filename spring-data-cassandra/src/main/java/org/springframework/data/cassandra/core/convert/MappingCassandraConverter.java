@@ -19,12 +19,17 @@ import static org.springframework.data.cassandra.repository.support.BasicMapId.*
 
 import lombok.AllArgsConstructor;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,9 +45,12 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.mapping.LazyLoad;
 import org.springframework.data.cassandra.repository.MapId;
 import org.springframework.data.cassandra.repository.MapIdentifiable;
 import org.springframework.data.convert.EntityInstantiator;
+import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
@@ -54,9 +62,13 @@ import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ConcurrentReferenceHashMap.ReferenceType;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
 
 import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.TypeCodec;
@@ -83,6 +95,10 @@ import com.datastax.driver.core.querybuilder.Update;
 public class MappingCassandraConverter extends AbstractCassandraConverter
 		implements CassandraConverter, ApplicationContextAware, BeanClassLoaderAware {
 
+	private static final int MAX_ROW_READERS_PER_ENTITY = 16;
+
+	private static final List<EntityRowReader<?>> UNSUPPORTED_ROW_READERS = Collections.emptyList();
+
 	private final Logger log = LoggerFactory.getLogger(getClass());
 
 	private final CassandraMappingContext mappingContext;
@@ -91,6 +107,25 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	private SpELContext spELContext;
 
+	private boolean precompileEntities = false;
+
+	private CodecRegistry codecRegistry = CodecRegistry.DEFAULT_INSTANCE;
+
+	private final Map<CassandraPersistentEntity<?>, List<EntityRowReader<?>>> rowReaders = new ConcurrentHashMap<>();
+
+	private final Map<CassandraPersistentEntity<?>, EntityRowReader<?>> udtReaders = new ConcurrentHashMap<>();
+
+	private final Map<CassandraPersistentEntity<?>, EntityWritePlan> writePlans = new ConcurrentHashMap<>();
+
+	private final Map<CassandraPersistentProperty, Boolean> elementConversions = new ConcurrentHashMap<>();
+
+	private final Map<ColumnDefinitions, ColumnIndexCache> columnIndexCaches = new ConcurrentReferenceHashMap<>(16,
+			ReferenceType.WEAK);
+
+	private final boolean customInsertWriter = isOverridden("writeInsertFromWrapper", Insert.class);
+
+	private final boolean customUpdateWriter = isOverridden("writeUpdateFromWrapper", Update.class);
+
 	/**
 	 * Create a new {@link MappingCassandraConverter} with a {@link CassandraMappingContext}.
 	 */
@@ -129,6 +164,113 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		this.beanClassLoader = classLoader;
 	}
 
+	/**
+	 * Configure the {@link CodecRegistry} used to decode collections and user-defined type values. Should be set to the
+	 * {@link CodecRegistry} of the {@link com.datastax.driver.core.Cluster} if custom codecs are registered. Defaults to
+	 * {@link CodecRegistry#DEFAULT_INSTANCE}.
+	 *
+	 * @param codecRegistry must not be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setCodecRegistry(CodecRegistry codecRegistry) {
+
+		Assert.notNull(codecRegistry, "CodecRegistry must not be null");
+
+		this.codecRegistry = codecRegistry;
+		this.rowReaders.clear();
+		this.udtReaders.clear();
+		this.writePlans.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.CassandraConverter#getCodecRegistry()
+	 */
+	@Override
+	public CodecRegistry getCodecRegistry() {
+		return codecRegistry;
+	}
+
+	/**
+	 * Configure whether to precompile mapping metadata for all entities known to the {@link CassandraMappingContext}
+	 * when initializing this converter. Precompiling resolves write plans for table entities, composite primary key
+	 * classes and user-defined types and compiles row readers for the columns of each mapped table upfront instead of on
+	 * first use. Row readers are compiled for the column order of {@code SELECT *} and verified against the actual
+	 * result set columns on first read. Queries selecting a different column layout compile their reader on first read.
+	 * Disabled by default.
+	 *
+	 * @param precompileEntities {@literal true} to precompile mapping metadata in {@link #afterPropertiesSet()}.
+	 * @since 2.0
+	 */
+	public void setPrecompileEntities(boolean precompileEntities) {
+		this.precompileEntities = precompileEntities;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+
+		super.afterPropertiesSet();
+
+		if (precompileEntities) {
+			precompileEntities();
+		}
+	}
+
+	private void precompileEntities() {
+
+		mappingContext.getPersistentEntities().forEach(entity -> {
+
+			getWritePlan(entity);
+
+			List<EntityRowReader<?>> readers = getRowReaders(entity);
+
+			if (readers != UNSUPPORTED_ROW_READERS && readers.isEmpty() && !entity.isUserDefinedType()
+					&& !entity.isCompositePrimaryKey()) {
+				precompileRowReader(entity, readers);
+			}
+		});
+	}
+
+	private void precompileRowReader(CassandraPersistentEntity<?> entity, List<EntityRowReader<?>> readers) {
+
+		try {
+			readers.add(EntityRowReader.compile(this, entity, instantiators.getInstantiatorFor(entity), codecRegistry));
+		} catch (RuntimeException e) {
+
+			// Column types may not be resolvable yet (e.g. user-defined types not yet created).
+			// Fall back to compiling the reader on first read.
+			if (log.isDebugEnabled()) {
+				log.debug("Cannot precompile row reader for {}", entity.getName(), e);
+			}
+		}
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setCustomConversions(org.springframework.data.cassandra.core.convert.CustomConversions)
+	 */
+	@Override
+	public void setCustomConversions(CustomConversions conversions) {
+
+		super.setCustomConversions(conversions);
+
+		this.writePlans.clear();
+		this.elementConversions.clear();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.AbstractCassandraConverter#setInstantiators(org.springframework.data.convert.EntityInstantiators)
+	 */
+	@Override
+	public void setInstantiators(EntityInstantiators instantiators) {
+
+		super.setInstantiators(instantiators);
+
+		this.rowReaders.clear();
+		this.udtReaders.clear();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.convert.CassandraConverter#getMappingContext()
 	 */
@@ -166,9 +308,16 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 	protected <S> S readEntityFromRow(CassandraPersistentEntity<S> entity, Row row) {
 
+		EntityRowReader<S> rowReader = getRowReader(entity, row.getColumnDefinitions());
+
+		if (rowReader != null) {
+			return rowReader.read(row);
+		}
+
 		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(row, spELContext);
 
-		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row, expressionEvaluator);
+		BasicCassandraRowValueProvider rowValueProvider = new BasicCassandraRowValueProvider(row,
+				getColumnIndexCache(row.getColumnDefinitions()), expressionEvaluator, codecRegistry);
 
 		PersistentEntityParameterValueProvider<CassandraPersistentProperty> parameterValueProvider = new PersistentEntityParameterValueProvider<>(
 				entity, new MappingAndConvertingValueProvider(rowValueProvider), Optional.empty());
@@ -176,16 +325,123 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
 		S instance = instantiator.createInstance(entity, parameterValueProvider);
 
-		readPropertiesFromRow(entity, rowValueProvider, getConvertingAccessor(instance, entity));
+		readPropertiesFromRow(entity, rowValueProvider, entity.getPropertyAccessor(instance));
 
 		return instance;
 	}
 
+	/**
+	 * Lookup or compile a {@link EntityRowReader} for the given {@link CassandraPersistentEntity} and
+	 * {@link ColumnDefinitions} shape.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return the {@link EntityRowReader} or {@literal null} if the entity cannot be read with a precompiled reader or
+	 *         if {@link #MAX_ROW_READERS_PER_ENTITY} readers for other column layouts are already cached.
+	 */
+	private <S> EntityRowReader<S> getRowReader(CassandraPersistentEntity<S> entity,
+			ColumnDefinitions columnDefinitions) {
+
+		List<EntityRowReader<?>> readers = getRowReaders(entity);
+
+		if (readers == UNSUPPORTED_ROW_READERS) {
+			return null;
+		}
+
+		EntityRowReader<S> reader = findRowReader(readers, columnDefinitions);
+
+		if (reader != null) {
+			return reader;
+		}
+
+		synchronized (readers) {
+
+			reader = findRowReader(readers, columnDefinitions);
+
+			if (reader != null || readers.size() >= MAX_ROW_READERS_PER_ENTITY) {
+				return reader;
+			}
+
+			reader = EntityRowReader.compile(this, entity, instantiators.getInstantiatorFor(entity), codecRegistry,
+					columnDefinitions);
+
+			readers.add(reader);
+
+			return reader;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <S> EntityRowReader<S> findRowReader(List<EntityRowReader<?>> readers,
+			ColumnDefinitions columnDefinitions) {
+
+		for (EntityRowReader<?> reader : readers) {
+			if (reader.matches(columnDefinitions)) {
+				return (EntityRowReader<S>) reader;
+			}
+		}
+
+		return null;
+	}
+
+	private List<EntityRowReader<?>> getRowReaders(CassandraPersistentEntity<?> entity) {
+		return rowReaders.computeIfAbsent(entity,
+				it -> EntityRowReader.isSupported(it) ? new CopyOnWriteArrayList<>() : UNSUPPORTED_ROW_READERS);
+	}
+
+	/**
+	 * Lookup or compile a {@link EntityRowReader} for the given user-defined type {@link CassandraPersistentEntity} and
+	 * {@link UserType}.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param userType must not be {@literal null}.
+	 * @return the {@link EntityRowReader} or {@literal null} if the entity cannot be read with a precompiled reader.
+	 */
+	@SuppressWarnings("unchecked")
+	private <S> EntityRowReader<S> getUdtReader(CassandraPersistentEntity<S> entity, UserType userType) {
+
+		if (getRowReaders(entity) == UNSUPPORTED_ROW_READERS) {
+			return null;
+		}
+
+		EntityRowReader<?> reader = udtReaders.get(entity);
+
+		if (reader == null || !reader.matches(userType)) {
+
+			reader = EntityRowReader.compile(this, entity, instantiators.getInstantiatorFor(entity), codecRegistry,
+					userType);
+
+			if (reader != null) {
+				udtReaders.put(entity, reader);
+			}
+		}
+
+		return (EntityRowReader<S>) reader;
+	}
+
+	/**
+	 * Lookup the {@link ColumnIndexCache} for the given {@link ColumnDefinitions}. Caches are held weakly per
+	 * {@link ColumnDefinitions} instance and thereby live as long as the result set (or prepared statement metadata) that
+	 * owns the {@link ColumnDefinitions}.
+	 *
+	 * @param columnDefinitions must not be {@literal null}.
+	 * @return the {@link ColumnIndexCache}.
+	 */
+	private ColumnIndexCache getColumnIndexCache(ColumnDefinitions columnDefinitions) {
+		return columnIndexCaches.computeIfAbsent(columnDefinitions, ColumnIndexCache::new);
+	}
+
 	protected <S> S readEntityFromUdt(CassandraPersistentEntity<S> entity, UDTValue udtValue) {
 
+		EntityRowReader<S> udtReader = getUdtReader(entity, udtValue.getType());
+
+		if (udtReader != null) {
+			return udtReader.read(udtValue);
+		}
+
 		DefaultSpELExpressionEvaluator expressionEvaluator = new DefaultSpELExpressionEvaluator(udtValue, spELContext);
 
-		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, CodecRegistry.DEFAULT_INSTANCE,
+		CassandraUDTValueProvider valueProvider = new CassandraUDTValueProvider(udtValue, codecRegistry,
 				expressionEvaluator);
 
 		PersistentEntityParameterValueProvider<CassandraPersistentProperty> parameterValueProvider = getParameterValueProvider(
@@ -194,7 +450,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
 		S instance = instantiator.createInstance(entity, parameterValueProvider);
 
-		readProperties(entity, valueProvider, getConvertingAccessor(instance, entity));
+		readProperties(entity, valueProvider, entity.getPropertyAccessor(instance));
 
 		return instance;
 	}
@@ -236,7 +492,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			}
 
 			// now recurse on using the key this time
-			optionalKey.ifPresent(key -> readProperties(keyEntity, valueProvider, getConvertingAccessor(key, keyEntity)));
+			optionalKey.ifPresent(key -> readProperties(keyEntity, valueProvider, keyEntity.getPropertyAccessor(key)));
 
 			// now that the key's properties have been populated, set the key property on the entity
 			propertyAccessor.setProperty(property, optionalKey);
@@ -248,9 +504,42 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return;
 		}
 
+		if (valueProvider instanceof CassandraRowValueProvider && isLazyLoading(property)) {
+
+			Row row = ((CassandraRowValueProvider) valueProvider).getRow();
+
+			propertyAccessor.setProperty(property, row.isNull(property.getColumnName().toCql()) ? Optional.empty()
+					: Optional.of(createLazyLoadingProxy(property, () -> getReadValue(valueProvider, property).orElse(null))));
+
+			return;
+		}
+
 		propertyAccessor.setProperty(property, getReadValue(valueProvider, property));
 	}
 
+	/**
+	 * Returns whether the given {@link CassandraPersistentProperty} is read lazily.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return {@literal true} if the property is annotated with {@link LazyLoad} and its type can be proxied.
+	 * @see LazyLoad
+	 */
+	boolean isLazyLoading(CassandraPersistentProperty property) {
+		return property.isAnnotationPresent(LazyLoad.class) && !property.isIdProperty()
+				&& !property.isPrimaryKeyColumn() && LazyLoadingProxyFactory.isProxyable(property.getType());
+	}
+
+	/**
+	 * Create a {@link LazyLoadingProxy} for the given {@link CassandraPersistentProperty}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @param resolver resolves the converted property value on first access, must not be {@literal null}.
+	 * @return the proxy.
+	 */
+	Object createLazyLoadingProxy(CassandraPersistentProperty property, Supplier<Object> resolver) {
+		return LazyLoadingProxyFactory.createProxy(property.getType(), resolver, beanClassLoader);
+	}
+
 	@SuppressWarnings("unused")
 	protected Object instantiatePrimaryKey(CassandraPersistentEntity<?> entity, CassandraPersistentProperty keyProperty,
 			CassandraValueProvider propertyProvider) {
@@ -304,11 +593,13 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	@Override
 	public void write(Object source, Object sink) {
 
-		if (source != null) {
-			Class<?> beanClassLoaderClass = transformClassToBeanClassLoaderClass(source.getClass());
+		Object value = LazyLoadingProxyFactory.unwrap(source);
+
+		if (value != null) {
+			Class<?> beanClassLoaderClass = transformClassToBeanClassLoaderClass(value.getClass());
 			CassandraPersistentEntity<?> entity = getMappingContext().getRequiredPersistentEntity(beanClassLoaderClass);
 
-			write(source, sink, entity);
+			write(value, sink, entity);
 		}
 	}
 
@@ -325,6 +616,11 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	@SuppressWarnings("unchecked")
 	public void write(Object source, Object sink, CassandraPersistentEntity<?> entity) {
 
+		if (source instanceof LazyLoadingProxy) {
+			write(LazyLoadingProxyFactory.unwrap(source), sink, entity);
+			return;
+		}
+
 		if (source == null) {
 			return;
 		}
@@ -334,7 +630,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		}
 
 		if (sink instanceof Map) {
-			writeMapFromWrapper(getConvertingAccessor(source, entity), (Map<String, Object>) sink, entity);
+			getWritePlan(entity).writeMap(source, (Map<String, Object>) sink);
 		} else if (sink instanceof Insert) {
 			writeInsertFromObject(source, (Insert) sink, entity);
 		} else if (sink instanceof Update) {
@@ -351,41 +647,40 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	protected void writeInsertFromObject(final Object object, final Insert insert, CassandraPersistentEntity<?> entity) {
-		writeInsertFromWrapper(getConvertingAccessor(object, entity), insert, entity);
-	}
-
-	private void writeMapFromWrapper(final ConvertingPropertyAccessor accessor, final Map<String, Object> insert,
-			CassandraPersistentEntity<?> entity) {
-
-		entity.getPersistentProperties().forEach(property -> {
 
-			Optional<Object> value = getWriteValue(property, accessor);
-
-			if (log.isDebugEnabled()) {
-				log.debug("doWithProperties Property.type {}, Property.value {}", property.getType().getName(), value);
-			}
-
-			if (property.isCompositePrimaryKey()) {
+		if (customInsertWriter) {
+			writeInsertFromWrapper(getConvertingAccessor(object, entity), insert, entity);
+			return;
+		}
 
-				if (log.isDebugEnabled()) {
-					log.debug("Property is a compositeKey");
-				}
+		getWritePlan(entity).writeInsert(object, insert);
+	}
 
-				CassandraPersistentEntity<?> compositePrimaryKey = mappingContext.getRequiredPersistentEntity(property);
-				writeMapFromWrapper(getConvertingAccessor(value.orElse(null), compositePrimaryKey), insert,
-						compositePrimaryKey);
+	private EntityWritePlan getWritePlan(CassandraPersistentEntity<?> entity) {
+		return writePlans.computeIfAbsent(entity, it -> EntityWritePlan.create(this, it, this::getTargetType));
+	}
 
-				return;
-			}
+	/**
+	 * Returns whether a subclass overrides the {@code write…FromWrapper} method {@code methodName} accepting
+	 * {@code sinkType}.
+	 */
+	private boolean isOverridden(String methodName, Class<?> sinkType) {
 
-			if (log.isDebugEnabled()) {
-				log.debug("Adding map.entry [{}] - [{}]", property.getColumnName().toCql(), value);
-			}
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, ConvertingPropertyAccessor.class, sinkType,
+				CassandraPersistentEntity.class);
 
-			insert.put(property.getColumnName().toCql(), value.orElse(null));
-		});
+		return method != null && method.getDeclaringClass() != MappingCassandraConverter.class;
 	}
 
+	/**
+	 * Add the property values of {@code accessor} to the {@link Insert}. Inserts are written using a precomputed
+	 * {@link EntityWritePlan} unless a subclass overrides this method, in which case
+	 * {@link #writeInsertFromObject(Object, Insert, CassandraPersistentEntity)} delegates to the override.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param insert must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
 	protected void writeInsertFromWrapper(final ConvertingPropertyAccessor accessor, final Insert insert,
 			CassandraPersistentEntity<?> entity) {
 
@@ -423,9 +718,24 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 	}
 
 	protected void writeUpdateFromObject(final Object object, final Update update, CassandraPersistentEntity<?> entity) {
-		writeUpdateFromWrapper(getConvertingAccessor(object, entity), update, entity);
+
+		if (customUpdateWriter) {
+			writeUpdateFromWrapper(getConvertingAccessor(object, entity), update, entity);
+			return;
+		}
+
+		getWritePlan(entity).writeUpdate(object, update);
 	}
 
+	/**
+	 * Add the property values of {@code accessor} to the {@link Update}. Updates are written using a precomputed
+	 * {@link EntityWritePlan} unless a subclass overrides this method, in which case
+	 * {@link #writeUpdateFromObject(Object, Update, CassandraPersistentEntity)} delegates to the override.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param update must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 */
 	protected void writeUpdateFromWrapper(final ConvertingPropertyAccessor accessor, final Update update,
 			final CassandraPersistentEntity<?> entity) {
 
@@ -476,15 +786,25 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				log.debug("Adding udt.value [{}] - [{}]", property.getColumnName().toCql(), value);
 			}
 
-			TypeCodec<Object> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getMappingContext().getDataType(property));
+			TypeCodec<Object> typeCodec = codecRegistry.codecFor(getMappingContext().getDataType(property));
 
 			udtValue.set(property.getColumnName().toCql(), value.orElse(null), typeCodec);
 		});
 	}
 
-	@SuppressWarnings("unchecked")
 	private Collection<Clause> getWhereClauses(Object source, CassandraPersistentEntity<?> entity) {
 
+		Collection<Clause> clauses = new ArrayList<>();
+
+		getWhereValues(source, entity)
+				.forEach((columnName, value) -> clauses.add(QueryBuilder.eq(columnName.toCql(), value)));
+
+		return clauses;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Map<CqlIdentifier, Object> getWhereValues(Object source, CassandraPersistentEntity<?> entity) {
+
 		Assert.notNull(source, "Id source must not be null");
 
 		Object id = extractId(source, entity);
@@ -502,7 +822,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 					.map(it -> (CassandraPersistentEntity<?>) mappingContext.getRequiredPersistentEntity(it)) //
 					.orElse((CassandraPersistentEntity) entity);
 
-			return getWhereClauses((MapId) id, whereEntity);
+			return getWhereValues((MapId) id, whereEntity);
 		}
 
 		CassandraPersistentProperty idProperty = optionalIdProperty
@@ -518,17 +838,21 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 			CassandraPersistentEntity<?> compositePrimaryKey = mappingContext
 					.getRequiredPersistentEntity(compositeIdProperty);
-			return getWhereClauses(getConvertingAccessor(id, compositePrimaryKey), compositePrimaryKey);
+			return getWhereValues(getConvertingAccessor(id, compositePrimaryKey), compositePrimaryKey);
 		}
 
 		Class<?> targetType = getTargetType(idProperty);
 
+		Map<CqlIdentifier, Object> where = new LinkedHashMap<>();
+
 		if (getConversionService().canConvert(id.getClass(), targetType)) {
-			return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(),
-					getPotentiallyConvertedSimpleValue(Optional.of(id), (Class<Object>) targetType).orElse(null)));
+			where.put(idProperty.getColumnName(),
+					getPotentiallyConvertedSimpleValue(Optional.of(id), (Class<Object>) targetType).orElse(null));
+		} else {
+			where.put(idProperty.getColumnName(), id);
 		}
 
-		return Collections.singleton(QueryBuilder.eq(idProperty.getColumnName().toCql(), id));
+		return where;
 	}
 
 	private Object extractId(Object source, CassandraPersistentEntity<?> entity) {
@@ -544,28 +868,28 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return source;
 	}
 
-	private Collection<Clause> getWhereClauses(final ConvertingPropertyAccessor accessor,
+	private Map<CqlIdentifier, Object> getWhereValues(final ConvertingPropertyAccessor accessor,
 			CassandraPersistentEntity<?> entity) {
 
 		Assert.isTrue(entity.isCompositePrimaryKey(),
 				String.format("Entity [%s] is not a composite primary key", entity.getName()));
 
-		Collection<Clause> clauses = new ArrayList<>();
+		Map<CqlIdentifier, Object> where = new LinkedHashMap<>();
 
 		entity.getPersistentProperties().forEach(property -> {
 			TypeCodec<Object> codec = getCodec(property);
 			Optional<Object> value = accessor.getProperty(property, codec.getJavaType().getRawType());
-			clauses.add(QueryBuilder.eq(property.getColumnName().toCql(), value.orElse(null)));
+			where.put(property.getColumnName(), value.orElse(null));
 		});
 
-		return clauses;
+		return where;
 	}
 
-	private Collection<Clause> getWhereClauses(MapId id, CassandraPersistentEntity<?> entity) {
+	private Map<CqlIdentifier, Object> getWhereValues(MapId id, CassandraPersistentEntity<?> entity) {
 
 		Assert.notNull(id, "MapId must not be null");
 
-		Collection<Clause> clauses = new ArrayList<>();
+		Map<CqlIdentifier, Object> where = new LinkedHashMap<>();
 
 		for (Entry<String, Object> entry : id.entrySet()) {
 
@@ -577,10 +901,22 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 
 			Optional<Object> writeValue = getWriteValue(Optional.ofNullable(entry.getValue()),
 					persistentProperty.getTypeInformation());
-			clauses.add(QueryBuilder.eq(persistentProperty.getColumnName().toCql(), writeValue.orElse(null)));
+			where.put(persistentProperty.getColumnName(), writeValue.orElse(null));
 		}
 
-		return clauses;
+		return where;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.convert.CassandraConverter#getPrimaryKeyValues(java.lang.Object, org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity)
+	 */
+	@Override
+	public Map<CqlIdentifier, Object> getPrimaryKeyValues(Object objectOrId, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(objectOrId, "Object or id must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		return getWhereValues(LazyLoadingProxyFactory.unwrap(objectOrId), entity);
 	}
 
 	@Override
@@ -673,7 +1009,7 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return property.getType();
 		}
 
-		TypeCodec<Object> codec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getMappingContext().getDataType(property));
+		TypeCodec<Object> codec = codecRegistry.codecFor(getMappingContext().getDataType(property));
 
 		return codec.getJavaType().getRawType();
 	}
@@ -692,6 +1028,29 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 				property.getTypeInformation());
 	}
 
+	/**
+	 * Convert {@code value} to the write {@code targetType} and apply custom, collection element and UDT conversion.
+	 *
+	 * @param value the property value, may be {@literal null}.
+	 * @param targetType the write target type.
+	 * @param typeInformation the property type information.
+	 * @return the value to write, may be {@literal null}.
+	 */
+	Object getWriteValue(Object value, Class<?> targetType, TypeInformation<?> typeInformation) {
+
+		if (value instanceof LazyLoadingProxy) {
+			return getWriteValue(LazyLoadingProxyFactory.unwrap(value), targetType, typeInformation);
+		}
+
+		if (value == null) {
+			return null;
+		}
+
+		Object targetValue = targetType.isInstance(value) ? value : getConversionService().convert(value, targetType);
+
+		return getWriteValue(Optional.ofNullable(targetValue), typeInformation).orElse(null);
+	}
+
 	/**
 	 * Retrieve the value from {@code value} applying the given {@link TypeInformation} and perform optionally a
 	 * conversion of collection element types.
@@ -707,6 +1066,10 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return Optional.empty();
 		}
 
+		if (optional.get() instanceof LazyLoadingProxy) {
+			return getWriteValue(Optional.ofNullable((I) LazyLoadingProxyFactory.unwrap(optional.get())), typeInformation);
+		}
+
 		I value = optional.get();
 
 		Class<O> requestedTargetType = Optional.ofNullable(typeInformation).map(typeInfo -> (Class<O>) typeInfo.getType())
@@ -856,13 +1219,27 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return Optional.of((T) instantiatePrimaryKey(keyEntity, property, row));
 		}
 
-		Optional<Object> obj = row.getPropertyValue(property);
+		return readValue(row.getPropertyValue(property).orElse(null), property);
+	}
 
-		if (!obj.isPresent()) {
+	/**
+	 * Perform optionally a conversion of the given raw column {@code value} into the type of the given
+	 * {@link CassandraPersistentProperty}.
+	 *
+	 * @param value the raw column value, may be {@literal null}.
+	 * @param property the property.
+	 * @return the return value, may be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Optional<T> readValue(Object value, CassandraPersistentProperty property) {
+
+		if (value == null) {
 			return Optional.empty();
 		}
 
-		if (getCustomConversions().hasCustomWriteTarget(property.getActualType()) && property.isCollectionLike()) {
+		Optional<Object> obj = Optional.of(value);
+
+		if (property.isCollectionLike() && requiresElementConversion(property)) {
 
 			if (obj.filter(it -> it instanceof Collection).isPresent()) {
 
@@ -915,6 +1292,17 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		Class<?> rawComponentType = componentType.map(TypeInformation::getType).orElse((Class) List.class);
 
 		collectionType = Collection.class.isAssignableFrom(collectionType) ? collectionType : List.class;
+
+		Optional<BasicCassandraPersistentEntity<?>> cassandraPersistentEntity = sourceValue.isEmpty() ? Optional.empty()
+				: componentType.flatMap(it -> getMappingContext().getPersistentEntity(it))
+						.filter(CassandraPersistentEntity::isUserDefinedType);
+
+		// decoded driver collections are mutable and can be used as-is if no element requires conversion
+		if (!cassandraPersistentEntity.isPresent() && !targetType.getType().isArray()
+				&& collectionType.isInstance(sourceValue) && containsOnlyInstancesOf(sourceValue, rawComponentType)) {
+			return sourceValue;
+		}
+
 		Collection<Object> items = targetType.getType().isArray() ? new ArrayList<>()
 				: CollectionFactory.createCollection(collectionType, rawComponentType, sourceValue.size());
 
@@ -922,10 +1310,6 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 			return getPotentiallyConvertedSimpleRead(items, collectionType);
 		}
 
-		Optional<BasicCassandraPersistentEntity<?>> cassandraPersistentEntity = componentType
-				.flatMap(it -> getMappingContext().getPersistentEntity(it))
-				.filter(CassandraPersistentEntity::isUserDefinedType);
-
 		if (cassandraPersistentEntity.isPresent()) {
 
 			cassandraPersistentEntity.ifPresent(persistentEntity -> {
@@ -943,8 +1327,36 @@ public class MappingCassandraConverter extends AbstractCassandraConverter
 		return getPotentiallyConvertedSimpleRead(items, targetType.getType());
 	}
 
+	private static boolean containsOnlyInstancesOf(Collection<?> collection, Class<?> type) {
+
+		for (Object element : collection) {
+			if (element == null || !type.isInstance(element)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns whether elements of the collection-like {@link CassandraPersistentProperty} are subject to custom
+	 * conversion. The decision is cached per property until {@link CustomConversions} change.
+	 */
+	private boolean requiresElementConversion(CassandraPersistentProperty property) {
+
+		Boolean requiresConversion = elementConversions.get(property);
+
+		if (requiresConversion == null) {
+
+			requiresConversion = getCustomConversions().hasCustomWriteTarget(property.getActualType());
+			elementConversions.put(property, requiresConversion);
+		}
+
+		return requiresConversion;
+	}
+
 	private TypeCodec<Object> getCodec(CassandraPersistentProperty property) {
-		return CodecRegistry.DEFAULT_INSTANCE.codecFor(mappingContext.getDataType(property));
+		return codecRegistry.codecFor(mappingContext.getDataType(property));
 	}
 
 	/**
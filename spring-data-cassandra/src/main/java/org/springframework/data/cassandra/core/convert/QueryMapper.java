@@ -18,6 +18,7 @@ package org.springframework.data.cassandra.core.convert;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -35,6 +36,7 @@ import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition.Predicate;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.TupleCriteria;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
@@ -120,20 +122,18 @@ public class QueryMapper {
 
 		for (CriteriaDefinition criteriaDefinition : filter) {
 
+			if (criteriaDefinition instanceof TupleCriteria) {
+				result.add(getMappedTupleCriteria((TupleCriteria) criteriaDefinition, entity));
+				continue;
+			}
+
 			Field field = createPropertyField(entity, criteriaDefinition.getColumnName());
 
 			Predicate predicate = criteriaDefinition.getPredicate();
 
-			field.getProperty().filter(CassandraPersistentProperty::isCompositePrimaryKey).ifPresent(it -> {
-				throw new IllegalArgumentException(
-						"Cannot use composite primary key directly. Reference a property of the composite primary key");
-			});
-
-			Optional<Object> value = Optional.ofNullable(predicate.getValue());
-			TypeInformation<?> typeInformation = getTypeInformation(field, value);
-			Optional<Object> mappedValue = getConverter().convertToColumnType(value, typeInformation);
+			Object mappedValue = getMappedValue(field, predicate.getValue());
 
-			Predicate mappedPredicate = new Predicate(predicate.getOperator(), mappedValue.orElse(null));
+			Predicate mappedPredicate = new Predicate(predicate.getOperator(), mappedValue);
 
 			result.add(Criteria.of(field.getMappedKey(), mappedPredicate));
 		}
@@ -141,6 +141,40 @@ public class QueryMapper {
 		return Filter.from(result);
 	}
 
+	/**
+	 * Map a multi-column {@link TupleCriteria} by mapping each column name and converting each value to its column
+	 * type.
+	 */
+	private CriteriaDefinition getMappedTupleCriteria(TupleCriteria criteria, CassandraPersistentEntity<?> entity) {
+
+		List<ColumnName> mappedColumnNames = new ArrayList<>();
+		List<Object> mappedValues = new ArrayList<>();
+		Iterator<?> values = ((List<?>) criteria.getPredicate().getValue()).iterator();
+
+		for (ColumnName columnName : criteria.getColumnNames()) {
+
+			Field field = createPropertyField(entity, columnName);
+
+			mappedColumnNames.add(field.getMappedKey());
+			mappedValues.add(getMappedValue(field, values.next()));
+		}
+
+		return TupleCriteria.of(mappedColumnNames, new Predicate(criteria.getPredicate().getOperator(), mappedValues));
+	}
+
+	private Object getMappedValue(Field field, Object value) {
+
+		field.getProperty().filter(CassandraPersistentProperty::isCompositePrimaryKey).ifPresent(it -> {
+			throw new IllegalArgumentException(
+					"Cannot use composite primary key directly. Reference a property of the composite primary key");
+		});
+
+		Optional<Object> optionalValue = Optional.ofNullable(value);
+		TypeInformation<?> typeInformation = getTypeInformation(field, optionalValue);
+
+		return getConverter().convertToColumnType(optionalValue, typeInformation).orElse(null);
+	}
+
 	/**
 	 * Map {@link Columns} with a {@link CassandraPersistentEntity type hint} to {@link ColumnSelector}s.
 	 *
@@ -28,6 +28,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanClassLoaderAware;
@@ -85,6 +86,8 @@ public class CassandraMappingContext
 	private final Map<CqlIdentifier, Set<CassandraPersistentEntity<?>>> entitySetsByTableName = new HashMap<>();
 	private final Set<BasicCassandraPersistentEntity<?>> userDefinedTypes = new HashSet<>();
 	private final Set<BasicCassandraPersistentEntity<?>> tableEntities = new HashSet<>();
+	private final Map<CassandraPersistentProperty, DataType> propertyDataTypes = new ConcurrentHashMap<>();
+	private final Map<Class<?>, DataType> typeDataTypes = new ConcurrentHashMap<>();
 
 	/**
 	 * Create a new {@link CassandraMappingContext}.
@@ -177,6 +180,7 @@ public class CassandraMappingContext
 		Assert.notNull(customConversions, "CustomConversions must not be null");
 
 		this.customConversions = customConversions;
+		clearDataTypeCaches();
 	}
 
 	/**
@@ -202,6 +206,29 @@ public class CassandraMappingContext
 		Assert.notNull(userTypeResolver, "UserTypeResolver must not be null");
 
 		this.userTypeResolver = userTypeResolver;
+		clearDataTypeCaches();
+	}
+
+	/**
+	 * Evict all {@link com.datastax.driver.core.UserType user types} resolved through the {@link UserTypeResolver} along
+	 * with cached {@link DataType data types}. User types are resolved again on next access. Should be called when user
+	 * types are altered or dropped, see {@link UserTypeChangeListener}.
+	 *
+	 * @since 2.0
+	 */
+	public void evictUserTypes() {
+
+		getUserDefinedTypeEntities().stream() //
+				.filter(CassandraUserTypePersistentEntity.class::isInstance) //
+				.forEach(entity -> ((CassandraUserTypePersistentEntity<?>) entity).evictUserType());
+
+		clearDataTypeCaches();
+	}
+
+	private void clearDataTypeCaches() {
+
+		this.propertyDataTypes.clear();
+		this.typeDataTypes.clear();
 	}
 
 	/**
@@ -445,7 +472,19 @@ public class CassandraMappingContext
 	 * @since 1.5
 	 */
 	public DataType getDataType(CassandraPersistentProperty property) {
-		return getDataTypeWithUserTypeFactory(property, DataTypeProvider.EntityUserType);
+
+		DataType dataType = propertyDataTypes.get(property);
+
+		if (dataType == null) {
+
+			dataType = getDataTypeWithUserTypeFactory(property, DataTypeProvider.EntityUserType);
+
+			if (dataType != null) {
+				propertyDataTypes.put(property, dataType);
+			}
+		}
+
+		return dataType;
 	}
 
 	private DataType getDataTypeWithUserTypeFactory(CassandraPersistentProperty property,
@@ -541,9 +580,20 @@ public class CassandraMappingContext
 	 */
 	public DataType getDataType(Class<?> type) {
 
-		return customConversions.getCustomWriteTarget(type) //
-				.map(CassandraSimpleTypeHolder::getDataTypeFor) //
-				.orElseGet(() -> getDataTypeFor(type));
+		DataType dataType = typeDataTypes.get(type);
+
+		if (dataType == null) {
+
+			dataType = customConversions.getCustomWriteTarget(type) //
+					.map(CassandraSimpleTypeHolder::getDataTypeFor) //
+					.orElseGet(() -> getDataTypeFor(type));
+
+			if (dataType != null) {
+				typeDataTypes.put(type, dataType);
+			}
+		}
+
+		return dataType;
 	}
 
 	/**
@@ -98,4 +98,14 @@ public class CassandraUserTypePersistentEntity<T> extends BasicCassandraPersiste
 
 		return userType;
 	}
+
+	/**
+	 * Evict the resolved {@link UserType} so it is resolved again on next access.
+	 */
+	void evictUserType() {
+
+		synchronized (lock) {
+			this.userType = null;
+		}
+	}
 }
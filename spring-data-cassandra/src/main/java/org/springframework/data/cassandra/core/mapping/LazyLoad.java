@@ -0,0 +1,39 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a property to be materialized lazily when reading an entity from a {@link com.datastax.driver.core.Row}. The
+ * property is set to a proxy that retains the {@link com.datastax.driver.core.Row} and decodes and converts the column
+ * value on first access. {@code null} column values are set as {@literal null} without creating a proxy.
+ * <p>
+ * Lazy loading requires the property type to be an interface (such as {@link java.util.List}, {@link java.util.Set} or
+ * {@link java.util.Map}) or a non-final class. Properties of other types, composite primary keys and properties set
+ * through the persistence constructor are read eagerly.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { ElementType.ANNOTATION_TYPE, ElementType.FIELD, ElementType.METHOD })
+public @interface LazyLoad {}
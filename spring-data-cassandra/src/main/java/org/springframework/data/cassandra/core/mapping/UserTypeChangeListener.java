@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.mapping;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.SchemaChangeListener;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.UserType;
+
+/**
+ * {@link SchemaChangeListener} evicting resolved {@link UserType}s from a {@link CassandraMappingContext} when a user
+ * type is altered or dropped so that mapped user-defined types pick up the current type definition. Register the
+ * listener with {@link com.datastax.driver.core.Cluster#register(SchemaChangeListener)}.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see CassandraMappingContext#evictUserTypes()
+ */
+public class UserTypeChangeListener extends SchemaChangeListenerBase {
+
+	private final CassandraMappingContext mappingContext;
+
+	/**
+	 * Create a new {@link UserTypeChangeListener} for the given {@link CassandraMappingContext}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public UserTypeChangeListener(CassandraMappingContext mappingContext) {
+
+		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeChanged(com.datastax.driver.core.UserType, com.datastax.driver.core.UserType)
+	 */
+	@Override
+	public void onUserTypeChanged(UserType current, UserType previous) {
+		mappingContext.evictUserTypes();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeRemoved(com.datastax.driver.core.UserType)
+	 */
+	@Override
+	public void onUserTypeRemoved(UserType type) {
+		mappingContext.evictUserTypes();
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Cassandra-specific {@link PageRequest} implementation carrying a {@link PagingState}. Cassandra does not support
+ * skipping to an arbitrary page. Pages other than the first page (0) can be requested only by continuing from the
+ * {@link PagingState} of the previous page, so a {@link CassandraPageRequest} is typically obtained from
+ * {@link org.springframework.data.domain.Slice#nextPageable()}.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class CassandraPageRequest extends PageRequest {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient PagingState pagingState;
+
+	private final boolean nextAllowed;
+
+	private CassandraPageRequest(int page, int size, Sort sort, PagingState pagingState, boolean nextAllowed) {
+
+		super(page, size, sort);
+
+		this.pagingState = pagingState;
+		this.nextAllowed = nextAllowed;
+	}
+
+	/**
+	 * Create a new unsorted {@link CassandraPageRequest} for the first page (0).
+	 *
+	 * @param size the size of the page to be returned.
+	 * @return the {@link CassandraPageRequest} for the first page.
+	 */
+	public static CassandraPageRequest first(int size) {
+		return first(size, Sort.unsorted());
+	}
+
+	/**
+	 * Create a new {@link CassandraPageRequest} for the first page (0) with the given {@link Sort}.
+	 *
+	 * @param size the size of the page to be returned.
+	 * @param sort must not be {@literal null}.
+	 * @return the {@link CassandraPageRequest} for the first page.
+	 */
+	public static CassandraPageRequest first(int size, Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		return new CassandraPageRequest(0, size, sort, null, false);
+	}
+
+	/**
+	 * Create a new {@link CassandraPageRequest} from the given {@link Pageable} and the {@link PagingState} to continue
+	 * with. The resulting {@link CassandraPageRequest} allows requesting the {@link #next()} page if {@code pagingState}
+	 * is not {@literal null}.
+	 *
+	 * @param current must not be {@literal null}.
+	 * @param pagingState the {@link PagingState} to fetch the next page, may be {@literal null} if the result is fully
+	 *          fetched.
+	 * @return the {@link CassandraPageRequest}.
+	 */
+	public static CassandraPageRequest of(Pageable current, PagingState pagingState) {
+
+		Assert.notNull(current, "Pageable must not be null");
+
+		return new CassandraPageRequest(current.getPageNumber(), current.getPageSize(), current.getSort(), pagingState,
+				pagingState != null);
+	}
+
+	/**
+	 * Apply fetch size and {@link PagingState} of the {@link Pageable} to the {@link Statement}. The page size is
+	 * applied as fetch size. The {@link PagingState} is applied if {@code pageable} is a {@link CassandraPageRequest}
+	 * carrying a {@link PagingState}.
+	 *
+	 * @param statement must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return the {@link Statement}.
+	 * @throws IllegalArgumentException if {@code pageable} requests a page other than the first page (0) without
+	 *           providing a {@link PagingState}.
+	 */
+	public static Statement apply(Statement statement, Pageable pageable) {
+
+		Assert.notNull(statement, "Statement must not be null");
+		Assert.notNull(pageable, "Pageable must not be null");
+
+		PagingState pagingState = pageable instanceof CassandraPageRequest
+				? ((CassandraPageRequest) pageable).getPagingState() : null;
+
+		Assert.isTrue(pageable.getPageNumber() == 0 || pagingState != null,
+				"Cannot query a page other than the first page (0) without a PagingState; "
+						+ "Use Slice.nextPageable() to obtain the next page request");
+
+		statement.setFetchSize(pageable.getPageSize());
+
+		if (pagingState != null) {
+			statement.setPagingState(pagingState);
+		}
+
+		return statement;
+	}
+
+	/**
+	 * @return the {@link PagingState} for the current page, may be {@literal null} for the first page.
+	 */
+	public PagingState getPagingState() {
+		return this.pagingState;
+	}
+
+	/**
+	 * @return {@literal true} if there is a next page that can be requested using {@link #next()}.
+	 */
+	public boolean hasNext() {
+		return this.pagingState != null && this.nextAllowed;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public CassandraPageRequest next() {
+
+		Assert.state(hasNext(), "Cannot create a next page request without a PagingState");
+
+		return new CassandraPageRequest(getPageNumber() + 1, getPageSize(), getSort(), this.pagingState, false);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof CassandraPageRequest)) {
+			return false;
+		}
+
+		CassandraPageRequest that = (CassandraPageRequest) obj;
+
+		return super.equals(that) && this.nextAllowed == that.nextAllowed
+				&& String.valueOf(this.pagingState).equals(String.valueOf(that.pagingState));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * super.hashCode() + String.valueOf(this.pagingState).hashCode();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Cassandra page request [number: %d, size %d, sort: %s, paging state: %s]", getPageNumber(),
+				getPageSize(), getSort(), this.pagingState);
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition.Operators;
+import org.springframework.data.cql.core.Ordering;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.PropertyHandler;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.Assert;
+
+/**
+ * Value object capturing the clustering column values of the last seen row to continue reading a partition from that
+ * position (keyset pagination). A {@link Keyset} is rendered as multi-column relation such as
+ * {@code (ck1, ck2) > (?, ?)} through {@link #toCriteria()}.
+ * <p>
+ * Unlike a {@link com.datastax.driver.core.PagingState}, a {@link Keyset} is not bound to a particular statement and
+ * consists only of plain column values. It can be shared across application instances and stored in a URL to build
+ * stateless cursors. Keys are property names (or property paths such as {@code key.timestamp} for composite primary
+ * keys) that are mapped to column names when rendering the query.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see TupleCriteria
+ */
+public class Keyset {
+
+	private final Map<String, Object> values;
+
+	private final Operators operator;
+
+	private Keyset(Map<String, Object> values, Operators operator) {
+
+		this.values = values;
+		this.operator = operator;
+	}
+
+	/**
+	 * Create a {@link Keyset} selecting rows whose clustering columns are greater than the given {@code values}.
+	 *
+	 * @param values must not be {@literal null} or empty. Entries are clustering column properties in clustering order.
+	 * @return the {@link Keyset}.
+	 */
+	public static Keyset after(Map<String, ?> values) {
+		return of(values, Operators.GT);
+	}
+
+	/**
+	 * Create a {@link Keyset} selecting rows whose clustering columns are less than the given {@code values}.
+	 *
+	 * @param values must not be {@literal null} or empty. Entries are clustering column properties in clustering order.
+	 * @return the {@link Keyset}.
+	 */
+	public static Keyset before(Map<String, ?> values) {
+		return of(values, Operators.LT);
+	}
+
+	private static Keyset of(Map<String, ?> values, Operators operator) {
+
+		Assert.notEmpty(values, "Keyset values must not be empty");
+
+		values.forEach((key, value) -> Assert.notNull(value,
+				String.format("Keyset value for %s must not be null", key)));
+
+		return new Keyset(Collections.unmodifiableMap(new LinkedHashMap<>(values)), operator);
+	}
+
+	/**
+	 * Create a {@link Keyset} continuing after the given {@code entity} in clustering order. The {@link Keyset} captures
+	 * the clustering column values of {@code entity} and selects subsequent rows by comparing with {@code >} for
+	 * {@link Ordering#ASCENDING ascending} and with {@code <} for {@link Ordering#DESCENDING descending} clustering
+	 * columns.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return the {@link Keyset} to continue after {@code entity}.
+	 * @throws IllegalArgumentException if the entity has no clustering columns or if clustering columns declare mixed
+	 *           orderings.
+	 */
+	public static Keyset from(Object entity,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		List<Ordering> orderings = new ArrayList<>();
+
+		collectClusteringColumns(entity, "", mappingContext.getRequiredPersistentEntity(entity.getClass()),
+				mappingContext, values, orderings);
+
+		Assert.isTrue(!values.isEmpty(),
+				String.format("Entity %s does not declare clustering columns", entity.getClass().getName()));
+		Assert.isTrue(orderings.stream().distinct().count() == 1, String.format(
+				"Keyset pagination requires clustering columns of %s to use the same ordering", entity.getClass().getName()));
+
+		return of(values, orderings.get(0) == Ordering.DESCENDING ? Operators.LT : Operators.GT);
+	}
+
+	private static void collectClusteringColumns(Object entity, String prefix,
+			CassandraPersistentEntity<?> persistentEntity,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext,
+			Map<String, Object> values, List<Ordering> orderings) {
+
+		PersistentPropertyAccessor accessor = persistentEntity.getPropertyAccessor(entity);
+
+		persistentEntity.doWithProperties((PropertyHandler<CassandraPersistentProperty>) property -> {
+
+			if (property.isCompositePrimaryKey()) {
+
+				CassandraPersistentEntity<?> keyEntity = mappingContext.getRequiredPersistentEntity(property.getRawType());
+
+				accessor.getProperty(property).ifPresent(key -> collectClusteringColumns(key,
+						prefix + property.getName() + ".", keyEntity, mappingContext, values, orderings));
+
+			} else if (property.isClusterKeyColumn()) {
+
+				values.put(prefix + property.getName(), accessor.getProperty(property).orElse(null));
+				orderings.add(property.getPrimaryKeyOrdering().orElse(Ordering.ASCENDING));
+			}
+		});
+	}
+
+	/**
+	 * @return the clustering column values keyed by property name in clustering order.
+	 */
+	public Map<String, Object> getValues() {
+		return this.values;
+	}
+
+	/**
+	 * @return {@literal true} if this {@link Keyset} selects rows greater than its values, {@literal false} if it
+	 *         selects rows less than its values.
+	 */
+	public boolean isAfter() {
+		return this.operator == Operators.GT;
+	}
+
+	/**
+	 * Create a {@link CriteriaDefinition} representing this {@link Keyset} as multi-column relation.
+	 *
+	 * @return the {@link TupleCriteria}.
+	 */
+	public CriteriaDefinition toCriteria() {
+
+		List<ColumnName> columnNames = new ArrayList<>(this.values.size());
+
+		this.values.keySet().forEach(property -> columnNames.add(ColumnName.from(property)));
+
+		return TupleCriteria.of(columnNames, this.operator, this.values.values().toArray());
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof Keyset)) {
+			return false;
+		}
+
+		Keyset that = (Keyset) obj;
+
+		return this.operator == that.operator && this.values.equals(that.values);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * this.operator.hashCode() + this.values.hashCode();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Keyset %s %s", isAfter() ? "after" : "before", this.values);
+	}
+}
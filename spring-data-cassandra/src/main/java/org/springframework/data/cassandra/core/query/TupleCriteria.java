@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+/**
+ * Multi-column {@link CriteriaDefinition} comparing a tuple of columns with a tuple of values such as
+ * {@code (ck1, ck2) > (?, ?)}. Multi-column relations are supported only for clustering columns and the comparison
+ * operators {@code =}, {@code >}, {@code >=}, {@code <} and {@code <=}. The {@link Predicate} value is a {@link List}
+ * containing one value per column.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see Keyset
+ */
+public class TupleCriteria implements CriteriaDefinition {
+
+	private final List<ColumnName> columnNames;
+
+	private final Predicate predicate;
+
+	private TupleCriteria(List<ColumnName> columnNames, Predicate predicate) {
+
+		this.columnNames = columnNames;
+		this.predicate = predicate;
+	}
+
+	/**
+	 * Create a new {@link TupleCriteria} for the given {@code columnNames} and {@link Predicate}.
+	 *
+	 * @param columnNames must not be {@literal null} or empty.
+	 * @param predicate must not be {@literal null}. The predicate value must be a {@link List} with one value per column.
+	 * @return the {@link TupleCriteria}.
+	 */
+	public static TupleCriteria of(List<ColumnName> columnNames, Predicate predicate) {
+
+		Assert.notEmpty(columnNames, "Column names must not be empty");
+		Assert.notNull(predicate, "Predicate must not be null");
+		Assert.isTrue(isComparison(predicate.getOperator()),
+				String.format("Operator %s is not supported for multi-column relations", predicate.getOperator()));
+		Assert.isInstanceOf(List.class, predicate.getValue(), "Predicate value must be a List");
+		Assert.isTrue(((List<?>) predicate.getValue()).size() == columnNames.size(),
+				"Number of values must match the number of columns");
+
+		return new TupleCriteria(Collections.unmodifiableList(new ArrayList<>(columnNames)),
+				new Predicate(predicate.getOperator(),
+						Collections.unmodifiableList(new ArrayList<>((List<?>) predicate.getValue()))));
+	}
+
+	/**
+	 * Create a new {@link TupleCriteria} for the given {@code columnNames}, {@link Operator} and {@code values}.
+	 *
+	 * @param columnNames must not be {@literal null} or empty.
+	 * @param operator must not be {@literal null}.
+	 * @param values must not be {@literal null}. Requires one value per column.
+	 * @return the {@link TupleCriteria}.
+	 */
+	public static TupleCriteria of(List<ColumnName> columnNames, Operator operator, Object... values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		return of(columnNames, new Predicate(operator, Arrays.asList(values)));
+	}
+
+	private static boolean isComparison(Operator operator) {
+		return operator == Operators.EQ || operator == Operators.GT || operator == Operators.GTE
+				|| operator == Operators.LT || operator == Operators.LTE;
+	}
+
+	/**
+	 * @return the column names of this tuple, in the order of the {@link Predicate} values.
+	 */
+	public List<ColumnName> getColumnNames() {
+		return this.columnNames;
+	}
+
+	/**
+	 * Returns the tuple of column names rendered as {@code (ck1, ck2)}.
+	 *
+	 * @see org.springframework.data.cassandra.core.query.CriteriaDefinition#getColumnName()
+	 */
+	@Override
+	public ColumnName getColumnName() {
+		return ColumnName.from(
+				this.columnNames.stream().map(ColumnName::toCql).collect(Collectors.joining(", ", "(", ")")));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.query.CriteriaDefinition#getPredicate()
+	 */
+	@Override
+	public Predicate getPredicate() {
+		return this.predicate;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+
+		if (!(obj instanceof TupleCriteria)) {
+			return false;
+		}
+
+		TupleCriteria that = (TupleCriteria) obj;
+
+		return this.columnNames.equals(that.columnNames) && this.predicate.equals(that.predicate);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return 31 * this.columnNames.hashCode() + this.predicate.hashCode();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		List<?> values = (List<?>) this.predicate.getValue();
+
+		return String.format("%s %s %s", getColumnName(), this.predicate.getOperator(), values.stream()
+				.map(value -> SerializationUtils.serializeToCqlSafely((Object) value))
+				.collect(Collectors.joining(", ", "(", ")")));
+	}
+}
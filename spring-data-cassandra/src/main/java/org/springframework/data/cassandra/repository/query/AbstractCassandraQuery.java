@@ -37,6 +37,7 @@ import org.springframework.data.cassandra.repository.query.CassandraQueryExecuti
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.ResultSetQuery;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
 import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.StreamExecution;
 import org.springframework.data.convert.CustomConversions;
 import org.springframework.data.convert.EntityInstantiators;
@@ -132,10 +133,10 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		Statement statement = createQuery(parameterAccessor);
+		Statement statement = createExecutableQuery(parameterAccessor);
 
-		CassandraQueryExecution queryExecution = getExecution(new ResultProcessingConverter(resultProcessor,
-				getOperations().getConverter().getMappingContext(), getEntityInstantiators()));
+		CassandraQueryExecution queryExecution = getExecution(parameterAccessor, new ResultProcessingConverter(
+				resultProcessor, getOperations().getConverter().getMappingContext(), getEntityInstantiators()));
 
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				getOperations().getConverter().getCustomConversions());
@@ -148,15 +149,20 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	/**
 	 * Returns the execution instance to use.
 	 *
+	 * @param parameterAccessor must not be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private CassandraQueryExecution getExecution(Converter<Object, Object> resultProcessing) {
-		return new ResultProcessingExecution(getExecutionToWrap(resultProcessing), resultProcessing);
+	private CassandraQueryExecution getExecution(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
+		return new ResultProcessingExecution(getExecutionToWrap(parameterAccessor, resultProcessing), resultProcessing);
 	}
 
-	private CassandraQueryExecution getExecutionToWrap(Converter<Object, Object> resultProcessing) {
+	private CassandraQueryExecution getExecutionToWrap(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
 
-		if (getQueryMethod().isCollectionQuery()) {
+		if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(getOperations(), parameterAccessor.getPageable());
+		} else if (getQueryMethod().isCollectionQuery()) {
 			return new CollectionExecution(getOperations());
 		} else if (getQueryMethod().isResultSetQuery()) {
 			return new ResultSetQuery(getOperations());
@@ -252,6 +258,18 @@ public abstract class AbstractCassandraQuery implements RepositoryQuery {
 	 */
 	protected abstract Statement createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Creates the {@link Statement} to execute using the given {@link ParameterAccessor}. Defaults to
+	 * {@link #createQuery(CassandraParameterAccessor)}. Subclasses may override this method to execute the query as a
+	 * prepared statement.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @since 2.0
+	 */
+	protected Statement createExecutableQuery(CassandraParameterAccessor accessor) {
+		return createQuery(accessor);
+	}
+
 	@RequiredArgsConstructor
 	private class CassandraReturnedType {
 
@@ -26,6 +26,7 @@ import org.springframework.data.cassandra.repository.query.ReactiveCassandraQuer
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.ResultProcessingConverter;
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.ResultProcessingExecution;
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.SingleEntityExecution;
+import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.SlicedExecution;
 import org.springframework.data.convert.EntityInstantiators;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
@@ -109,20 +110,25 @@ public abstract class AbstractReactiveCassandraQuery implements RepositoryQuery
 		CassandraParameterAccessor convertingParameterAccessor = new ConvertingParameterAccessor(
 				getReactiveCassandraOperations().getConverter(), parameterAccessor);
 
-		Statement statement = createQuery(convertingParameterAccessor);
+		Mono<? extends Statement> statement = createExecutableQuery(convertingParameterAccessor);
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor()
 				.withDynamicProjection(convertingParameterAccessor);
 
-		ReactiveCassandraQueryExecution queryExecution = getExecution(new ResultProcessingConverter(resultProcessor,
-				getReactiveCassandraOperations().getConverter().getMappingContext(), getEntityInstantiators()));
+		ReactiveCassandraQueryExecution queryExecution = getExecution(convertingParameterAccessor,
+				new ResultProcessingConverter(resultProcessor,
+						getReactiveCassandraOperations().getConverter().getMappingContext(), getEntityInstantiators()));
 
 		CassandraReturnedType returnedType = new CassandraReturnedType(resultProcessor.getReturnedType(),
 				getReactiveCassandraOperations().getConverter().getCustomConversions());
 
 		Class<?> resultType = (returnedType.isProjecting() ? returnedType.getDomainType() : returnedType.getReturnedType());
 
-		return queryExecution.execute(statement, resultType);
+		if (getQueryMethod().isCollectionQuery()) {
+			return statement.flatMapMany(it -> (Publisher<?>) queryExecution.execute(it, resultType));
+		}
+
+		return statement.flatMap(it -> (Mono<?>) queryExecution.execute(it, resultType));
 	}
 
 	/**
@@ -133,11 +139,32 @@ public abstract class AbstractReactiveCassandraQuery implements RepositoryQuery
 	protected abstract Statement createQuery(CassandraParameterAccessor accessor);
 
 	/**
-	 * Returns the execution instance to use.
+	 * Creates the {@link Statement} to execute using the given {@link ParameterAccessor}. Defaults to
+	 * {@link #createQuery(CassandraParameterAccessor)}. Subclasses may override this method to execute the query as a
+	 * prepared statement.
 	 *
+	 * @param accessor must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link Statement} to execute.
+	 * @since 2.0
+	 */
+	protected Mono<? extends Statement> createExecutableQuery(CassandraParameterAccessor accessor) {
+		return Mono.just(createQuery(accessor));
+	}
+
+	/**
+	 * Returns the execution instance to use. {@link org.springframework.data.domain.Slice} executions apply result
+	 * processing to the emitted {@link org.springframework.data.domain.Slice} themselves.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
 	 * @param resultProcessing must not be {@literal null}. @return
 	 */
-	private ReactiveCassandraQueryExecution getExecution(Converter<Object, Object> resultProcessing) {
+	private ReactiveCassandraQueryExecution getExecution(CassandraParameterAccessor parameterAccessor,
+			Converter<Object, Object> resultProcessing) {
+
+		if (getQueryMethod().isSliceQuery()) {
+			return new SlicedExecution(getReactiveCassandraOperations(), parameterAccessor.getPageable(), resultProcessing);
+		}
+
 		return new ResultProcessingExecution(getExecutionToWrap(), resultProcessing);
 	}
 
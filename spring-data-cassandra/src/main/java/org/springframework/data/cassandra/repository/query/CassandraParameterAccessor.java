@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.repository.query.ParameterAccessor;
 
 import com.datastax.driver.core.DataType;
@@ -67,4 +68,15 @@ public interface CassandraParameterAccessor extends ParameterAccessor {
 	 * @since 1.5
 	 */
 	Object[] getValues();
+
+	/**
+	 * Returns the {@link Keyset} to continue the query from the last seen clustering column values.
+	 *
+	 * @return the {@link Keyset} or {@literal null} if the method does not declare a {@link Keyset} parameter or the
+	 *         argument is {@literal null}.
+	 * @since 2.0
+	 */
+	default Keyset getKeyset() {
+		return null;
+	}
 }
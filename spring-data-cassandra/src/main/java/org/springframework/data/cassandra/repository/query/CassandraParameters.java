@@ -24,6 +24,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.cassandra.repository.query.CassandraParameters.CassandraParameter;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.Parameters;
@@ -39,17 +40,47 @@ import org.springframework.util.Assert;
  */
 public class CassandraParameters extends Parameters<CassandraParameters, CassandraParameter> {
 
+	private final int keysetIndex;
+
 	/**
 	 * Create a new {@link CassandraParameters} instance from the given {@link Method}
 	 *
 	 * @param method must not be {@literal null}.
 	 */
 	public CassandraParameters(Method method) {
+
 		super(method);
+
+		this.keysetIndex = findKeysetIndex();
 	}
 
 	private CassandraParameters(List<CassandraParameter> originals) {
+
 		super(originals);
+
+		this.keysetIndex = findKeysetIndex();
+	}
+
+	private int findKeysetIndex() {
+
+		for (CassandraParameter parameter : this) {
+			if (parameter.isKeysetParameter()) {
+				return parameter.getIndex();
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Returns the index of the {@link Keyset} parameter.
+	 *
+	 * @return the index of the {@link Keyset} parameter or {@literal -1} if the method does not declare a {@link Keyset}
+	 *         parameter.
+	 * @since 2.0
+	 */
+	public int getKeysetIndex() {
+		return this.keysetIndex;
 	}
 
 	/* (non-Javadoc)
@@ -110,6 +141,25 @@ public class CassandraParameters extends Parameters<CassandraParameters, Cassand
 			return cassandraType;
 		}
 
+		/**
+		 * Returns whether the parameter is a {@link Keyset} to continue a query from the last seen clustering column
+		 * values.
+		 *
+		 * @return {@literal true} if the parameter is a {@link Keyset}.
+		 * @since 2.0
+		 */
+		public boolean isKeysetParameter() {
+			return Keyset.class.isAssignableFrom(getType());
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.Parameter#isSpecialParameter()
+		 */
+		@Override
+		public boolean isSpecialParameter() {
+			return super.isSpecialParameter() || isKeysetParameter();
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.repository.query.Parameter#getType()
 		 */
@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.springframework.data.cassandra.core.mapping.CassandraSimpleTypeHolder;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 
@@ -97,4 +98,15 @@ public class CassandraParametersParameterAccessor extends ParametersParameterAcc
 	public Object[] getValues() {
 		return values.toArray();
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getKeyset()
+	 */
+	@Override
+	public Keyset getKeyset() {
+
+		int index = getParameters().getKeysetIndex();
+
+		return (index != -1 ? getValue(index) : null);
+	}
 }
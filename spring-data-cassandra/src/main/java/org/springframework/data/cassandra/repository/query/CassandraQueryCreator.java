@@ -27,6 +27,7 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.repository.query.ConvertingParameterAccessor.PotentiallyConvertingIterator;
 import org.springframework.data.domain.Sort;
@@ -53,6 +54,8 @@ class CassandraQueryCreator extends AbstractQueryCreator<Query, CriteriaDefiniti
 
 	private final MappingContext<?, CassandraPersistentProperty> mappingContext;
 
+	private final CassandraParameterAccessor accessor;
+
 	private final QueryBuilder queryBuilder = new QueryBuilder();
 
 	/**
@@ -71,6 +74,7 @@ class CassandraQueryCreator extends AbstractQueryCreator<Query, CriteriaDefiniti
 		Assert.notNull(mappingContext, "CassandraMappingContext must not be null");
 
 		this.mappingContext = mappingContext;
+		this.accessor = accessor;
 	}
 
 	/**
@@ -143,6 +147,12 @@ class CassandraQueryCreator extends AbstractQueryCreator<Query, CriteriaDefiniti
 			getQueryBuilder().and(criteria);
 		}
 
+		Keyset keyset = this.accessor.getKeyset();
+
+		if (keyset != null) {
+			getQueryBuilder().and(keyset.toCriteria());
+		}
+
 		Query query = getQueryBuilder().create(sort);
 
 		if (LOG.isDebugEnabled()) {
@@ -18,16 +18,25 @@ package org.springframework.data.cassandra.repository.query;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.Statement;
 
 /**
@@ -60,6 +69,47 @@ interface CassandraQueryExecution {
 		}
 	}
 
+	/**
+	 * {@link CassandraQueryExecution} for {@link org.springframework.data.domain.Slice} returning queries. Fetches a
+	 * single page using the page size as fetch size and carries the {@link PagingState} in the
+	 * {@link org.springframework.data.domain.Slice#nextPageable() next page request}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements CassandraQueryExecution {
+
+		private final @NonNull CassandraOperations operations;
+		private final @NonNull Pageable pageable;
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			if (pageable.isUnpaged()) {
+				return new SliceImpl<>(operations.select(statement, type));
+			}
+
+			ResultSet resultSet = operations.getCqlOperations()
+					.queryForResultSet(CassandraPageRequest.apply(statement, pageable));
+
+			CassandraConverter converter = operations.getConverter();
+			int available = resultSet.getAvailableWithoutFetching();
+			List<Object> content = new ArrayList<>(available);
+
+			for (int index = 0; index < available; index++) {
+				content.add(converter.read(type, resultSet.one()));
+			}
+
+			PagingState pagingState = resultSet.getExecutionInfo().getPagingState();
+
+			return new SliceImpl<>(content, CassandraPageRequest.of(pageable, pagingState), pagingState != null);
+		}
+	}
+
 	/**
 	 * {@link CassandraQueryExecution} for collection returning queries.
 	 *
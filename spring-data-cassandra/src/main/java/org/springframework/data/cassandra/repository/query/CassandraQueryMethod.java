@@ -74,14 +74,29 @@ public class CassandraQueryMethod extends QueryMethod {
 	}
 
 	/**
-	 * Validates that this query is not a page or slice query.
+	 * Validates that this query is not a page query and that slice queries declare a
+	 * {@link org.springframework.data.domain.Pageable} parameter. Page queries are not supported as Cassandra does not
+	 * provide an efficient way to count the total number of results. String-based queries must not declare a
+	 * {@link org.springframework.data.cassandra.core.query.Keyset} parameter as a keyset can be applied only to derived
+	 * queries.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
 
-		// TODO: support Page & Slice queries
-		if (isSliceQuery() || isPageQuery()) {
-			throw new InvalidDataAccessApiUsageException("Slice and Page queries are not supported");
+		if (isPageQuery()) {
+			throw new InvalidDataAccessApiUsageException("Page queries are not supported. Use a Slice query.");
+		}
+
+		if (isSliceQuery() && !getParameters().hasPageableParameter()) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("Slice query method %s must declare a Pageable parameter", method));
+		}
+
+		Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+
+		if (query != null && StringUtils.hasText(query.value()) && getParameters().getKeysetIndex() != -1) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("String-based query method %s must not declare a Keyset parameter", method));
 		}
 	}
 
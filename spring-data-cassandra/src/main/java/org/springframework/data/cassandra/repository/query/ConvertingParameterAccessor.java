@@ -24,13 +24,13 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.mapping.CassandraSimpleTypeHolder;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
-import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.CollectionType;
 import com.datastax.driver.core.TypeCodec;
@@ -138,6 +138,14 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 		return delegate.getValues();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getKeyset()
+	 */
+	@Override
+	public Keyset getKeyset() {
+		return delegate.getKeyset();
+	}
+
 	@SuppressWarnings("unchecked")
 	private Object potentiallyConvert(int index, Optional<Object> bindableValue) {
 
@@ -159,7 +167,7 @@ class ConvertingParameterAccessor implements CassandraParameterAccessor {
 			Optional<CassandraPersistentProperty> property) {
 
 		if (delegate.findCassandraType(index) != null) {
-			TypeCodec<?> typeCodec = CodecRegistry.DEFAULT_INSTANCE.codecFor(getDataType(index, property));
+			TypeCodec<?> typeCodec = converter.getCodecRegistry().codecFor(getDataType(index, property));
 
 			if (typeCodec.getJavaType().getType() instanceof Class<?>) {
 				return ClassTypeInformation.from((Class<?>) typeCodec.getJavaType().getType());
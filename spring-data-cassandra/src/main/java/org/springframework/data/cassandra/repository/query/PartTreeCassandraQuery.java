@@ -17,22 +17,33 @@ package org.springframework.data.cassandra.repository.query;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.ParameterizedStatement;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.repository.query.QueryTemplateCache.TemplatedStatement;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Statement;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
+ * <p>
+ * Queries are executed as prepared statements if a {@link PreparedStatementCache} is configured. The query is derived
+ * and rendered once per distinct argument shape (e.g. {@link org.springframework.data.domain.Sort} or
+ * {@link org.springframework.data.cassandra.core.query.Keyset}) and its template is kept in a bounded cache. The
+ * parameterized CQL is prepared through the {@link PreparedStatementCache}. Each invocation binds its arguments to the
+ * cached {@link PreparedStatement}.
  *
  * @author Matthew Adams
  * @author Mark Paluch
@@ -45,6 +56,10 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final StatementFactory statementFactory;
 
+	private final PreparedStatementCache preparedStatementCache;
+
+	private final QueryTemplateCache templates = new QueryTemplateCache();
+
 	/**
 	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -52,12 +67,27 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 	 * @param operations must not be {@literal null}.
 	 */
 	public PartTreeCassandraQuery(CassandraQueryMethod queryMethod, CassandraOperations operations) {
+		this(queryMethod, operations, null);
+	}
+
+	/**
+	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod}, {@link CassandraTemplate} and
+	 * {@link PreparedStatementCache}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param preparedStatementCache may be {@literal null} to execute queries without preparing them.
+	 * @since 2.0
+	 */
+	public PartTreeCassandraQuery(CassandraQueryMethod queryMethod, CassandraOperations operations,
+			PreparedStatementCache preparedStatementCache) {
 
 		super(queryMethod, operations);
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.preparedStatementCache = preparedStatementCache;
 	}
 
 	/**
@@ -90,28 +120,87 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		return this.tree;
 	}
 
+	/**
+	 * Return the {@link PreparedStatementCache} used to prepare queries.
+	 *
+	 * @return the {@link PreparedStatementCache} or {@literal null} if queries are not prepared.
+	 * @since 2.0
+	 */
+	protected PreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, boolean)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
 	 */
 	@Override
 	protected Statement createQuery(CassandraParameterAccessor parameterAccessor) {
 
-		CassandraQueryCreator queryCreator = new CassandraQueryCreator(getTree(), parameterAccessor, getMappingContext());
-
-		Query query = queryCreator.createQuery();
+		Query query = deriveQuery(parameterAccessor);
 
 		try {
-			if (getTree().isLimiting()) {
-				query.limit(getTree().getMaxResults());
-			}
+			return getStatementFactory().select(query, getPersistentEntity());
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+	}
 
-			CassandraPersistentEntity<?> persistentEntity = getMappingContext()
-					.getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createExecutableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement createExecutableQuery(CassandraParameterAccessor parameterAccessor) {
 
-			return getStatementFactory().select(query, persistentEntity);
+		if (getPreparedStatementCache() == null) {
+			return createQuery(parameterAccessor);
+		}
+
+		TemplatedStatement statement = this.templates.resolve(parameterAccessor, this::createParameterizedQuery);
+
+		return getOperations().getCqlOperations().execute((SessionCallback<Statement>) session -> {
+
+			PreparedStatement preparedStatement = getPreparedStatementCache().getPreparedStatement(session,
+					statement.getStatement());
+
+			return statement.bindValues(preparedStatement);
+		});
+	}
+
+	/**
+	 * Derive the query using the given {@link CassandraParameterAccessor} and render it as {@link ParameterizedStatement}
+	 * using bind markers.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link ParameterizedStatement}.
+	 * @since 2.0
+	 */
+	protected ParameterizedStatement createParameterizedQuery(CassandraParameterAccessor parameterAccessor) {
+
+		Query query = deriveQuery(parameterAccessor);
+
+		try {
+			return getStatementFactory().selectParameterized(query, getPersistentEntity());
 		} catch (RuntimeException e) {
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	private Query deriveQuery(CassandraParameterAccessor parameterAccessor) {
+
+		CassandraQueryCreator queryCreator = new CassandraQueryCreator(getTree(), parameterAccessor, getMappingContext());
+
+		Query query = queryCreator.createQuery();
+
+		if (getTree().isLimiting()) {
+			query.limit(getTree().getMaxResults());
+		}
+
+		return query;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity() {
+		return getMappingContext().getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+	}
 }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.ParameterizedStatement;
+import org.springframework.data.cassandra.core.query.Keyset;
+import org.springframework.data.cql.core.CqlProvider;
+import org.springframework.data.cql.core.PreparedStatementBinder;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Bounded cache of rendered derived queries. Derived queries are rendered using bind markers so their CQL depends only
+ * on the shape of the arguments (argument types, {@literal null} arguments, collection element types, {@link Sort} and
+ * {@link Keyset} columns). The rendered CQL is cached per shape so that a query is rendered and prepared only once per
+ * shape.
+ * <p>
+ * Bind values are obtained from the {@link ParameterizedStatement} derived on each invocation. Converted arguments (e.g.
+ * enums or {@link org.springframework.data.cassandra.core.mapping.CassandraType} properties) and {@literal LIKE}
+ * patterns are therefore bound as the query creator computes them.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class QueryTemplateCache {
+
+	static final int DEFAULT_CACHE_SIZE = 64;
+
+	private final Cache<List<Object>, RegularStatement> templates;
+
+	/**
+	 * Create a new {@link QueryTemplateCache} holding up to {@link #DEFAULT_CACHE_SIZE} templates.
+	 */
+	QueryTemplateCache() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Create a new {@link QueryTemplateCache} holding up to {@code maximumSize} templates.
+	 *
+	 * @param maximumSize maximum number of templates, must be greater zero.
+	 */
+	QueryTemplateCache(int maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater zero");
+
+		this.templates = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+	}
+
+	/**
+	 * Resolve the {@link TemplatedStatement} for the given {@link CassandraParameterAccessor}. Derives the query using
+	 * {@code derivation} and uses the cached CQL if the argument shape was rendered before, otherwise renders and caches
+	 * the CQL.
+	 *
+	 * @param accessor must not be {@literal null}.
+	 * @param derivation function to derive the {@link ParameterizedStatement}, must not be {@literal null}.
+	 * @return the {@link TemplatedStatement}.
+	 */
+	TemplatedStatement resolve(CassandraParameterAccessor accessor,
+			Function<CassandraParameterAccessor, ParameterizedStatement> derivation) {
+
+		Assert.notNull(accessor, "CassandraParameterAccessor must not be null");
+		Assert.notNull(derivation, "Derivation function must not be null");
+
+		List<Object> shape = getShape(accessor);
+		ParameterizedStatement statement = derivation.apply(accessor);
+		RegularStatement cql = this.templates.getIfPresent(shape);
+
+		if (cql == null) {
+
+			cql = new SimpleStatement(statement.getCql());
+			this.templates.put(shape, cql);
+		}
+
+		return new TemplatedStatement(cql, statement);
+	}
+
+	/**
+	 * Return the shape of the arguments. Arguments of the same shape derive the same CQL.
+	 */
+	private static List<Object> getShape(CassandraParameterAccessor accessor) {
+
+		List<Object> shape = new ArrayList<>();
+
+		for (Object value : accessor.getValues()) {
+			shape.add(getShape(value));
+		}
+
+		shape.add(Optional.ofNullable(accessor.getSort()));
+
+		Keyset keyset = accessor.getKeyset();
+
+		if (keyset != null) {
+
+			shape.add(keyset.isAfter());
+
+			for (Map.Entry<String, Object> entry : keyset.getValues().entrySet()) {
+				shape.add(entry.getKey());
+				shape.add(getShape(entry.getValue()));
+			}
+		}
+
+		return shape;
+	}
+
+	private static Object getShape(Object value) {
+
+		if (value == null) {
+			return Optional.empty();
+		}
+
+		if (value instanceof Collection) {
+			return Arrays.asList(value.getClass(), getElementTypes((Collection<?>) value));
+		}
+
+		if (value instanceof Object[]) {
+			return Arrays.asList(value.getClass(), getElementTypes(Arrays.asList((Object[]) value)));
+		}
+
+		return value.getClass();
+	}
+
+	private static Set<Object> getElementTypes(Collection<?> collection) {
+
+		Set<Object> types = new LinkedHashSet<>();
+
+		for (Object element : collection) {
+			types.add(element != null ? element.getClass() : Optional.empty());
+		}
+
+		return types;
+	}
+
+	/**
+	 * Cached CQL along with the {@link ParameterizedStatement} providing bind values.
+	 *
+	 * @author Mark Paluch
+	 */
+	static class TemplatedStatement implements PreparedStatementBinder, CqlProvider {
+
+		private final RegularStatement statement;
+
+		private final ParameterizedStatement parameterizedStatement;
+
+		TemplatedStatement(RegularStatement statement, ParameterizedStatement parameterizedStatement) {
+
+			this.statement = statement;
+			this.parameterizedStatement = parameterizedStatement;
+		}
+
+		/**
+		 * @return the {@link RegularStatement} to prepare.
+		 */
+		RegularStatement getStatement() {
+			return this.statement;
+		}
+
+		/**
+		 * @return the values to bind.
+		 */
+		Object[] getValues() {
+			return this.parameterizedStatement.getValues();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cql.core.PreparedStatementBinder#bindValues(com.datastax.driver.core.PreparedStatement)
+		 */
+		@Override
+		public BoundStatement bindValues(PreparedStatement ps) throws DriverException {
+			return this.parameterizedStatement.bindValues(ps);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cql.core.CqlProvider#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.statement.toString();
+		}
+	}
+}
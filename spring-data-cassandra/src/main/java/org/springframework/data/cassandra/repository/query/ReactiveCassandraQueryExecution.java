@@ -20,14 +20,19 @@ import lombok.RequiredArgsConstructor;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.convert.EntityInstantiators;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.Statement;
 
 /**
@@ -40,6 +45,50 @@ interface ReactiveCassandraQueryExecution {
 
 	Object execute(Statement statement, Class<?> type);
 
+	/**
+	 * {@link ReactiveCassandraQueryExecution} for {@link org.springframework.data.domain.Slice} returning queries.
+	 * Fetches a single page using the page size as fetch size and carries the {@link PagingState} in the
+	 * {@link org.springframework.data.domain.Slice#nextPageable() next page request}. Result processing is applied to
+	 * the emitted {@link org.springframework.data.domain.Slice}.
+	 *
+	 * @author Mark Paluch
+	 * @since 2.0
+	 */
+	@RequiredArgsConstructor
+	final class SlicedExecution implements ReactiveCassandraQueryExecution {
+
+		private final @NonNull ReactiveCassandraOperations operations;
+		private final @NonNull Pageable pageable;
+		private final @NonNull Converter<Object, Object> resultProcessing;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution#execute(java.lang.String, java.lang.Class)
+		 */
+		@Override
+		public Object execute(Statement statement, Class<?> type) {
+
+			if (pageable.isUnpaged()) {
+				return operations.select(statement, type).collectList()
+						.map(content -> resultProcessing.convert(new SliceImpl<>(content)));
+			}
+
+			CassandraConverter converter = operations.getConverter();
+
+			return operations.getReactiveCqlOperations().queryForResultSet(CassandraPageRequest.apply(statement, pageable))
+					.flatMap(resultSet -> resultSet.availableRows() //
+							.<Object> map(row -> converter.read(type, row)) //
+							.collectList() //
+							.map(content -> {
+
+								PagingState pagingState = resultSet.getExecutionInfo().getPagingState();
+
+								return resultProcessing.convert(new SliceImpl<>(content,
+										CassandraPageRequest.of(pageable, pagingState), pagingState != null));
+							}));
+		}
+	}
+
 	/**
 	 * {@link ReactiveCassandraQueryExecution} for collection returning queries.
 	 *
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.cassandra.core.ParameterizedStatement;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
@@ -22,15 +25,23 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.repository.query.QueryTemplateCache.TemplatedStatement;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Statement;
 
 /**
  * Reactive PartTree {@link RepositoryQuery} implementation for Cassandra.
+ * <p>
+ * Queries are executed as prepared statements if an {@link AsyncPreparedStatementCache} is configured. The query is
+ * derived and rendered once per distinct argument shape and its template is kept in a bounded cache. The parameterized
+ * CQL is prepared without blocking through the {@link AsyncPreparedStatementCache}.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -43,6 +54,10 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 
 	private final StatementFactory statementFactory;
 
+	private final AsyncPreparedStatementCache preparedStatementCache;
+
+	private final QueryTemplateCache templates = new QueryTemplateCache();
+
 	/**
 	 * Create a new {@link ReactivePartTreeCassandraQuery} from the given {@link ReactiveCassandraQueryMethod} and
 	 * {@link ReactiveCassandraOperations}.
@@ -52,12 +67,27 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 	 */
 	public ReactivePartTreeCassandraQuery(ReactiveCassandraQueryMethod queryMethod,
 			ReactiveCassandraOperations operations) {
+		this(queryMethod, operations, null);
+	}
+
+	/**
+	 * Create a new {@link ReactivePartTreeCassandraQuery} from the given {@link ReactiveCassandraQueryMethod},
+	 * {@link ReactiveCassandraOperations} and {@link AsyncPreparedStatementCache}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param operations must not be {@literal null}.
+	 * @param preparedStatementCache may be {@literal null} to execute queries without preparing them.
+	 * @since 2.0
+	 */
+	public ReactivePartTreeCassandraQuery(ReactiveCassandraQueryMethod queryMethod,
+			ReactiveCassandraOperations operations, AsyncPreparedStatementCache preparedStatementCache) {
 
 		super(queryMethod, operations);
 
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getEntityInformation().getJavaType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.preparedStatementCache = preparedStatementCache;
 	}
 
 	/**
@@ -90,28 +120,84 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 		return this.tree;
 	}
 
+	/**
+	 * Return the {@link AsyncPreparedStatementCache} used to prepare queries.
+	 *
+	 * @return the {@link AsyncPreparedStatementCache} or {@literal null} if queries are not prepared.
+	 * @since 2.0
+	 */
+	protected AsyncPreparedStatementCache getPreparedStatementCache() {
+		return this.preparedStatementCache;
+	}
+
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor, boolean)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#createQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
 	 */
 	@Override
 	protected Statement createQuery(CassandraParameterAccessor parameterAccessor) {
 
-		CassandraQueryCreator queryCreator = new CassandraQueryCreator(getTree(), parameterAccessor, getMappingContext());
-
-		Query query = queryCreator.createQuery();
+		Query query = deriveQuery(parameterAccessor);
 
 		try {
-			if (getTree().isLimiting()) {
-				query.limit(getTree().getMaxResults());
-			}
+			return getStatementFactory().select(query, getPersistentEntity());
+		} catch (RuntimeException e) {
+			throw QueryCreationException.create(getQueryMethod(), e);
+		}
+	}
 
-			CassandraPersistentEntity<?> persistentEntity = getMappingContext()
-					.getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#createExecutableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Mono<? extends Statement> createExecutableQuery(CassandraParameterAccessor parameterAccessor) {
+
+		if (getPreparedStatementCache() == null) {
+			return super.createExecutableQuery(parameterAccessor);
+		}
+
+		TemplatedStatement statement = this.templates.resolve(parameterAccessor, this::createParameterizedQuery);
+
+		return getReactiveCassandraOperations().getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<BoundStatement>) session -> getPreparedStatementCache()
+						.getPreparedStatement(session, statement.getStatement()).map(statement::bindValues))
+				.next();
+	}
+
+	/**
+	 * Derive the query using the given {@link CassandraParameterAccessor} and render it as {@link ParameterizedStatement}
+	 * using bind markers.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link ParameterizedStatement}.
+	 * @since 2.0
+	 */
+	protected ParameterizedStatement createParameterizedQuery(CassandraParameterAccessor parameterAccessor) {
+
+		Query query = deriveQuery(parameterAccessor);
 
-			return getStatementFactory().select(query, persistentEntity);
+		try {
+			return getStatementFactory().selectParameterized(query, getPersistentEntity());
 		} catch (RuntimeException e) {
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	private Query deriveQuery(CassandraParameterAccessor parameterAccessor) {
+
+		CassandraQueryCreator queryCreator = new CassandraQueryCreator(getTree(), parameterAccessor, getMappingContext());
+
+		Query query = queryCreator.createQuery();
+
+		if (getTree().isLimiting()) {
+			query.limit(getTree().getMaxResults());
+		}
+
+		return query;
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity() {
+		return getMappingContext().getRequiredPersistentEntity(getQueryMethod().getDomainClass());
+	}
 }
@@ -15,15 +15,22 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import reactor.core.publisher.Mono;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * String-based {@link AbstractReactiveCassandraQuery} implementation.
@@ -31,6 +38,9 @@ import com.datastax.driver.core.SimpleStatement;
  * A {@link ReactiveStringBasedCassandraQuery} expects a query method to be annotated with
  * {@link org.springframework.data.cassandra.repository.Query} with a CQL query. String-based queries support named,
  * index-based and expression parameters that are resolved during query execution.
+ * <p>
+ * Queries are executed as prepared statements if an {@link AsyncPreparedStatementCache} is configured. The query is
+ * prepared once without blocking and each invocation binds its arguments to the cached {@link PreparedStatement}.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -42,6 +52,10 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 
 	private final StringBasedQuery stringBasedQuery;
 
+	private final SimpleStatement preparableStatement;
+
+	private final AsyncPreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -59,6 +73,28 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 		this(queryMethod.getAnnotatedQuery(), queryMethod, operations, expressionParser, evaluationContextProvider);
 	}
 
+	/**
+	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
+	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, {@link EvaluationContextProvider} and
+	 * {@link AsyncPreparedStatementCache}.
+	 *
+	 * @param queryMethod {@link ReactiveCassandraQueryMethod} on which this query is based.
+	 * @param operations {@link ReactiveCassandraOperations} used to perform data access in Cassandra.
+	 * @param expressionParser {@link SpelExpressionParser} used to parse expressions in the query.
+	 * @param evaluationContextProvider {@link EvaluationContextProvider} used to access the potentially shared
+	 *          {@link org.springframework.expression.spel.support.StandardEvaluationContext}.
+	 * @param preparedStatementCache {@link AsyncPreparedStatementCache} used to prepare the query, may be
+	 *          {@literal null} to execute the query without preparing it.
+	 * @since 2.0
+	 */
+	public ReactiveStringBasedCassandraQuery(ReactiveCassandraQueryMethod queryMethod,
+			ReactiveCassandraOperations operations, SpelExpressionParser expressionParser,
+			EvaluationContextProvider evaluationContextProvider, AsyncPreparedStatementCache preparedStatementCache) {
+
+		this(queryMethod.getAnnotatedQuery(), queryMethod, operations, expressionParser, evaluationContextProvider,
+				preparedStatementCache);
+	}
+
 	/**
 	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@code query}, {@link CassandraQueryMethod},
 	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -73,12 +109,35 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 			ReactiveCassandraOperations operations, SpelExpressionParser expressionParser,
 			EvaluationContextProvider evaluationContextProvider) {
 
+		this(query, queryMethod, operations, expressionParser, evaluationContextProvider, null);
+	}
+
+	/**
+	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@code query}, {@link CassandraQueryMethod},
+	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, {@link EvaluationContextProvider} and
+	 * {@link AsyncPreparedStatementCache}.
+	 *
+	 * @param queryMethod {@link ReactiveCassandraQueryMethod} on which this query is based.
+	 * @param operations {@link ReactiveCassandraOperations} used to perform data access in Cassandra.
+	 * @param expressionParser {@link SpelExpressionParser} used to parse expressions in the query.
+	 * @param evaluationContextProvider {@link EvaluationContextProvider} used to access the potentially shared
+	 *          {@link org.springframework.expression.spel.support.StandardEvaluationContext}.
+	 * @param preparedStatementCache {@link AsyncPreparedStatementCache} used to prepare the query, may be
+	 *          {@literal null} to execute the query without preparing it.
+	 * @since 2.0
+	 */
+	public ReactiveStringBasedCassandraQuery(String query, ReactiveCassandraQueryMethod queryMethod,
+			ReactiveCassandraOperations operations, SpelExpressionParser expressionParser,
+			EvaluationContextProvider evaluationContextProvider, AsyncPreparedStatementCache preparedStatementCache) {
+
 		super(queryMethod, operations);
 
 		Assert.hasText(query, "Query must not be empty");
 
 		this.stringBasedQuery = new StringBasedQuery(query,
 				new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider));
+		this.preparableStatement = new SimpleStatement(this.stringBasedQuery.getBindableQuery());
+		this.preparedStatementCache = preparedStatementCache;
 	}
 
 	/* (non-Javadoc) */
@@ -104,4 +163,29 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#createExecutableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Mono<? extends Statement> createExecutableQuery(CassandraParameterAccessor parameterAccessor) {
+
+		SimpleStatement boundQuery = createQuery(parameterAccessor);
+
+		if (this.preparedStatementCache == null) {
+			return Mono.just(boundQuery);
+		}
+
+		Object[] values = new Object[boundQuery.valuesCount()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = boundQuery.getObject(index);
+		}
+
+		return getReactiveCassandraOperations().getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<BoundStatement>) session -> this.preparedStatementCache
+						.getPreparedStatement(session, this.preparableStatement)
+						.map(preparedStatement -> preparedStatement.bind(values)))
+				.next();
+	}
 }
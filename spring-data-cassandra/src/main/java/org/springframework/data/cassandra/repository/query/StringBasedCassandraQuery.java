@@ -18,11 +18,15 @@ package org.springframework.data.cassandra.repository.query;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.repository.query.EvaluationContextProvider;
 import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 
 /**
  * String-based {@link AbstractCassandraQuery} implementation.
@@ -30,6 +34,9 @@ import com.datastax.driver.core.SimpleStatement;
  * A {@link StringBasedCassandraQuery} expects a query method to be annotated with
  * {@link org.springframework.data.cassandra.repository.Query} with a CQL query. String-based queries support named,
  * index-based and expression parameters that are resolved during query execution.
+ * <p>
+ * Queries are executed as prepared statements if a {@link PreparedStatementCache} is configured. The query is prepared
+ * once and each invocation binds its arguments to the cached {@link PreparedStatement}.
  *
  * @author Matthew Adams
  * @author Mark Paluch
@@ -41,6 +48,10 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 
 	private final StringBasedQuery stringBasedQuery;
 
+	private final SimpleStatement preparableStatement;
+
+	private final PreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -57,6 +68,28 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 		this(queryMethod.getAnnotatedQuery(), queryMethod, operations, expressionParser, evaluationContextProvider);
 	}
 
+	/**
+	 * Create a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
+	 * {@link CassandraOperations}, {@link SpelExpressionParser}, {@link EvaluationContextProvider} and
+	 * {@link PreparedStatementCache}.
+	 *
+	 * @param queryMethod {@link CassandraQueryMethod} on which this query is based.
+	 * @param operations {@link CassandraOperations} used to perform data access in Cassandra.
+	 * @param expressionParser {@link SpelExpressionParser} used to parse expressions in the query.
+	 * @param evaluationContextProvider {@link EvaluationContextProvider} used to access the potentially shared
+	 *          {@link org.springframework.expression.spel.support.StandardEvaluationContext}.
+	 * @param preparedStatementCache {@link PreparedStatementCache} used to prepare the query, may be {@literal null} to
+	 *          execute the query without preparing it.
+	 * @since 2.0
+	 */
+	public StringBasedCassandraQuery(CassandraQueryMethod queryMethod, CassandraOperations operations,
+			SpelExpressionParser expressionParser, EvaluationContextProvider evaluationContextProvider,
+			PreparedStatementCache preparedStatementCache) {
+
+		this(queryMethod.getAnnotatedQuery(), queryMethod, operations, expressionParser, evaluationContextProvider,
+				preparedStatementCache);
+	}
+
 	/**
 	 * Create a new {@link StringBasedCassandraQuery} for the given {@code query}, {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link EvaluationContextProvider}.
@@ -71,10 +104,34 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 	public StringBasedCassandraQuery(String query, CassandraQueryMethod queryMethod, CassandraOperations operations,
 			SpelExpressionParser expressionParser, EvaluationContextProvider evaluationContextProvider) {
 
+		this(query, queryMethod, operations, expressionParser, evaluationContextProvider, null);
+	}
+
+	/**
+	 * Create a new {@link StringBasedCassandraQuery} for the given {@code query}, {@link CassandraQueryMethod},
+	 * {@link CassandraOperations}, {@link SpelExpressionParser}, {@link EvaluationContextProvider} and
+	 * {@link PreparedStatementCache}.
+	 *
+	 * @param query
+	 * @param queryMethod {@link CassandraQueryMethod} on which this query is based.
+	 * @param operations {@link CassandraOperations} used to perform data access in Cassandra.
+	 * @param expressionParser {@link SpelExpressionParser} used to parse expressions in the query.
+	 * @param evaluationContextProvider {@link EvaluationContextProvider} used to access the potentially shared
+	 *          {@link org.springframework.expression.spel.support.StandardEvaluationContext}.
+	 * @param preparedStatementCache {@link PreparedStatementCache} used to prepare the query, may be {@literal null} to
+	 *          execute the query without preparing it.
+	 * @since 2.0
+	 */
+	public StringBasedCassandraQuery(String query, CassandraQueryMethod queryMethod, CassandraOperations operations,
+			SpelExpressionParser expressionParser, EvaluationContextProvider evaluationContextProvider,
+			PreparedStatementCache preparedStatementCache) {
+
 		super(queryMethod, operations);
 
 		this.stringBasedQuery = new StringBasedQuery(query,
 				new ExpressionEvaluatingParameterBinder(expressionParser, evaluationContextProvider));
+		this.preparableStatement = new SimpleStatement(this.stringBasedQuery.getBindableQuery());
+		this.preparedStatementCache = preparedStatementCache;
 	}
 
 	/* (non-Javadoc) */
@@ -100,4 +157,31 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 			throw QueryCreationException.create(getQueryMethod(), e);
 		}
 	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#createExecutableQuery(org.springframework.data.cassandra.repository.query.CassandraParameterAccessor)
+	 */
+	@Override
+	protected Statement createExecutableQuery(CassandraParameterAccessor parameterAccessor) {
+
+		SimpleStatement boundQuery = createQuery(parameterAccessor);
+
+		if (this.preparedStatementCache == null) {
+			return boundQuery;
+		}
+
+		Object[] values = new Object[boundQuery.valuesCount()];
+
+		for (int index = 0; index < values.length; index++) {
+			values[index] = boundQuery.getObject(index);
+		}
+
+		return getOperations().getCqlOperations().execute((SessionCallback<Statement>) session -> {
+
+			PreparedStatement preparedStatement = this.preparedStatementCache.getPreparedStatement(session,
+					this.preparableStatement);
+
+			return preparedStatement.bind(values);
+		});
+	}
 }
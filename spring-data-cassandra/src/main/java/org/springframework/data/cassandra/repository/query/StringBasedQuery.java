@@ -39,6 +39,10 @@ class StringBasedQuery {
 
 	private final String query;
 
+	private final String bindableQuery;
+
+	private final int bindMarkerCount;
+
 	private final ExpressionEvaluatingParameterBinder parameterBinder;
 
 	private final List<ParameterBinding> queryParameterBindings = new ArrayList<>();
@@ -60,6 +64,8 @@ class StringBasedQuery {
 		this.query = ParameterBindingParser.INSTANCE.parseAndCollectParameterBindingsFromQueryIntoBindings(query,
 				this.queryParameterBindings);
 
+		this.bindableQuery = ParameterBinder.INSTANCE.toBindableQuery(this.query);
+		this.bindMarkerCount = ParameterBinder.INSTANCE.countBindMarkers(this.query);
 	}
 
 	/* (non-Javadoc) */
@@ -72,6 +78,16 @@ class StringBasedQuery {
 		return this.query;
 	}
 
+	/**
+	 * Return the CQL query using positional bind markers. The bindable query is computed once and does not depend on
+	 * actual parameter values which allows preparing the query once.
+	 *
+	 * @return the CQL query using positional bind markers.
+	 */
+	protected String getBindableQuery() {
+		return this.bindableQuery;
+	}
+
 	/**
 	 * Bind the query to actual parameters using {@link CassandraParameterAccessor},
 	 *
@@ -87,11 +103,15 @@ class StringBasedQuery {
 		List<Object> arguments = getParameterBinder().bind(parameterAccessor,
 				new BindingContext(queryMethod, this.queryParameterBindings));
 
-		return ParameterBinder.INSTANCE.bind(getQuery(), arguments);
+		if (arguments.isEmpty()) {
+			return new SimpleStatement(getQuery());
+		}
+
+		return new SimpleStatement(getBindableQuery(), arguments.subList(0, this.bindMarkerCount).toArray());
 	}
 
 	/**
-	 * A parser that extracts the parameter bindings from a given query string.
+	 * Rewrites argument placeholders into positional bind markers.
 	 *
 	 * @author Mark Paluch
 	 */
@@ -102,37 +122,32 @@ class StringBasedQuery {
 		private static final String ARGUMENT_PLACEHOLDER = "?_param_?";
 		private static final Pattern ARGUMENT_PLACEHOLDER_PATTERN = Pattern.compile(Pattern.quote(ARGUMENT_PLACEHOLDER));
 
-		public SimpleStatement bind(String input, List<Object> parameters) {
-
-			if (parameters.isEmpty()) {
-				return new SimpleStatement(input);
-			}
+		/**
+		 * Replace all argument placeholders in {@code input} with positional bind markers.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @return the CQL using positional bind markers.
+		 */
+		public String toBindableQuery(String input) {
+			return ARGUMENT_PLACEHOLDER_PATTERN.matcher(input).replaceAll(Matcher.quoteReplacement("?"));
+		}
 
-			StringBuilder result = new StringBuilder();
+		/**
+		 * Count argument placeholders in {@code input}.
+		 *
+		 * @param input must not be {@literal null}.
+		 * @return the number of argument placeholders.
+		 */
+		public int countBindMarkers(String input) {
 
-			int startIndex = 0;
-			int currentPosition = 0;
-			int parameterIndex = 0;
+			int count = 0;
 			Matcher matcher = ARGUMENT_PLACEHOLDER_PATTERN.matcher(input);
 
-			while (currentPosition < input.length()) {
-
-				if (!matcher.find()) {
-					break;
-				}
-
-				int exprStart = matcher.start();
-
-				result.append(input.subSequence(startIndex, exprStart)).append("?");
-
-				parameterIndex++;
-				currentPosition = matcher.end();
-				startIndex = currentPosition;
+			while (matcher.find()) {
+				count++;
 			}
 
-			String bindableStatement = result.append(input.subSequence(currentPosition, input.length())).toString();
-
-			return new SimpleStatement(bindableStatement, parameters.subList(0, parameterIndex).toArray());
+			return count;
 		}
 	}
 
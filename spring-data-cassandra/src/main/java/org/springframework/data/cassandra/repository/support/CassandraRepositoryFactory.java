@@ -26,6 +26,7 @@ import org.springframework.data.cassandra.repository.query.CassandraEntityInform
 import org.springframework.data.cassandra.repository.query.CassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.PartTreeCassandraQuery;
 import org.springframework.data.cassandra.repository.query.StringBasedCassandraQuery;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -56,6 +57,8 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 	private final CassandraOperations operations;
 
+	private PreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactory} with the given {@link CassandraOperations}.
 	 *
@@ -69,6 +72,17 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		this.mappingContext = operations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure a {@link PreparedStatementCache} to execute derived and string-based query methods as prepared
+	 * statements. Query methods are executed without preparing statements if no {@link PreparedStatementCache} is set.
+	 *
+	 * @param preparedStatementCache may be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
 	 */
@@ -139,11 +153,12 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 			if (namedQueries.hasQuery(namedQueryName)) {
 				String namedQuery = namedQueries.getQuery(namedQueryName);
 				return new StringBasedCassandraQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
-						evaluationContextProvider);
+						evaluationContextProvider, preparedStatementCache);
 			} else if (queryMethod.hasAnnotatedQuery()) {
-				return new StringBasedCassandraQuery(queryMethod, operations, EXPRESSION_PARSER, evaluationContextProvider);
+				return new StringBasedCassandraQuery(queryMethod.getAnnotatedQuery(), queryMethod, operations,
+						EXPRESSION_PARSER, evaluationContextProvider, preparedStatementCache);
 			} else {
-				return new PartTreeCassandraQuery(queryMethod, operations);
+				return new PartTreeCassandraQuery(queryMethod, operations, preparedStatementCache);
 			}
 		}
 	}
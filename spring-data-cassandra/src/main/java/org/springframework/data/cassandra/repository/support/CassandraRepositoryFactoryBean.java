@@ -17,6 +17,7 @@ package org.springframework.data.cassandra.repository.support;
 
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.repository.CassandraRepository;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
@@ -35,6 +36,8 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private CassandraTemplate cassandraTemplate;
 
+	private PreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -46,7 +49,12 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
-		return new CassandraRepositoryFactory(cassandraTemplate);
+
+		CassandraRepositoryFactory factory = new CassandraRepositoryFactory(cassandraTemplate);
+
+		factory.setPreparedStatementCache(preparedStatementCache);
+
+		return factory;
 	}
 
 	/**
@@ -60,6 +68,17 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		setMappingContext(cassandraTemplate.getConverter().getMappingContext());
 	}
 
+	/**
+	 * Configures the {@link PreparedStatementCache} used to execute query methods as prepared statements.
+	 *
+	 * @param preparedStatementCache {@link PreparedStatementCache} to cache prepared statements, may be {@literal null}
+	 *          to execute query methods without preparing statements.
+	 * @since 2.0
+	 */
+	public void setPreparedStatementCache(PreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
 	 */
@@ -25,6 +25,7 @@ import org.springframework.data.cassandra.repository.query.CassandraEntityInform
 import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.ReactivePartTreeCassandraQuery;
 import org.springframework.data.cassandra.repository.query.ReactiveStringBasedCassandraQuery;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
@@ -52,6 +53,8 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, ? extends CassandraPersistentProperty> mappingContext;
 
+	private AsyncPreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link ReactiveCassandraRepositoryFactory} with the given {@link ReactiveCassandraOperations}.
 	 *
@@ -65,6 +68,18 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 		this.mappingContext = cassandraOperations.getConverter().getMappingContext();
 	}
 
+	/**
+	 * Configure a {@link AsyncPreparedStatementCache} to execute derived and string-based query methods as prepared
+	 * statements. Query methods are executed without preparing statements if no {@link AsyncPreparedStatementCache} is
+	 * set.
+	 *
+	 * @param preparedStatementCache may be {@literal null}.
+	 * @since 2.0
+	 */
+	public void setPreparedStatementCache(AsyncPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepositoryBaseClass(org.springframework.data.repository.core.RepositoryMetadata)
 	 */
@@ -90,7 +105,8 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
 			EvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(new CassandraQueryLookupStrategy(operations, evaluationContextProvider, mappingContext));
+		return Optional.of(new CassandraQueryLookupStrategy(operations, evaluationContextProvider, mappingContext,
+				preparedStatementCache));
 	}
 
 	/* (non-Javadoc)
@@ -115,14 +131,17 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 		private final EvaluationContextProvider evaluationContextProvider;
 		private final ReactiveCassandraOperations operations;
 		private final MappingContext<? extends CassandraPersistentEntity<?>, ? extends CassandraPersistentProperty> mappingContext;
+		private final AsyncPreparedStatementCache preparedStatementCache;
 
 		CassandraQueryLookupStrategy(ReactiveCassandraOperations operations,
 				EvaluationContextProvider evaluationContextProvider,
-				MappingContext<? extends CassandraPersistentEntity<?>, ? extends CassandraPersistentProperty> mappingContext) {
+				MappingContext<? extends CassandraPersistentEntity<?>, ? extends CassandraPersistentProperty> mappingContext,
+				AsyncPreparedStatementCache preparedStatementCache) {
 
 			this.evaluationContextProvider = evaluationContextProvider;
 			this.operations = operations;
 			this.mappingContext = mappingContext;
+			this.preparedStatementCache = preparedStatementCache;
 		}
 
 		/* (non-Javadoc)
@@ -141,12 +160,12 @@ public class ReactiveCassandraRepositoryFactory extends ReactiveRepositoryFactor
 				String namedQuery = namedQueries.getQuery(namedQueryName);
 
 				return new ReactiveStringBasedCassandraQuery(namedQuery, queryMethod, operations, EXPRESSION_PARSER,
-						evaluationContextProvider);
+						evaluationContextProvider, preparedStatementCache);
 			} else if (queryMethod.hasAnnotatedQuery()) {
 				return new ReactiveStringBasedCassandraQuery(queryMethod, operations, EXPRESSION_PARSER,
-						evaluationContextProvider);
+						evaluationContextProvider, preparedStatementCache);
 			} else {
-				return new ReactivePartTreeCassandraQuery(queryMethod, operations);
+				return new ReactivePartTreeCassandraQuery(queryMethod, operations, preparedStatementCache);
 			}
 		}
 	}
@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.support;
 
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
@@ -38,6 +39,8 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 
 	private ReactiveCassandraOperations operations;
 
+	private AsyncPreparedStatementCache preparedStatementCache;
+
 	/**
 	 * Create a new {@link ReactiveCassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -57,6 +60,17 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 		this.operations = operations;
 	}
 
+	/**
+	 * Configures the {@link AsyncPreparedStatementCache} used to execute query methods as prepared statements.
+	 *
+	 * @param preparedStatementCache {@link AsyncPreparedStatementCache} to cache prepared statements, may be
+	 *          {@literal null} to execute query methods without preparing statements.
+	 * @since 2.0
+	 */
+	public void setPreparedStatementCache(AsyncPreparedStatementCache preparedStatementCache) {
+		this.preparedStatementCache = preparedStatementCache;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#setMappingContext(org.springframework.data.mapping.context.MappingContext)
 	 */
@@ -83,7 +97,12 @@ public class ReactiveCassandraRepositoryFactoryBean<T extends Repository<S, ID>,
 	 * @return
 	 */
 	protected RepositoryFactorySupport getFactoryInstance(ReactiveCassandraOperations operations) {
-		return new ReactiveCassandraRepositoryFactory(operations);
+
+		ReactiveCassandraRepositoryFactory factory = new ReactiveCassandraRepositoryFactory(operations);
+
+		factory.setPreparedStatementCache(preparedStatementCache);
+
+		return factory;
 	}
 
 	/* (non-Javadoc)
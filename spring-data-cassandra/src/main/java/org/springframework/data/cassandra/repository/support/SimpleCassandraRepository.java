@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.support;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,12 +25,16 @@ import java.util.Optional;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
+import org.springframework.data.cassandra.core.ScanOptions;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.repository.CassandraRepository;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
+import org.springframework.data.cql.core.PipelinedStatementCallback;
 import org.springframework.util.Assert;
 
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.querybuilder.Insert;
 import com.datastax.driver.core.querybuilder.QueryBuilder;
 import com.datastax.driver.core.querybuilder.Select;
@@ -47,6 +52,10 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 	private final CassandraOperations operations;
 
+	private int maxInFlight = PipelinedStatementCallback.DEFAULT_MAX_IN_FLIGHT;
+
+	private ScanOptions countOptions;
+
 	/**
 	 * Create a new {@link SimpleCassandraRepository} for the given {@link CassandraEntityInformation} and
 	 * {@link CassandraTemplate}.
@@ -63,6 +72,45 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 		this.operations = operations;
 	}
 
+	/**
+	 * Set the maximum number of concurrent in-flight writes issued by {@link #saveAll(Iterable)}. Defaults to
+	 * {@link PipelinedStatementCallback#DEFAULT_MAX_IN_FLIGHT}.
+	 *
+	 * @param maxInFlight the maximum number of in-flight writes, must be greater zero.
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+
+		Assert.isTrue(maxInFlight > 0, "Max in-flight writes must be greater zero");
+
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * @return the maximum number of concurrent in-flight writes.
+	 */
+	public int getMaxInFlight() {
+		return this.maxInFlight;
+	}
+
+	/**
+	 * Set the {@link ScanOptions} to count rows in {@link #count()} by counting token ranges in parallel. Counting token
+	 * ranges avoids read timeouts of a single {@code SELECT count(*)} over large tables. Defaults to {@literal null} to
+	 * count rows with a single {@code SELECT count(*)}.
+	 *
+	 * @param countOptions the {@link ScanOptions} to count token ranges in parallel, may be {@literal null}.
+	 * @see CassandraOperations#count(Class, ScanOptions)
+	 */
+	public void setCountOptions(ScanOptions countOptions) {
+		this.countOptions = countOptions;
+	}
+
+	/**
+	 * @return the {@link ScanOptions} to count token ranges in parallel, may be {@literal null}.
+	 */
+	public ScanOptions getCountOptions() {
+		return this.countOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.CrudRepository#save(S)
 	 */
@@ -87,13 +135,16 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
 		List<S> result = new ArrayList<S>();
+		List<Insert> inserts = new ArrayList<>();
 
 		for (S entity : entities) {
 
 			result.add(entity);
-			operations.getCqlOperations().execute(createFullInsert(entity));
+			inserts.add(createFullInsert(entity));
 		}
 
+		execute(inserts);
+
 		return result;
 	}
 
@@ -134,18 +185,19 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
-		List<S> result = new ArrayList<>();
-
-		for (S entity : entities) {
+		return operations.insert(entities);
+	}
 
-			S saved = operations.insert(entity);
+	/**
+	 * Execute the given {@link Statement}s pipelined with at most {@link #getMaxInFlight()} in-flight statements.
+	 */
+	private List<ResultSet> execute(List<? extends Statement> statements) {
 
-			if (saved != null) {
-				result.add(saved);
-			}
+		if (statements.isEmpty()) {
+			return Collections.emptyList();
 		}
 
-		return result;
+		return operations.getCqlOperations().execute(new PipelinedStatementCallback(statements, getMaxInFlight()));
 	}
 
 	/* (non-Javadoc)
@@ -175,6 +227,11 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 	 */
 	@Override
 	public long count() {
+
+		if (countOptions != null) {
+			return operations.count(entityInformation.getJavaType(), countOptions);
+		}
+
 		return operations.count(entityInformation.getJavaType());
 	}
 
@@ -197,7 +254,7 @@ public class SimpleCassandraRepository<T, ID> implements CassandraRepository<T,
 
 		Assert.notNull(ids, "The given Iterable of id's must not be null");
 
-		return operations.selectBySimpleIds(ids, entityInformation.getJavaType());
+		return operations.selectByIds(ids, entityInformation.getJavaType());
 	}
 
 	/* (non-Javadoc)
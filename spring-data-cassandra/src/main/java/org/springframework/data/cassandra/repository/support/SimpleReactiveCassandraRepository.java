@@ -18,12 +18,15 @@ package org.springframework.data.cassandra.repository.support;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
 import org.reactivestreams.Publisher;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.ReactiveCassandraTemplate;
+import org.springframework.data.cassandra.core.ScanOptions;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.repository.ReactiveCassandraRepository;
@@ -47,6 +50,12 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 	private final ReactiveCassandraOperations operations;
 
+	private int maxInFlight = ReactiveCassandraTemplate.DEFAULT_WRITE_CONCURRENCY;
+
+	private int multiGetConcurrency = ReactiveCassandraTemplate.DEFAULT_MULTI_GET_CONCURRENCY;
+
+	private ScanOptions countOptions;
+
 	/**
 	 * Create a new {@link SimpleReactiveCassandraRepository} for the given {@link CassandraEntityInformation} and
 	 * {@link ReactiveCassandraOperations}.
@@ -64,6 +73,66 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 		this.operations = operations;
 	}
 
+	/**
+	 * Set the maximum number of concurrent in-flight writes issued by {@link #saveAll(Publisher)}. Defaults to
+	 * {@link ReactiveCassandraTemplate#DEFAULT_WRITE_CONCURRENCY}.
+	 *
+	 * @param maxInFlight the maximum number of in-flight writes, must be greater zero.
+	 */
+	public void setMaxInFlight(int maxInFlight) {
+
+		Assert.isTrue(maxInFlight > 0, "Max in-flight writes must be greater zero");
+
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * @return the maximum number of concurrent in-flight writes.
+	 */
+	public int getMaxInFlight() {
+		return this.maxInFlight;
+	}
+
+	/**
+	 * Set the maximum number of concurrent single-partition reads issued by {@link #findAllById(Publisher)}. Ids are
+	 * read as soon as they are emitted by the upstream {@link Publisher}. Defaults to
+	 * {@link ReactiveCassandraTemplate#DEFAULT_MULTI_GET_CONCURRENCY}.
+	 *
+	 * @param multiGetConcurrency the maximum number of in-flight reads, must be greater zero.
+	 */
+	public void setMultiGetConcurrency(int multiGetConcurrency) {
+
+		Assert.isTrue(multiGetConcurrency > 0, "Multi-get concurrency must be greater zero");
+
+		this.multiGetConcurrency = multiGetConcurrency;
+	}
+
+	/**
+	 * @return the maximum number of concurrent single-partition reads.
+	 */
+	public int getMultiGetConcurrency() {
+		return this.multiGetConcurrency;
+	}
+
+	/**
+	 * Set the {@link ScanOptions} to count rows in {@link #count()} by counting token ranges in parallel. Counting token
+	 * ranges avoids read timeouts of a single {@code SELECT count(*)} over large tables. Defaults to {@literal null} to
+	 * count rows with a single {@code SELECT count(*)}.
+	 *
+	 * @param countOptions the {@link ScanOptions} to count token ranges in parallel, may be {@literal null}.
+	 * @see ReactiveCassandraOperations#count(Class, ScanOptions)
+	 */
+	public void setCountOptions(ScanOptions countOptions) {
+		this.countOptions = countOptions;
+	}
+
+	/**
+	 * @return the {@link ScanOptions} to count token ranges in parallel, may be {@literal null}.
+	 */
+	public ScanOptions getCountOptions() {
+		return this.countOptions;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.reactive.ReactiveCrudRepository#save(S)
 	 */
@@ -95,7 +164,9 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(entityStream, "The given Publisher of entities must not be null");
 
-		return Flux.from(entityStream).flatMap(entity -> operations.getReactiveCqlOperations().execute(createFullInsert(entity)).map(it -> entity));
+		return Flux.from(entityStream).flatMap(
+				entity -> operations.getReactiveCqlOperations().execute(createFullInsert(entity)).map(it -> entity),
+				getMaxInFlight());
 	}
 
 	/* (non-Javadoc)
@@ -193,7 +264,7 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(iterable, "The given Iterable of id's must not be null");
 
-		return findAllById(Flux.fromIterable(iterable));
+		return operations.selectByIds(iterable, entityInformation.getJavaType());
 	}
 
 	/* (non-Javadoc)
@@ -204,7 +275,9 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 
 		Assert.notNull(idStream, "The given Publisher of id's must not be null");
 
-		return Flux.from(idStream).flatMap(id -> operations.selectOneById(id, entityInformation.getJavaType()));
+		return Flux.from(idStream).flatMap(
+				id -> operations.selectByIds(Collections.singletonList(id), entityInformation.getJavaType()),
+				getMultiGetConcurrency());
 	}
 
 	/* (non-Javadoc)
@@ -212,6 +285,11 @@ public class SimpleReactiveCassandraRepository<T, ID> implements ReactiveCassand
 	 */
 	@Override
 	public Mono<Long> count() {
+
+		if (countOptions != null) {
+			return operations.count(entityInformation.getJavaType(), countOptions);
+		}
+
 		return operations.count(entityInformation.getJavaType());
 	}
 
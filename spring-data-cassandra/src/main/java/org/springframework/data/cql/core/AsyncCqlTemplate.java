@@ -18,12 +18,15 @@ package org.springframework.data.cql.core;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.function.Function;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cql.core.session.SessionFactory;
+import org.springframework.data.cql.core.support.InstrumentedExecutor;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
@@ -78,6 +81,12 @@ import com.google.common.util.concurrent.Futures;
  */
 public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOperations {
 
+	/**
+	 * If this variable is set to a value, {@link ResultSetExtractor}s are invoked on this {@link Executor} instead of the
+	 * thread that completes the driver future.
+	 */
+	private InstrumentedExecutor resultExecutor;
+
 	/**
 	 * Create a new, uninitialized {@link AsyncCqlTemplate}. Note: The {@link SessionFactory} has to be set before using
 	 * the instance.
@@ -114,6 +123,30 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Set the {@link Executor} to run {@link ResultSetExtractor}, {@link RowMapper} and {@link RowCallbackHandler}
+	 * callbacks. Without an {@link Executor}, callbacks run on the thread that completes the driver future which is
+	 * typically a driver I/O thread. Offloading result extraction keeps I/O threads free from entity conversion work.
+	 * <p>
+	 * The {@link Executor} is decorated with {@link InstrumentedExecutor} to expose queue depth and extraction time
+	 * metrics, see {@link #getResultExecutor()}.
+	 *
+	 * @param resultExecutor the {@link Executor} to run result extraction, may be {@literal null} to extract results on
+	 *          the completing thread.
+	 * @since 2.0
+	 */
+	public void setResultExecutor(Executor resultExecutor) {
+		this.resultExecutor = resultExecutor != null ? InstrumentedExecutor.of(resultExecutor) : null;
+	}
+
+	/**
+	 * @return the {@link InstrumentedExecutor} running result extraction, may be {@literal null} if not configured.
+	 * @since 2.0
+	 */
+	public InstrumentedExecutor getResultExecutor() {
+		return this.resultExecutor;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.driver.core.Session
 	// -------------------------------------------------------------------------
@@ -170,9 +203,10 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 
 			ResultSetFuture results = getCurrentSession().executeAsync(simpleStatement);
 
-			return new ExceptionTranslatingListenableFutureAdapter<>(new MappingListenableFutureAdapter<>(
-					new GuavaListenableFutureAdapter<>(results, ex -> translateExceptionIfPossible("Query", cql, ex)),
-					resultSetExtractor::extractData), getExceptionTranslator());
+			return new ExceptionTranslatingListenableFutureAdapter<>(
+					extract(new GuavaListenableFutureAdapter<>(results, ex -> translateExceptionIfPossible("Query", cql, ex)),
+							resultSetExtractor),
+					getExceptionTranslator());
 		} catch (DriverException e) {
 			throw translateException("Query", cql, e);
 		}
@@ -293,10 +327,8 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 			ResultSetFuture results = getCurrentSession().executeAsync(applyStatementSettings(statement));
 
 			return new ExceptionTranslatingListenableFutureAdapter<>(
-					new MappingListenableFutureAdapter<>(
-							new GuavaListenableFutureAdapter<>(results,
-									ex -> translateExceptionIfPossible("Query", statement.toString(), ex)),
-							resultSetExtractor::extractData),
+					extract(new GuavaListenableFutureAdapter<>(results,
+							ex -> translateExceptionIfPossible("Query", statement.toString(), ex)), resultSetExtractor),
 					getExceptionTranslator());
 		} catch (DriverException e) {
 			throw translateException("Query", statement.toString(), e);
@@ -531,34 +563,31 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 
 			SettableListenableFuture<T> settableListenableFuture = new SettableListenableFuture<>();
 
+			InstrumentedExecutor resultExecutor = this.resultExecutor;
+			Executor executor = resultExecutor == null ? Runnable::run : command -> {
+				try {
+					resultExecutor.execute(command);
+				} catch (RejectedExecutionException e) {
+					settableListenableFuture.setException(e);
+				}
+			};
+
 			statementFuture.addCallback(
 					boundStatement -> Futures.addCallback(session.executeAsync(boundStatement), new FutureCallback<ResultSet>() {
 						@Override
 						public void onSuccess(ResultSet result) {
 							try {
 								settableListenableFuture.set(resultSetExtractor.extractData(result));
-							} catch (DriverException e) {
-								settableListenableFuture.setException(exceptionTranslator.translateExceptionIfPossible(e));
+							} catch (RuntimeException | Error e) {
+								setException(settableListenableFuture, e, exceptionTranslator);
 							}
 						}
 
 						@Override
 						public void onFailure(Throwable ex) {
-							if (ex instanceof DriverException) {
-								settableListenableFuture
-										.setException(exceptionTranslator.translateExceptionIfPossible((DriverException) ex));
-							} else {
-								settableListenableFuture.setException(ex);
-							}
-						}
-					}), ex -> {
-						if (ex instanceof DriverException) {
-							settableListenableFuture
-									.setException(exceptionTranslator.translateExceptionIfPossible((DriverException) ex));
-						} else {
-							settableListenableFuture.setException(ex);
+							setException(settableListenableFuture, ex, exceptionTranslator);
 						}
-					});
+					}, executor), ex -> setException(settableListenableFuture, ex, exceptionTranslator));
 
 			return settableListenableFuture;
 
@@ -785,6 +814,55 @@ public class AsyncCqlTemplate extends CqlTemplateSupport implements AsyncCqlOper
 		return getSessionFactory().getSession();
 	}
 
+	/**
+	 * Apply the {@link ResultSetExtractor} to the {@link ResultSet} once {@code results} completes. Extraction runs on
+	 * the {@link #setResultExecutor(Executor) result executor}, if configured, or on the completing thread otherwise.
+	 */
+	private <T> ListenableFuture<T> extract(ListenableFuture<ResultSet> results,
+			ResultSetExtractor<T> resultSetExtractor) {
+
+		InstrumentedExecutor executor = this.resultExecutor;
+
+		if (executor == null) {
+			return new MappingListenableFutureAdapter<>(results, resultSetExtractor::extractData);
+		}
+
+		SettableListenableFuture<T> future = new SettableListenableFuture<>();
+
+		results.addCallback(resultSet -> {
+			try {
+				executor.execute(() -> {
+					try {
+						future.set(resultSetExtractor.extractData(resultSet));
+					} catch (RuntimeException | Error e) {
+						setException(future, e, getExceptionTranslator());
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				future.setException(e);
+			}
+		}, future::setException);
+
+		return future;
+	}
+
+	/**
+	 * Complete {@code future} exceptionally with {@code ex}, translated using {@link PersistenceExceptionTranslator} if
+	 * possible.
+	 */
+	private static void setException(SettableListenableFuture<?> future, Throwable ex,
+			PersistenceExceptionTranslator exceptionTranslator) {
+
+		if (ex instanceof RuntimeException) {
+
+			DataAccessException translated = exceptionTranslator.translateExceptionIfPossible((RuntimeException) ex);
+
+			future.setException(translated != null ? translated : ex);
+		} else {
+			future.setException(ex);
+		}
+	}
+
 	private static class SimpleAsyncPreparedStatementCreator implements AsyncPreparedStatementCreator, CqlProvider {
 
 		private final PersistenceExceptionTranslator persistenceExceptionTranslator;
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * {@link SessionCallback} that executes a sequence of {@link Statement}s asynchronously with a bounded number of
+ * in-flight statements. Statements are issued in order as soon as an in-flight slot is available so the total execution
+ * time is not bounded by the round-trip latency of each individual statement.
+ * <p>
+ * The callback returns once all issued statements have completed. By default, all statements are executed regardless
+ * of individual failures. In {@code failFast} mode, no further statements are issued once a statement has failed. In
+ * both modes, the first failure is rethrown after all in-flight statements have completed, subsequent failures are
+ * attached as {@link Throwable#getSuppressed() suppressed} exceptions.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see Session#executeAsync(Statement)
+ */
+public class PipelinedStatementCallback implements SessionCallback<List<ResultSet>> {
+
+	/**
+	 * Default number of in-flight statements.
+	 */
+	public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+	private final Iterable<? extends Statement> statements;
+
+	private final int maxInFlight;
+
+	private final boolean failFast;
+
+	/**
+	 * Create a new {@link PipelinedStatementCallback} using {@link #DEFAULT_MAX_IN_FLIGHT}.
+	 *
+	 * @param statements must not be {@literal null}.
+	 */
+	public PipelinedStatementCallback(Iterable<? extends Statement> statements) {
+		this(statements, DEFAULT_MAX_IN_FLIGHT);
+	}
+
+	/**
+	 * Create a new {@link PipelinedStatementCallback}.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param maxInFlight maximum number of in-flight statements, must be greater zero.
+	 */
+	public PipelinedStatementCallback(Iterable<? extends Statement> statements, int maxInFlight) {
+		this(statements, maxInFlight, false);
+	}
+
+	/**
+	 * Create a new {@link PipelinedStatementCallback}.
+	 *
+	 * @param statements must not be {@literal null}.
+	 * @param maxInFlight maximum number of in-flight statements, must be greater zero.
+	 * @param failFast {@literal true} to stop issuing statements after the first failed statement; {@literal false} to
+	 *          execute all statements regardless of failures.
+	 */
+	public PipelinedStatementCallback(Iterable<? extends Statement> statements, int maxInFlight, boolean failFast) {
+
+		Assert.notNull(statements, "Statements must not be null");
+		Assert.isTrue(maxInFlight > 0, "Max in-flight statements must be greater zero");
+
+		this.statements = statements;
+		this.maxInFlight = maxInFlight;
+		this.failFast = failFast;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.SessionCallback#doInSession(com.datastax.driver.core.Session)
+	 */
+	@Override
+	public List<ResultSet> doInSession(Session session) throws DriverException, DataAccessException {
+
+		Semaphore permits = new Semaphore(maxInFlight);
+		AtomicBoolean failed = new AtomicBoolean();
+		List<ResultSetFuture> futures = new ArrayList<>();
+
+		for (Statement statement : statements) {
+
+			permits.acquireUninterruptibly();
+
+			if (failed.get()) {
+				permits.release();
+				break;
+			}
+
+			ResultSetFuture future;
+
+			try {
+				future = session.executeAsync(statement);
+			} catch (RuntimeException e) {
+				permits.release();
+				throw e;
+			}
+
+			ResultSetFuture completed = future;
+
+			future.addListener(() -> {
+
+				if (failFast && isFailed(completed)) {
+					failed.set(true);
+				}
+
+				permits.release();
+			}, Runnable::run);
+
+			futures.add(future);
+		}
+
+		List<ResultSet> resultSets = new ArrayList<>(futures.size());
+		RuntimeException failure = null;
+
+		for (ResultSetFuture future : futures) {
+
+			try {
+				resultSets.add(future.getUninterruptibly());
+			} catch (RuntimeException e) {
+
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+
+		return resultSets;
+	}
+
+	private static boolean isFailed(ResultSetFuture future) {
+
+		try {
+			future.getUninterruptibly();
+			return false;
+		} catch (RuntimeException e) {
+			return true;
+		}
+	}
+}
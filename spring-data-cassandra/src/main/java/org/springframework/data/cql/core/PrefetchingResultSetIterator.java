@@ -0,0 +1,188 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+
+/**
+ * {@link Iterator} mapping {@link Row}s of a {@link ResultSet} with a {@link RowMapper} while prefetching the next
+ * result page. The next page is requested asynchronously through {@link ResultSet#fetchMoreResults()} once the number
+ * of rows available without fetching drops to the {@code prefetchThreshold} so fetching the next page overlaps with
+ * mapping rows of the current page.
+ * <p>
+ * Rows are mapped in chunks of rows that are available without fetching. Chunks can be mapped in parallel on a
+ * {@link ForkJoinPool}. Parallel mapping preserves the row order.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see ResultSet#fetchMoreResults()
+ */
+public class PrefetchingResultSetIterator<T> implements Iterator<T> {
+
+	private final ResultSet resultSet;
+
+	private final RowMapper<T> rowMapper;
+
+	private final int prefetchThreshold;
+
+	private final ForkJoinPool pool;
+
+	private Iterator<T> chunk = Collections.emptyIterator();
+
+	private int rowNumber;
+
+	/**
+	 * Create a new {@link PrefetchingResultSetIterator} mapping rows sequentially.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param prefetchThreshold number of rows available without fetching at which the next page is requested. Must not
+	 *          be negative.
+	 */
+	public PrefetchingResultSetIterator(ResultSet resultSet, RowMapper<T> rowMapper, int prefetchThreshold) {
+		this(resultSet, rowMapper, prefetchThreshold, null);
+	}
+
+	/**
+	 * Create a new {@link PrefetchingResultSetIterator}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param prefetchThreshold number of rows available without fetching at which the next page is requested. Must not
+	 *          be negative.
+	 * @param pool the {@link ForkJoinPool} to map chunks of rows in parallel, may be {@literal null} to map rows
+	 *          sequentially.
+	 */
+	public PrefetchingResultSetIterator(ResultSet resultSet, RowMapper<T> rowMapper, int prefetchThreshold,
+			ForkJoinPool pool) {
+
+		Assert.notNull(resultSet, "ResultSet must not be null");
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+		Assert.isTrue(prefetchThreshold >= 0, "Prefetch threshold must not be negative");
+
+		this.resultSet = resultSet;
+		this.rowMapper = rowMapper;
+		this.prefetchThreshold = prefetchThreshold;
+		this.pool = pool;
+	}
+
+	/**
+	 * Create an ordered, sequential {@link Stream} of mapped rows.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param rowMapper must not be {@literal null}.
+	 * @param prefetchThreshold number of rows available without fetching at which the next page is requested. Must not
+	 *          be negative.
+	 * @param pool the {@link ForkJoinPool} to map chunks of rows in parallel, may be {@literal null} to map rows
+	 *          sequentially.
+	 * @return the {@link Stream} of mapped rows.
+	 */
+	public static <T> Stream<T> stream(ResultSet resultSet, RowMapper<T> rowMapper, int prefetchThreshold,
+			ForkJoinPool pool) {
+
+		Iterator<T> iterator = new PrefetchingResultSetIterator<>(resultSet, rowMapper, prefetchThreshold, pool);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		if (chunk.hasNext()) {
+			return true;
+		}
+
+		if (resultSet.isExhausted()) {
+			return false;
+		}
+
+		chunk = nextChunk();
+
+		return chunk.hasNext();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return chunk.next();
+	}
+
+	private Iterator<T> nextChunk() {
+
+		if (pool == null) {
+
+			Row row = resultSet.one();
+
+			prefetchIfNecessary();
+
+			return Collections.singleton(rowMapper.mapRow(row, rowNumber++)).iterator();
+		}
+
+		int available = resultSet.getAvailableWithoutFetching();
+		List<Row> rows = new ArrayList<>(available);
+
+		for (int i = 0; i < available; i++) {
+			rows.add(resultSet.one());
+		}
+
+		prefetchIfNecessary();
+
+		int offset = rowNumber;
+		rowNumber += rows.size();
+
+		if (rows.size() == 1) {
+			return Collections.singleton(rowMapper.mapRow(rows.get(0), offset)).iterator();
+		}
+
+		List<T> mapped = pool.submit(() -> IntStream.range(0, rows.size()).parallel()
+				.mapToObj(index -> rowMapper.mapRow(rows.get(index), offset + index)).collect(Collectors.toList())).join();
+
+		return mapped.iterator();
+	}
+
+	private void prefetchIfNecessary() {
+
+		if (!resultSet.isFullyFetched() && resultSet.getAvailableWithoutFetching() <= prefetchThreshold) {
+			resultSet.fetchMoreResults();
+		}
+	}
+}
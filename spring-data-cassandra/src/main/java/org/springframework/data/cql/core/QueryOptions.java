@@ -196,7 +196,7 @@ public class QueryOptions {
 
 		private Long readTimeout;
 
-		QueryOptionsBuilder() {}
+		protected QueryOptionsBuilder() {}
 
 		/**
 		 * Sets the {@link ConsistencyLevel} to use.
@@ -17,9 +17,13 @@ package org.springframework.data.cql.core;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.reactivestreams.Publisher;
@@ -29,11 +33,14 @@ import org.springframework.data.cql.core.session.DefaultReactiveSessionFactory;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 import org.springframework.data.cql.core.session.ReactiveSessionFactory;
+import org.springframework.data.cql.core.support.InstrumentedExecutor;
 import org.springframework.data.cql.support.ReactiveCassandraAccessor;
 import org.springframework.util.Assert;
 
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.ExecutionInfo;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.SimpleStatement;
@@ -104,6 +111,14 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	private com.datastax.driver.core.ConsistencyLevel consistencyLevel;
 
+	/**
+	 * If this variable is set to a value, rows are emitted to {@link ReactiveResultSetExtractor}s and {@link RowMapper}s
+	 * on this {@link Executor} instead of the thread that completes the driver future.
+	 */
+	private InstrumentedExecutor resultExecutor;
+
+	private Scheduler resultScheduler;
+
 	/**
 	 * Construct a new {@link ReactiveCqlTemplate Note: The {@link ReactiveSessionFactory} has to be set before using the
 	 * instance.
@@ -195,6 +210,32 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return retryPolicy;
 	}
 
+	/**
+	 * Set the {@link Executor} to run {@link ReactiveResultSetExtractor} and {@link RowMapper} callbacks. Without an
+	 * {@link Executor}, rows are emitted on the thread that completes the driver future which is typically a driver I/O
+	 * thread. Offloading result extraction keeps I/O threads free from entity conversion work.
+	 * <p>
+	 * The {@link Executor} is decorated with {@link InstrumentedExecutor} to expose queue depth and extraction time
+	 * metrics, see {@link #getResultExecutor()}.
+	 *
+	 * @param resultExecutor the {@link Executor} to run result extraction, may be {@literal null} to extract results on
+	 *          the completing thread.
+	 * @since 2.0
+	 */
+	public void setResultExecutor(Executor resultExecutor) {
+
+		this.resultExecutor = resultExecutor != null ? InstrumentedExecutor.of(resultExecutor) : null;
+		this.resultScheduler = this.resultExecutor != null ? Schedulers.fromExecutor(this.resultExecutor) : null;
+	}
+
+	/**
+	 * @return the {@link InstrumentedExecutor} running result extraction, may be {@literal null} if not configured.
+	 * @since 2.0
+	 */
+	public InstrumentedExecutor getResultExecutor() {
+		return resultExecutor;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain org.springframework.data.cql.core.ReactiveSession
 	// -------------------------------------------------------------------------
@@ -240,7 +281,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing CQL Statement [{}]", cql);
 			}
 
-			return session.execute(stmt).flatMapMany(resultSetExtractor::extractData);
+			return session.execute(stmt).flatMapMany(it -> resultSetExtractor.extractData(publishOn(it)));
 		}).onErrorMap(translateException("Query", cql));
 	}
 
@@ -361,7 +402,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing CQL Statement [{}]", statement);
 			}
 
-			return session.execute(stmt).flatMapMany(rse::extractData);
+			return session.execute(stmt).flatMapMany(it -> rse.extractData(publishOn(it)));
 		}).onErrorMap(translateException("Query", statement.toString()));
 	}
 
@@ -498,7 +539,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 			applyStatementSettings(boundStatement);
 
 			return session.execute(boundStatement);
-		}).flatMap(rse::extractData)).onErrorMap(translateException("Query", getCql(psc)));
+		}).flatMap(it -> rse.extractData(publishOn(it)))).onErrorMap(translateException("Query", getCql(psc)));
 	}
 
 	/* (non-Javadoc)
@@ -832,6 +873,17 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return getSessionFactory().getSession();
 	}
 
+	/**
+	 * Emit rows of the {@link ReactiveResultSet} on the {@link #setResultExecutor(Executor) result executor}, if
+	 * configured.
+	 */
+	private ReactiveResultSet publishOn(ReactiveResultSet resultSet) {
+
+		Scheduler scheduler = this.resultScheduler;
+
+		return scheduler != null ? new PublishOnReactiveResultSet(resultSet, scheduler) : resultSet;
+	}
+
 	/**
 	 * Determine CQL from potential provider object.
 	 *
@@ -869,4 +921,50 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 			return cql;
 		}
 	}
+
+	/**
+	 * {@link ReactiveResultSet} emitting {@link #rows()} on a {@link Scheduler}.
+	 */
+	private static class PublishOnReactiveResultSet implements ReactiveResultSet {
+
+		private final ReactiveResultSet delegate;
+
+		private final Scheduler scheduler;
+
+		PublishOnReactiveResultSet(ReactiveResultSet delegate, Scheduler scheduler) {
+
+			this.delegate = delegate;
+			this.scheduler = scheduler;
+		}
+
+		@Override
+		public Flux<Row> rows() {
+			return delegate.rows().publishOn(scheduler);
+		}
+
+		@Override
+		public Flux<Row> availableRows() {
+			return delegate.availableRows().publishOn(scheduler);
+		}
+
+		@Override
+		public ColumnDefinitions getColumnDefinitions() {
+			return delegate.getColumnDefinitions();
+		}
+
+		@Override
+		public boolean wasApplied() {
+			return delegate.wasApplied();
+		}
+
+		@Override
+		public ExecutionInfo getExecutionInfo() {
+			return delegate.getExecutionInfo();
+		}
+
+		@Override
+		public List<ExecutionInfo> getAllExecutionInfo() {
+			return delegate.getAllExecutionInfo();
+		}
+	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.session;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.*;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * {@link ReactiveSession} implementation that bridges asynchronous {@link Session} methods to reactive execution
+ * patterns without switching threads.
+ * <p>
+ * In contrast to {@link DefaultBridgedReactiveSession}, calls are issued on the subscribing thread and results are
+ * emitted from the driver callback as calls complete. {@link Session#executeAsync(Statement)} and
+ * {@link Session#prepareAsync(RegularStatement)} do not block so there is no need to subscribe on a {@link Scheduler}.
+ * Results are emitted on netty EventLoop threads unless a {@link Scheduler} is configured to offload result
+ * consumption (e.g. row mapping) from the driver I/O threads.
+ * <p>
+ * {@link ReactiveResultSet rows} are fetched page by page. Subsequent pages are fetched asynchronously without
+ * blocking.
+ * <p>
+ * All CQL operations performed by this class are logged at debug level, using
+ * "org.springframework.data.cql.core.session.AsyncBridgedReactiveSession" as log category.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see Mono
+ * @see ReactiveResultSet
+ * @see ReactiveSession
+ * @see DefaultBridgedReactiveSession
+ */
+public class AsyncBridgedReactiveSession implements ReactiveSession {
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Session session;
+	private final Scheduler scheduler;
+
+	/**
+	 * Create a new {@link AsyncBridgedReactiveSession} for a {@link Session}. Results are emitted on the driver callback
+	 * threads.
+	 *
+	 * @param session must not be {@literal null}.
+	 */
+	public AsyncBridgedReactiveSession(Session session) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		this.session = session;
+		this.scheduler = null;
+	}
+
+	/**
+	 * Create a new {@link AsyncBridgedReactiveSession} for a {@link Session} and {@link Scheduler}. Results are
+	 * transported by the given {@link Scheduler} to offload result consumption from the driver callback threads.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param scheduler must not be {@literal null}.
+	 */
+	public AsyncBridgedReactiveSession(Session session, Scheduler scheduler) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.session = session;
+		this.scheduler = scheduler;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#execute(java.lang.String)
+	 */
+	@Override
+	public Mono<ReactiveResultSet> execute(String query) {
+
+		Assert.hasText(query, "Query must not be empty");
+
+		return execute(new SimpleStatement(query));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#execute(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public Mono<ReactiveResultSet> execute(String query, Object... values) {
+
+		Assert.hasText(query, "Query must not be empty");
+
+		return execute(new SimpleStatement(query, values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#execute(java.lang.String, java.util.Map)
+	 */
+	@Override
+	public Mono<ReactiveResultSet> execute(String query, Map<String, Object> values) {
+
+		Assert.hasText(query, "Query must not be empty");
+
+		return execute(new SimpleStatement(query, values));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#execute(com.datastax.driver.core.Statement)
+	 */
+	@Override
+	public Mono<ReactiveResultSet> execute(Statement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		return emit(Mono.defer(() -> {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing Statement [{}]", statement);
+			}
+
+			return toMono(session.executeAsync(statement));
+
+		}).map(resultSet -> new DefaultReactiveResultSet(resultSet, scheduler)));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#prepare(java.lang.String)
+	 */
+	@Override
+	public Mono<PreparedStatement> prepare(String query) {
+
+		Assert.hasText(query, "Query must not be empty");
+
+		return prepare(new SimpleStatement(query));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#prepare(com.datastax.driver.core.RegularStatement)
+	 */
+	@Override
+	public Mono<PreparedStatement> prepare(RegularStatement statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		return emit(Mono.defer(() -> {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug("Preparing Statement [{}]", statement);
+			}
+
+			return toMono(session.prepareAsync(statement));
+		}));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#close()
+	 */
+	@Override
+	public void close() {
+		session.close();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#isClosed()
+	 */
+	@Override
+	public boolean isClosed() {
+		return session.isClosed();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveSession#getCluster()
+	 */
+	@Override
+	public Cluster getCluster() {
+		return session.getCluster();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.session.ReactiveSession#getLoggedKeyspace()
+	 */
+	@Override
+	public String getLoggedKeyspace() {
+		return session.getLoggedKeyspace();
+	}
+
+	private <T> Mono<T> emit(Mono<T> mono) {
+		return scheduler != null ? mono.publishOn(scheduler) : mono;
+	}
+
+	private static <T> Mono<T> toMono(ListenableFuture<T> listenableFuture) {
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		listenableFuture.addListener(() -> {
+
+			try {
+				future.complete(listenableFuture.get());
+			} catch (ExecutionException e) {
+				future.completeExceptionally(e.getCause());
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+		}, Runnable::run);
+
+		return Mono.fromFuture(future);
+	}
+}
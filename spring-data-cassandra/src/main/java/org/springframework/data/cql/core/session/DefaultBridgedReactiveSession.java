@@ -15,12 +15,9 @@
  */
 package org.springframework.data.cql.core.session;
 
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
-import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
@@ -40,8 +37,10 @@ import com.google.common.util.concurrent.ListenableFuture;
  * <p>
  * {@link ResultSet} implements transparent paging that invokes in the middle of result streaming blocking calls to
  * Cassandra. {@link DefaultBridgedReactiveSession} uses therefore {@link ReactiveResultSet} to avoid client thread
- * blocking. Elements are emitted on netty EventLoop threads and transported by the provided {@link Scheduler}. However,
- * this is an intermediate solution until Datastax can provide a fully reactive driver.
+ * blocking. {@link ReactiveResultSet} emits rows page by page and fetches the next page asynchronously only after the
+ * subscriber consumed the rows of the current page. Elements are emitted on netty EventLoop threads and transported by
+ * the provided {@link Scheduler}. However, this is an intermediate solution until Datastax can provide a fully reactive
+ * driver.
  * <p>
  * All CQL operations performed by this class are logged at debug level, using
  * "org.springframework.data.cql.core.DefaultBridgedReactiveSession" as log category.
@@ -217,59 +216,11 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		return session.getCluster();
 	}
 
-	private static class DefaultReactiveResultSet implements ReactiveResultSet {
-
-		private final ResultSet resultSet;
-		private final Scheduler scheduler;
-
-		DefaultReactiveResultSet(ResultSet resultSet, Scheduler scheduler) {
-			this.resultSet = resultSet;
-			this.scheduler = scheduler;
-		}
-
-		/* (non-Javadoc)
-		 * @see org.springframework.data.cql.core.ReactiveResultSet#rows()
-		 */
-		@Override
-		public Flux<Row> rows() {
-
-			int prefetch = Math.max(1, resultSet.getAvailableWithoutFetching());
-
-			return Flux.fromIterable(resultSet) //
-					.subscribeOn(scheduler) //
-					.publishOn(Schedulers.immediate(), prefetch); // limit prefetching to available size
-		}
-
-		/* (non-Javadoc)
-		 * @see org.springframework.data.cql.core.ReactiveResultSet#getColumnDefinitions()
-		 */
-		@Override
-		public ColumnDefinitions getColumnDefinitions() {
-			return resultSet.getColumnDefinitions();
-		}
-
-		/* (non-Javadoc)
-		 * @see org.springframework.data.cql.core.ReactiveResultSet#wasApplied()
-		 */
-		@Override
-		public boolean wasApplied() {
-			return resultSet.wasApplied();
-		}
-
-		/* (non-Javadoc)
-		 * @see org.springframework.data.cql.core.ReactiveResultSet#getExecutionInfo()
-		 */
-		@Override
-		public ExecutionInfo getExecutionInfo() {
-			return resultSet.getExecutionInfo();
-		}
-
-		/* (non-Javadoc)
-		 * @see org.springframework.data.cql.core.ReactiveResultSet#getAllExecutionInfo()
-		 */
-		@Override
-		public List<ExecutionInfo> getAllExecutionInfo() {
-			return resultSet.getAllExecutionInfo();
-		}
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.session.ReactiveSession#getLoggedKeyspace()
+	 */
+	@Override
+	public String getLoggedKeyspace() {
+		return session.getLoggedKeyspace();
 	}
 }
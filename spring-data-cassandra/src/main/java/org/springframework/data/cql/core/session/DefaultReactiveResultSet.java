@@ -0,0 +1,171 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.session;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.util.Assert;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.ListenableFuture;
+
+/**
+ * Default {@link ReactiveResultSet} implementation adapting a driver {@link ResultSet}.
+ * <p>
+ * Rows are emitted page by page. Rows that are available without fetching are emitted according to the subscriber
+ * demand, the next page is fetched asynchronously using {@link ResultSet#fetchMoreResults()} after the subscriber
+ * consumed the current page. Pages are fetched in a loop without nesting publishers per page so that large results do
+ * not grow the operator chain or the stack.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+class DefaultReactiveResultSet implements ReactiveResultSet {
+
+	private final ResultSet resultSet;
+	private final Scheduler scheduler;
+
+	/**
+	 * Create a new {@link DefaultReactiveResultSet}.
+	 *
+	 * @param resultSet must not be {@literal null}.
+	 * @param scheduler the {@link Scheduler} to transport rows of subsequently fetched pages, may be {@literal null} to
+	 *          emit rows on the thread that completes the page fetch.
+	 */
+	DefaultReactiveResultSet(ResultSet resultSet, Scheduler scheduler) {
+
+		Assert.notNull(resultSet, "ResultSet must not be null");
+
+		this.resultSet = resultSet;
+		this.scheduler = scheduler;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#rows()
+	 */
+	@Override
+	public Flux<Row> rows() {
+		return getRows(resultSet, scheduler);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#availableRows()
+	 */
+	@Override
+	public Flux<Row> availableRows() {
+		return getAvailableRows(resultSet);
+	}
+
+	/**
+	 * Emit the rows that are available without fetching and fetch the next page asynchronously once the subscriber
+	 * consumed all available rows. Pages are fetched iteratively by resubscribing to the available rows after each page
+	 * fetch. Rows of fetched pages are transported by the {@link Scheduler}, if configured.
+	 */
+	private static Flux<Row> getRows(ResultSet resultSet, Scheduler scheduler) {
+
+		return getAvailableRows(resultSet).repeatWhen(completions -> completions //
+				.concatMap(it -> fetchNextPage(resultSet, scheduler)) //
+				.takeWhile(Boolean::booleanValue));
+	}
+
+	private static Flux<Row> getAvailableRows(ResultSet resultSet) {
+		return Flux.defer(() -> Flux.range(0, resultSet.getAvailableWithoutFetching()).map(it -> resultSet.one()));
+	}
+
+	/**
+	 * Fetch the next page if the current page is consumed.
+	 *
+	 * @return a {@link Mono} emitting {@literal true} if rows are available or {@literal false} if the
+	 *         {@link ResultSet} is exhausted.
+	 */
+	private static Mono<Boolean> fetchNextPage(ResultSet resultSet, Scheduler scheduler) {
+
+		if (resultSet.getAvailableWithoutFetching() > 0) {
+			return Mono.just(true);
+		}
+
+		if (resultSet.isFullyFetched()) {
+			return Mono.just(false);
+		}
+
+		Mono<ResultSet> nextPage = scheduler != null ? fetchMoreResults(resultSet).publishOn(scheduler)
+				: fetchMoreResults(resultSet);
+
+		return nextPage.map(it -> true);
+	}
+
+	private static Mono<ResultSet> fetchMoreResults(ResultSet resultSet) {
+
+		CompletableFuture<ResultSet> future = new CompletableFuture<>();
+		ListenableFuture<ResultSet> fetchFuture = resultSet.fetchMoreResults();
+
+		fetchFuture.addListener(() -> {
+
+			if (fetchFuture.isDone()) {
+				try {
+					future.complete(fetchFuture.get());
+				} catch (ExecutionException e) {
+					future.completeExceptionally(e.getCause());
+				} catch (Exception e) {
+					future.completeExceptionally(e);
+				}
+			}
+		}, Runnable::run);
+
+		return Mono.fromFuture(future);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#getColumnDefinitions()
+	 */
+	@Override
+	public ColumnDefinitions getColumnDefinitions() {
+		return resultSet.getColumnDefinitions();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#wasApplied()
+	 */
+	@Override
+	public boolean wasApplied() {
+		return resultSet.wasApplied();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#getExecutionInfo()
+	 */
+	@Override
+	public ExecutionInfo getExecutionInfo() {
+		return resultSet.getExecutionInfo();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactiveResultSet#getAllExecutionInfo()
+	 */
+	@Override
+	public List<ExecutionInfo> getAllExecutionInfo() {
+		return resultSet.getAllExecutionInfo();
+	}
+}
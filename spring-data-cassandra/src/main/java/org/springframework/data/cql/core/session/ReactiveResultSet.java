@@ -58,6 +58,25 @@ public interface ReactiveResultSet {
 	 */
 	Flux<Row> rows();
 
+	/**
+	 * Returns a {@link Flux} over the rows that are available without fetching.
+	 * <p>
+	 * The {@link Flux} emits only the rows of the current page and does not fetch subsequent pages. Use
+	 * {@link #getExecutionInfo()} to obtain the {@link com.datastax.driver.core.PagingState} to continue with the next
+	 * page.
+	 * <p>
+	 * The default implementation emits {@link UnsupportedOperationException}. Implementations should override this method
+	 * if they can tell apart rows of the current page from rows that require fetching.
+	 *
+	 * @return a {@link Flux} of rows that are available without fetching.
+	 * @since 2.0
+	 * @see com.datastax.driver.core.ResultSet#getAvailableWithoutFetching()
+	 */
+	default Flux<Row> availableRows() {
+		return Flux.error(new UnsupportedOperationException(
+				String.format("%s does not support retrieval of available rows", getClass().getName())));
+	}
+
 	/**
 	 * Returns the columns returned in this ResultSet.
 	 *
@@ -197,4 +197,20 @@ public interface ReactiveSession extends Closeable {
 	 * @return the {@code Cluster} object this session is part of.
 	 */
 	Cluster getCluster();
+
+	/**
+	 * The keyspace to which the session is currently logged in, if any.
+	 * <p>
+	 * This correspond to the name passed to {@link Cluster#connect(String)}, or to the last keyspace logged into through
+	 * a "USE" CQL query if one was used.
+	 * <p>
+	 * Defaults to {@literal null} for implementations that do not track the logged keyspace. Implementations should
+	 * override this method as the keyspace is part of the key used to cache prepared statements.
+	 *
+	 * @return the name of the keyspace to which this session is currently logged in, or {@literal null} if the session
+	 *         is logged to no keyspace.
+	 */
+	default String getLoggedKeyspace() {
+		return null;
+	}
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+
+/**
+ * Cache interface to asynchronously prepare CQL statements.
+ * <p />
+ * In contrast to {@link PreparedStatementCache}, implementations prepare statements without blocking the calling
+ * thread. Concurrent requests for a statement that is not yet prepared share a single preparation so a statement is
+ * prepared only once even if it is requested by many callers at the same time. Implementations should cache
+ * statements using Cassandras cache key which is specific to the Cluster, keyspace, and CQL text.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see PreparedStatementCache
+ * @see PreparedStatement
+ */
+public interface AsyncPreparedStatementCache {
+
+	/**
+	 * Create a default cache backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+	 *
+	 * @return a new {@link MapAsyncPreparedStatementCache}.
+	 */
+	static AsyncPreparedStatementCache create() {
+		return MapAsyncPreparedStatementCache.create();
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link Session} and {@link RegularStatement}. Statements that are not cached
+	 * yet are prepared using {@link Session#prepareAsync(RegularStatement)}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link ListenableFuture} completing with the {@link PreparedStatement}.
+	 */
+	ListenableFuture<PreparedStatement> getPreparedStatement(Session session, RegularStatement statement);
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link ReactiveSession} and {@link RegularStatement}. Statements that are not
+	 * cached yet are prepared using {@link ReactiveSession#prepare(RegularStatement)}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link Mono} emitting the {@link PreparedStatement}.
+	 */
+	Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, RegularStatement statement);
+}
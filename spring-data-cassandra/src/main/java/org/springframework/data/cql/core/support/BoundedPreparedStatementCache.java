@@ -0,0 +1,301 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import lombok.EqualsAndHashCode;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.MaterializedViewMetadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.SchemaChangeListener;
+import com.datastax.driver.core.SchemaChangeListenerBase;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.UserType;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * Bounded {@link PreparedStatementCache} backed by a Guava {@link Cache}. The cache is bounded either by the number of
+ * cached statements or by the total length of their CQL text and evicts least recently used statements once the
+ * bound is exceeded. Concurrent requests for the same statement are prepared only once.
+ * <p/>
+ * Statements are cached with a key consisting of {@link Cluster}, {@code keyspace} and the {@code cql} text. Cache
+ * hits, misses and evictions are recorded and exposed through {@link #getHitCount()}, {@link #getMissCount()} and
+ * {@link #getEvictionCount()}.
+ * <p/>
+ * Cached statements are invalidated on schema changes when registering the {@link #getSchemaChangeListener() schema
+ * change listener} with the {@link Cluster}:
+ *
+ * <pre class="code">
+ * BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumSize(1000);
+ * cluster.register(cache.getSchemaChangeListener());
+ * </pre>
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see MapPreparedStatementCache
+ */
+public class BoundedPreparedStatementCache implements PreparedStatementCache {
+
+	private final Cache<CacheKey, PreparedStatement> cache;
+
+	private final SchemaChangeListener schemaChangeListener = new InvalidatingSchemaChangeListener();
+
+	/**
+	 * Create a new {@link BoundedPreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private BoundedPreparedStatementCache(Cache<CacheKey, PreparedStatement> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} holding at most {@code maximumSize} statements.
+	 *
+	 * @param maximumSize maximum number of cached statements, must be greater than zero.
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache ofMaximumSize(long maximumSize) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		return new BoundedPreparedStatementCache(CacheBuilder.newBuilder() //
+				.maximumSize(maximumSize) //
+				.recordStats() //
+				.build());
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} bounded by the total length of the cached CQL text. Use this
+	 * variant to cap memory consumption for applications using large or dynamically built statements.
+	 *
+	 * @param maximumCqlLength maximum total number of CQL characters across all cached statements, must be greater than
+	 *          zero.
+	 * @return the new {@link BoundedPreparedStatementCache}.
+	 */
+	public static BoundedPreparedStatementCache ofMaximumWeight(long maximumCqlLength) {
+
+		Assert.isTrue(maximumCqlLength > 0, "Maximum CQL length must be greater than zero");
+
+		return new BoundedPreparedStatementCache(CacheBuilder.newBuilder() //
+				.maximumWeight(maximumCqlLength) //
+				.<CacheKey, PreparedStatement> weigher((key, value) -> key.cql.length()) //
+				.recordStats() //
+				.build());
+	}
+
+	/**
+	 * Create a {@link BoundedPreparedStatementCache} using the given {@link Cache}. The {@link Cache} should be
+	 * configured to {@link CacheBuilder#recordStats() record statistics} to report hit, miss and eviction counts.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @return the new {@link BoundedPreparedStatementCache} backed by the given {@link Cache}.
+	 */
+	public static BoundedPreparedStatementCache of(Cache<CacheKey, PreparedStatement> cache) {
+		return new BoundedPreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Cache}.
+	 */
+	protected Cache<CacheKey, PreparedStatement> getCache() {
+		return this.cache;
+	}
+
+	/**
+	 * @return the {@link SchemaChangeListener} invalidating cached statements on schema changes. Register the listener
+	 *         with the {@link Cluster} that is used to prepare statements.
+	 * @see Cluster#register(SchemaChangeListener)
+	 */
+	public SchemaChangeListener getSchemaChangeListener() {
+		return this.schemaChangeListener;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.PreparedStatementCache#getPreparedStatement(com.datastax.driver.core.Session, com.datastax.driver.core.RegularStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public PreparedStatement getPreparedStatement(Session session, RegularStatement statement,
+			Supplier<PreparedStatement> preparer) {
+
+		CacheKey cacheKey = new CacheKey(session, statement.toString());
+
+		try {
+			return getCache().get(cacheKey, preparer::get);
+		} catch (UncheckedExecutionException | ExecutionException | ExecutionError e) {
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			if (e.getCause() instanceof Error) {
+				throw (Error) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Invalidate all cached statements that were prepared within the given {@code keyspace}. Statements prepared without
+	 * a logged keyspace are invalidated as well as they may reference the keyspace through qualified table names.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 */
+	public void invalidate(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		getCache().asMap().keySet()
+				.removeIf(key -> key.keyspace == null || ObjectUtils.nullSafeEquals(key.keyspace, keyspace));
+	}
+
+	/**
+	 * Invalidate all cached statements.
+	 */
+	public void invalidateAll() {
+		getCache().invalidateAll();
+	}
+
+	/**
+	 * @return the approximate number of cached statements.
+	 */
+	public long size() {
+		return getCache().size();
+	}
+
+	/**
+	 * @return the number of times a cached statement was returned.
+	 */
+	public long getHitCount() {
+		return getStats().hitCount();
+	}
+
+	/**
+	 * @return the number of times a statement was not cached and had to be prepared.
+	 */
+	public long getMissCount() {
+		return getStats().missCount();
+	}
+
+	/**
+	 * @return the number of statements evicted because the cache bound was exceeded. Invalidations are not counted.
+	 */
+	public long getEvictionCount() {
+		return getStats().evictionCount();
+	}
+
+	private CacheStats getStats() {
+		return getCache().stats();
+	}
+
+	/**
+	 * {@link CacheKey} for {@link PreparedStatement} caching.
+	 */
+	@EqualsAndHashCode
+	protected static class CacheKey {
+
+		final Cluster cluster;
+		final String keyspace;
+		final String cql;
+
+		CacheKey(Session session, String cql) {
+
+			this.cluster = session.getCluster();
+			this.keyspace = session.getLoggedKeyspace();
+			this.cql = cql;
+		}
+	}
+
+	/**
+	 * {@link SchemaChangeListener} invalidating statements whose keyspace was altered. Prepared statements capture the
+	 * result set metadata at preparation time and need to be prepared again once the referenced tables or types change.
+	 */
+	private class InvalidatingSchemaChangeListener extends SchemaChangeListenerBase {
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onKeyspaceRemoved(com.datastax.driver.core.KeyspaceMetadata)
+		 */
+		@Override
+		public void onKeyspaceRemoved(KeyspaceMetadata keyspace) {
+			invalidate(keyspace.getName());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onTableRemoved(com.datastax.driver.core.TableMetadata)
+		 */
+		@Override
+		public void onTableRemoved(TableMetadata table) {
+			invalidate(table.getKeyspace().getName());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onTableChanged(com.datastax.driver.core.TableMetadata, com.datastax.driver.core.TableMetadata)
+		 */
+		@Override
+		public void onTableChanged(TableMetadata current, TableMetadata previous) {
+			invalidate(current.getKeyspace().getName());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeRemoved(com.datastax.driver.core.UserType)
+		 */
+		@Override
+		public void onUserTypeRemoved(UserType type) {
+			invalidate(type.getKeyspace());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onUserTypeChanged(com.datastax.driver.core.UserType, com.datastax.driver.core.UserType)
+		 */
+		@Override
+		public void onUserTypeChanged(UserType current, UserType previous) {
+			invalidate(current.getKeyspace());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onMaterializedViewRemoved(com.datastax.driver.core.MaterializedViewMetadata)
+		 */
+		@Override
+		public void onMaterializedViewRemoved(MaterializedViewMetadata view) {
+			invalidate(view.getKeyspace().getName());
+		}
+
+		/* (non-Javadoc)
+		 * @see com.datastax.driver.core.SchemaChangeListenerBase#onMaterializedViewChanged(com.datastax.driver.core.MaterializedViewMetadata, com.datastax.driver.core.MaterializedViewMetadata)
+		 */
+		@Override
+		public void onMaterializedViewChanged(MaterializedViewMetadata current, MaterializedViewMetadata previous) {
+			invalidate(current.getKeyspace().getName());
+		}
+	}
+}
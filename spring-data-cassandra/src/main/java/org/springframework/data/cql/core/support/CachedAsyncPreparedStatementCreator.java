@@ -0,0 +1,127 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.cql.core.AsyncPreparedStatementCreator;
+import org.springframework.data.cql.core.CqlProvider;
+import org.springframework.data.cql.core.ReactivePreparedStatementCreator;
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.exceptions.DriverException;
+
+/**
+ * {@link AsyncPreparedStatementCreator} and {@link ReactivePreparedStatementCreator} implementation using caching of
+ * prepared statements.
+ * <p />
+ * Regular CQL statements are prepared asynchronously on first use and executed as prepared statements. Concurrent
+ * callers share a single preparation through {@link AsyncPreparedStatementCache}.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ * @see AsyncPreparedStatementCache
+ * @see CachedPreparedStatementCreator
+ */
+public class CachedAsyncPreparedStatementCreator
+		implements AsyncPreparedStatementCreator, ReactivePreparedStatementCreator, CqlProvider {
+
+	private final AsyncPreparedStatementCache cache;
+
+	private final RegularStatement statement;
+
+	/**
+	 * Create a new {@link CachedAsyncPreparedStatementCreator}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 */
+	protected CachedAsyncPreparedStatementCreator(AsyncPreparedStatementCache cache, RegularStatement statement) {
+
+		Assert.notNull(cache, "Cache must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		this.cache = cache;
+		this.statement = statement;
+	}
+
+	/**
+	 * Create a new {@link CachedAsyncPreparedStatementCreator} given {@link AsyncPreparedStatementCache} and
+	 * {@link RegularStatement} to prepare. Subsequent calls require the a {@link RegularStatement} object with the same
+	 * CQL test for a cache hit. Otherwise, the statement is likely to be re-prepared.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link CachedAsyncPreparedStatementCreator} for {@link RegularStatement}.
+	 */
+	public static CachedAsyncPreparedStatementCreator of(AsyncPreparedStatementCache cache,
+			RegularStatement statement) {
+		return new CachedAsyncPreparedStatementCreator(cache, statement);
+	}
+
+	/**
+	 * Create a new {@link CachedAsyncPreparedStatementCreator} given {@link AsyncPreparedStatementCache} and {@code cql}
+	 * to prepare. Subsequent calls require the a CQL statement that {@link String#equals(Object) are equal} to the
+	 * previously used CQL string for a cache hit. Otherwise, the statement is likely to be re-prepared.
+	 *
+	 * @param cache must not be {@literal null}.
+	 * @param cql must not be {@literal null} or empty.
+	 * @return the {@link CachedAsyncPreparedStatementCreator} for {@code cql}.
+	 */
+	public static CachedAsyncPreparedStatementCreator of(AsyncPreparedStatementCache cache, String cql) {
+
+		Assert.hasText(cql, "CQL statement is required");
+
+		return new CachedAsyncPreparedStatementCreator(cache, new SimpleStatement(cql));
+	}
+
+	/**
+	 * @return the underlying {@link AsyncPreparedStatementCache}.
+	 */
+	public AsyncPreparedStatementCache getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.AsyncPreparedStatementCreator#createPreparedStatement(com.datastax.driver.core.Session)
+	 */
+	@Override
+	public ListenableFuture<PreparedStatement> createPreparedStatement(Session session) throws DriverException {
+		return getCache().getPreparedStatement(session, this.statement);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.ReactivePreparedStatementCreator#createPreparedStatement(org.springframework.data.cql.core.session.ReactiveSession)
+	 */
+	@Override
+	public Mono<PreparedStatement> createPreparedStatement(ReactiveSession session) throws DriverException {
+		return getCache().getPreparedStatement(session, this.statement);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.CqlProvider#getCql()
+	 */
+	@Override
+	public String getCql() {
+		return this.statement.toString();
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Executor} decorator recording metrics for tasks submitted to a delegate {@link Executor}. Used to offload
+ * result extraction and entity conversion from driver I/O threads while exposing the number of tasks waiting for
+ * execution and the time spent running them.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class InstrumentedExecutor implements Executor {
+
+	private final Executor delegate;
+
+	private final AtomicInteger queueDepth = new AtomicInteger();
+
+	private final AtomicInteger activeCount = new AtomicInteger();
+
+	private final AtomicLong completedTaskCount = new AtomicLong();
+
+	private final AtomicLong rejectedTaskCount = new AtomicLong();
+
+	private final AtomicLong totalExecutionTime = new AtomicLong();
+
+	private final AtomicLong maxExecutionTime = new AtomicLong();
+
+	/**
+	 * Create a new {@link InstrumentedExecutor} given a delegate {@link Executor}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public InstrumentedExecutor(Executor delegate) {
+
+		Assert.notNull(delegate, "Executor must not be null");
+
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Create a new {@link InstrumentedExecutor} for the given {@link Executor}. Returns the {@code executor} itself if it
+	 * is already an {@link InstrumentedExecutor}.
+	 *
+	 * @param executor must not be {@literal null}.
+	 * @return the {@link InstrumentedExecutor}.
+	 */
+	public static InstrumentedExecutor of(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		return executor instanceof InstrumentedExecutor ? (InstrumentedExecutor) executor
+				: new InstrumentedExecutor(executor);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void execute(Runnable command) {
+
+		Assert.notNull(command, "Runnable must not be null");
+
+		queueDepth.incrementAndGet();
+
+		try {
+			delegate.execute(() -> run(command));
+		} catch (RejectedExecutionException e) {
+
+			queueDepth.decrementAndGet();
+			rejectedTaskCount.incrementAndGet();
+
+			throw e;
+		}
+	}
+
+	private void run(Runnable command) {
+
+		queueDepth.decrementAndGet();
+		activeCount.incrementAndGet();
+
+		long start = System.nanoTime();
+
+		try {
+			command.run();
+		} finally {
+
+			long duration = System.nanoTime() - start;
+
+			totalExecutionTime.addAndGet(duration);
+			maxExecutionTime.accumulateAndGet(duration, Math::max);
+			completedTaskCount.incrementAndGet();
+			activeCount.decrementAndGet();
+		}
+	}
+
+	/**
+	 * @return the delegate {@link Executor}.
+	 */
+	public Executor getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * @return the number of submitted tasks that are waiting for execution.
+	 */
+	public int getQueueDepth() {
+		return queueDepth.get();
+	}
+
+	/**
+	 * @return the number of tasks that are currently running.
+	 */
+	public int getActiveCount() {
+		return activeCount.get();
+	}
+
+	/**
+	 * @return the number of tasks that ran to completion, including tasks that completed exceptionally.
+	 */
+	public long getCompletedTaskCount() {
+		return completedTaskCount.get();
+	}
+
+	/**
+	 * @return the number of tasks rejected by the delegate {@link Executor}.
+	 */
+	public long getRejectedTaskCount() {
+		return rejectedTaskCount.get();
+	}
+
+	/**
+	 * Returns the accumulated execution time of all completed tasks.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the accumulated execution time in the given {@link TimeUnit}.
+	 */
+	public long getTotalExecutionTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(totalExecutionTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the execution time of the longest running completed task.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the maximum execution time in the given {@link TimeUnit}.
+	 */
+	public long getMaxExecutionTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		return unit.convert(maxExecutionTime.get(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Returns the average execution time of completed tasks.
+	 *
+	 * @param unit must not be {@literal null}.
+	 * @return the average execution time in the given {@link TimeUnit} or {@literal 0} if no task completed yet.
+	 */
+	public long getAverageExecutionTime(TimeUnit unit) {
+
+		Assert.notNull(unit, "TimeUnit must not be null");
+
+		long completed = completedTaskCount.get();
+
+		return completed == 0 ? 0 : unit.convert(totalExecutionTime.get() / completed, TimeUnit.NANOSECONDS);
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.EqualsAndHashCode;
+
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.CompletableToListenableFutureAdapter;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.Uninterruptibles;
+
+/**
+ * {@link AsyncPreparedStatementCache} backed by a {@link Map} cache. Defaults to simple {@link ConcurrentHashMap}
+ * caching.
+ * <p/>
+ * The cache holds a {@link CompletableFuture} per statement. The first caller for a statement starts its preparation,
+ * concurrent callers for the same statement share the pending {@link CompletableFuture} instead of preparing the
+ * statement again. Failed preparations are removed from the cache so subsequent calls retry the preparation.
+ * <p/>
+ * Statements are cached with a key consisting of {@link Cluster}, {@code keyspace} and the {@code cql} text. Statement
+ * options (idempotency, timeouts) apply from the statement that was initially prepared.
+ *
+ * @author Mark Paluch
+ * @since 2.0
+ */
+public class MapAsyncPreparedStatementCache implements AsyncPreparedStatementCache {
+
+	private final Map<CacheKey, CompletableFuture<PreparedStatement>> cache;
+
+	/**
+	 * Create a new {@link MapAsyncPreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private MapAsyncPreparedStatementCache(Map<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link MapAsyncPreparedStatementCache} using {@link ConcurrentHashMap}.
+	 *
+	 * @return the new {@link MapAsyncPreparedStatementCache} backed by {@link ConcurrentHashMap}.
+	 */
+	public static MapAsyncPreparedStatementCache create() {
+		return of(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Create a {@link MapAsyncPreparedStatementCache} using the given {@link Map}. The {@link Map} must be safe for
+	 * concurrent use.
+	 *
+	 * @return the new {@link MapAsyncPreparedStatementCache} backed the given {@link Map}.
+	 */
+	public static MapAsyncPreparedStatementCache of(Map<CacheKey, CompletableFuture<PreparedStatement>> cache) {
+		return new MapAsyncPreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Map cache}.
+	 */
+	protected Map<CacheKey, CompletableFuture<PreparedStatement>> getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.AsyncPreparedStatementCache#getPreparedStatement(com.datastax.driver.core.Session, com.datastax.driver.core.RegularStatement)
+	 */
+	@Override
+	public ListenableFuture<PreparedStatement> getPreparedStatement(Session session, RegularStatement statement) {
+
+		Assert.notNull(session, "Session must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		CacheKey cacheKey = new CacheKey(session.getCluster(), session.getLoggedKeyspace(), statement.toString());
+
+		CompletableFuture<PreparedStatement> future = getOrPrepare(cacheKey,
+				() -> toCompletableFuture(session.prepareAsync(statement)));
+
+		return new CompletableToListenableFutureAdapter<>(future.thenApply(Function.identity()));
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cql.core.support.AsyncPreparedStatementCache#getPreparedStatement(org.springframework.data.cql.core.session.ReactiveSession, com.datastax.driver.core.RegularStatement)
+	 */
+	@Override
+	public Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, RegularStatement statement) {
+
+		Assert.notNull(session, "ReactiveSession must not be null");
+		Assert.notNull(statement, "Statement must not be null");
+
+		return Mono.defer(() -> {
+
+			CacheKey cacheKey = new CacheKey(session.getCluster(), session.getLoggedKeyspace(), statement.toString());
+
+			CompletableFuture<PreparedStatement> future = getOrPrepare(cacheKey,
+					() -> session.prepare(statement).toFuture());
+
+			// decouple subscribers from the shared future so a cancelled subscription does not cancel the preparation
+			return Mono.fromFuture(future.thenApply(Function.identity()));
+		});
+	}
+
+	/**
+	 * Return the cached {@link CompletableFuture} for the {@link CacheKey} or start the preparation if the statement is
+	 * not cached yet. The preparation is started outside of any lock held by the underlying {@link Map}.
+	 */
+	private CompletableFuture<PreparedStatement> getOrPrepare(CacheKey cacheKey,
+			Supplier<CompletableFuture<PreparedStatement>> preparer) {
+
+		CompletableFuture<PreparedStatement> cached = getCache().get(cacheKey);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		CompletableFuture<PreparedStatement> future = new CompletableFuture<>();
+
+		cached = getCache().putIfAbsent(cacheKey, future);
+
+		if (cached != null) {
+			return cached;
+		}
+
+		try {
+			preparer.get().whenComplete((preparedStatement, throwable) -> {
+
+				if (throwable != null) {
+					getCache().remove(cacheKey, future);
+					future.completeExceptionally(throwable);
+				} else {
+					future.complete(preparedStatement);
+				}
+			});
+		} catch (RuntimeException e) {
+
+			getCache().remove(cacheKey, future);
+			future.completeExceptionally(e);
+		}
+
+		return future;
+	}
+
+	private static <T> CompletableFuture<T> toCompletableFuture(
+			com.google.common.util.concurrent.ListenableFuture<T> listenableFuture) {
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		listenableFuture.addListener(() -> {
+
+			try {
+				future.complete(Uninterruptibles.getUninterruptibly(listenableFuture));
+			} catch (ExecutionException e) {
+				future.completeExceptionally(e.getCause());
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			}
+		}, Runnable::run);
+
+		return future;
+	}
+
+	/**
+	 * {@link CacheKey} for {@link PreparedStatement} caching.
+	 */
+	@EqualsAndHashCode
+	protected static class CacheKey {
+
+		final Cluster cluster;
+		final String keyspace;
+		final String cql;
+
+		CacheKey(Cluster cluster, String keyspace, String cql) {
+
+			this.cluster = cluster;
+			this.keyspace = keyspace;
+			this.cql = cql;
+		}
+	}
+}
@@ -26,6 +26,7 @@ import org.springframework.util.Assert;
 import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 
 /**
  * Utility to mock a Cassandra {@link Row}.
@@ -41,6 +42,7 @@ public class RowMockUtil {
 	 * @param columns
 	 * @return
 	 */
+	@SuppressWarnings("unchecked")
 	public static Row newRowMock(final Column... columns) {
 
 		Assert.notNull(columns, "Columns must not be null");
@@ -77,6 +79,8 @@ public class RowMockUtil {
 		when(rowMock.getTimestamp(anyInt()))
 				.thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
 		when(rowMock.getUUID(anyInt())).thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
+		when(rowMock.get(anyInt(), any(TypeCodec.class)))
+				.thenAnswer(invocation -> columns[(Integer) invocation.getArguments()[0]].value);
 
 		return rowMock;
 	}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cql.support.exception.CassandraConnectionFailureException;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+
+/**
+ * Unit tests for {@link CassandraBulkTemplate}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraBulkTemplateUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSet resultSet;
+	@Mock ResultSetFuture future;
+
+	@Captor ArgumentCaptor<Statement> statementCaptor;
+
+	CassandraTemplate template;
+
+	@Before
+	public void setUp() {
+
+		template = new CassandraTemplate(session);
+	}
+
+	@Test
+	public void shouldGroupStatementsByPartition() {
+
+		stubExecution();
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+
+		template.bulkOps().insert(new User("heisenberg", "Walter", "White"), new User("jesse", "Jesse", "Pinkman"))
+				.update(new User("heisenberg", "Walter", "White")).execute();
+
+		verify(session, times(2)).executeAsync(statementCaptor.capture());
+
+		List<Statement> batches = statementCaptor.getAllValues();
+
+		assertThat(batches.get(0).toString()).startsWith("BEGIN UNLOGGED BATCH")
+				.contains("INSERT INTO users").contains("UPDATE users").contains("'heisenberg'")
+				.doesNotContain("jesse");
+		assertThat(batches.get(1).toString()).startsWith("BEGIN UNLOGGED BATCH").contains("jesse")
+				.doesNotContain("heisenberg");
+	}
+
+	@Test
+	public void shouldSplitPartitionIntoBatchesOfBatchSize() {
+
+		stubExecution();
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		template.bulkOps().withBatchSize(2).withTimestamp(1234).insert(Arrays.asList(user, user, user)).execute();
+
+		verify(session, times(2)).executeAsync(statementCaptor.capture());
+
+		for (Statement batch : statementCaptor.getAllValues()) {
+			assertThat(batch.toString()).startsWith("BEGIN UNLOGGED BATCH USING TIMESTAMP 1234");
+		}
+	}
+
+	@Test
+	public void shouldNotExecuteEmptyBulk() {
+
+		template.bulkOps().insert(Collections.emptyList()).execute();
+
+		verifyZeroInteractions(session);
+	}
+
+	@Test
+	public void shouldTranslateException() {
+
+		stubExecution();
+		when(future.getUninterruptibly()).thenThrow(new NoHostAvailableException(Collections.emptyMap()));
+
+		try {
+			template.bulkOps().insert(new User("heisenberg", "Walter", "White")).execute();
+
+			fail("Missing CassandraConnectionFailureException");
+		} catch (CassandraConnectionFailureException e) {
+			assertThat(e).hasRootCauseInstanceOf(NoHostAvailableException.class);
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectSubsequentExecution() {
+
+		CassandraBulkOperations bulkOperations = template.bulkOps();
+		bulkOperations.execute();
+		bulkOperations.execute();
+	}
+
+	private void stubExecution() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(future);
+		doAnswer(invocation -> {
+			invocation.<Runnable> getArgument(0).run();
+			return null;
+		}).when(future).addListener(any(Runnable.class), any());
+	}
+}
@@ -21,6 +21,9 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -30,15 +33,26 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cql.support.exception.CassandraConnectionFailureException;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Configuration;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
@@ -57,8 +71,11 @@ public class CassandraTemplateUnitTests {
 	@Mock ResultSet resultSet;
 	@Mock Row row;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	@Captor ArgumentCaptor<Statement> statementCaptor;
+	@Captor ArgumentCaptor<RegularStatement> regularStatementCaptor;
 
 	CassandraTemplate template;
 
@@ -221,6 +238,169 @@ public class CassandraTemplateUnitTests {
 				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White') IF NOT EXISTS;");
 	}
 
+	@Test
+	public void insertShouldUsePreparedStatement() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		User inserted = template.insert(user);
+
+		assertThat(inserted).isEqualTo(user);
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?);");
+		verify(preparedStatement).bind("Walter", "heisenberg", "White");
+		verify(session).execute(boundStatement);
+	}
+
+	@Test
+	public void insertShouldPrepareOneStatementForNullValuesAndTtls() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		template.insert(new User("heisenberg", "Walter", null), InsertOptions.builder().ttl(10).build());
+		template.insert(new User("jesse", "Jesse", "Pinkman"), InsertOptions.builder().ttl(20).build());
+
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("INSERT INTO users (firstname,id,lastname) VALUES (?,?,?) USING TTL ?;");
+		verify(preparedStatement).bind("Walter", "heisenberg", null, 10);
+		verify(preparedStatement).bind("Jesse", "jesse", "Pinkman", 20);
+		verify(boundStatement).unset(2);
+	}
+
+	@Test
+	public void insertAllShouldPipelinePreparedInserts() {
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("jesse", "Jesse", "Pinkman");
+		BoundStatement walterInsert = mock(BoundStatement.class);
+		BoundStatement jesseInsert = mock(BoundStatement.class);
+		ResultSetFuture walterFuture = mock(ResultSetFuture.class);
+		ResultSetFuture jesseFuture = mock(ResultSetFuture.class);
+		ResultSet notApplied = mock(ResultSet.class);
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind("Walter", "heisenberg", "White")).thenReturn(walterInsert);
+		when(preparedStatement.bind("Jesse", "jesse", "Pinkman")).thenReturn(jesseInsert);
+		when(session.executeAsync(walterInsert)).thenReturn(walterFuture);
+		when(session.executeAsync(jesseInsert)).thenReturn(jesseFuture);
+		when(walterFuture.getUninterruptibly()).thenReturn(resultSet);
+		when(jesseFuture.getUninterruptibly()).thenReturn(notApplied);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		List<User> inserted = template.insert(Arrays.asList(walter, jesse));
+
+		assertThat(inserted).containsExactly(walter);
+		verify(session).prepare(any(RegularStatement.class));
+		verify(session, never()).execute(any(Statement.class));
+	}
+
+	@Test
+	public void updateShouldUsePreparedStatement() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		template.update(user);
+		template.update(user);
+
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString())
+				.isEqualTo("UPDATE users SET firstname=?,lastname=? WHERE id=?;");
+		verify(preparedStatement, times(2)).bind("Walter", "White", "heisenberg");
+	}
+
+	@Test
+	public void deleteByIdShouldUsePreparedStatement() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		template.setUsePreparedStatements(true);
+
+		boolean deleted = template.deleteById("heisenberg", User.class);
+
+		assertThat(deleted).isTrue();
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString()).isEqualTo("DELETE FROM users WHERE id=?;");
+		verify(preparedStatement).bind("heisenberg");
+	}
+
+	@Test
+	public void selectBySimpleIdsShouldUseInQuery() {
+
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		template.setUsePreparedStatements(true);
+		template.selectBySimpleIds(Arrays.asList("heisenberg", "jesse", "heisenberg"), User.class);
+
+		verify(session).execute(statementCaptor.capture());
+		verify(session, never()).prepare(any(RegularStatement.class));
+		assertThat(statementCaptor.getValue().toString())
+				.isEqualTo("SELECT * FROM users WHERE id IN ('heisenberg','jesse','heisenberg');");
+	}
+
+	@Test
+	public void selectByIdsShouldReturnEntitiesInIdOrder() {
+
+		Cluster cluster = mock(Cluster.class);
+		Configuration configuration = mock(Configuration.class);
+		ProtocolOptions protocolOptions = mock(ProtocolOptions.class);
+		Metadata metadata = mock(Metadata.class);
+		Host host1 = mock(Host.class);
+		Host host2 = mock(Host.class);
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.getLoggedKeyspace()).thenReturn("ks");
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+		when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.ascii());
+		when(columnDefinitions.getIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.getIndexOf("lastname")).thenReturn(2);
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("jesse", "Jesse", "Pinkman");
+		User skyler = new User("skyler", "Skyler", "White");
+
+		BoundStatement walterRead = prepareRead(walter, host1, metadata);
+		BoundStatement jesseRead = prepareRead(jesse, host1, metadata);
+		BoundStatement skylerRead = prepareRead(skyler, host2, metadata);
+
+		List<User> users = template.selectByIds(Arrays.asList("heisenberg", "jesse", "skyler"), User.class);
+
+		assertThat(users).containsExactly(walter, jesse, skyler);
+		verify(session).prepare(any(RegularStatement.class));
+
+		// reads are issued interleaved by replica
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session).executeAsync(walterRead);
+		inOrder.verify(session).executeAsync(skylerRead);
+		inOrder.verify(session).executeAsync(jesseRead);
+	}
+
 	@Test // DATACASS-292
 	public void insertShouldTranslateException() throws Exception {
 
@@ -379,4 +559,26 @@ public class CassandraTemplateUnitTests {
 
 		verify(session).execute(Mockito.any(Batch.class));
 	}
+
+	private BoundStatement prepareRead(User user, Host replica, Metadata metadata) {
+
+		BoundStatement statement = mock(BoundStatement.class);
+		ByteBuffer routingKey = ByteBuffer.wrap(user.getId().getBytes(StandardCharsets.UTF_8));
+		ResultSetFuture future = mock(ResultSetFuture.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+
+		when(preparedStatement.bind(user.getId())).thenReturn(statement);
+		when(statement.getRoutingKey(eq(ProtocolVersion.V4), any())).thenReturn(routingKey);
+		when(metadata.getReplicas(Metadata.quote("ks"), routingKey)).thenReturn(Collections.singleton(replica));
+		when(session.executeAsync(statement)).thenReturn(future);
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		when(resultSet.one()).thenReturn(row);
+		when(row.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(row.getObject(0)).thenReturn(user.getId());
+		when(row.getObject(1)).thenReturn(user.getFirstname());
+		when(row.getObject(2)).thenReturn(user.getLastname());
+
+		return statement;
+	}
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cassandra.domain.Person;
+import org.springframework.data.cassandra.domain.User;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link MultiGet}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MultiGetUnitTests {
+
+	CassandraConverter converter = new MappingCassandraConverter();
+
+	@Mock Cluster cluster;
+	@Mock Configuration configuration;
+	@Mock ProtocolOptions protocolOptions;
+	@Mock Metadata metadata;
+	@Mock Host host1;
+	@Mock Host host2;
+
+	@Test
+	public void shouldCreateSingleRowSelectPerId() {
+
+		List<ParameterizedStatement> statements = MultiGet.createStatements(getEntity(User.class),
+				Arrays.asList("heisenberg", "walter"), converter);
+
+		assertThat(statements).hasSize(2);
+		assertThat(statements.get(0).getCql()).isEqualTo("SELECT * FROM users WHERE id=?;");
+		assertThat(statements.get(0).getValues()).containsExactly("heisenberg");
+		assertThat(statements.get(1).getValues()).containsExactly("walter");
+	}
+
+	@Test
+	public void shouldCreateSelectForCompositePrimaryKey() {
+
+		List<ParameterizedStatement> statements = MultiGet.createStatements(getEntity(Group.class),
+				Collections.singletonList(new GroupKey("cook", "00", "heisenberg")), converter);
+
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).getCql()).startsWith("SELECT * FROM group WHERE ").contains("groupname=?",
+				"hash_prefix=?", "username=?");
+		assertThat(statements.get(0).getValues()).containsExactlyInAnyOrder("cook", "00", "heisenberg");
+	}
+
+	@Test
+	public void shouldCreateSelectForMapId() {
+
+		List<ParameterizedStatement> statements = MultiGet.createStatements(getEntity(Person.class),
+				Collections.singletonList(id("lastname", "White").with("firstname", "Walter")), converter);
+
+		assertThat(statements).hasSize(1);
+		assertThat(statements.get(0).getCql()).contains("lastname=?", "firstname=?");
+		assertThat(statements.get(0).getValues()).containsExactlyInAnyOrder("White", "Walter");
+	}
+
+	@Test
+	public void shouldInterleaveStatementsByPrimaryReplica() {
+
+		Statement first = routedTo(host1, 1);
+		Statement second = routedTo(host1, 2);
+		Statement third = routedTo(host2, 3);
+
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(cluster.getMetadata()).thenReturn(metadata);
+		when(configuration.getProtocolOptions()).thenReturn(protocolOptions);
+		when(protocolOptions.getProtocolVersion()).thenReturn(ProtocolVersion.V4);
+
+		List<Statement> ordered = MultiGet.orderByReplica(Arrays.asList(first, second, third), cluster, "ks");
+
+		assertThat(ordered).containsExactly(first, third, second);
+	}
+
+	private Statement routedTo(Host host, int key) {
+
+		Statement statement = mock(Statement.class);
+		ByteBuffer routingKey = ByteBuffer.wrap(new byte[] { (byte) key });
+
+		when(statement.getRoutingKey(eq(ProtocolVersion.V4), any())).thenReturn(routingKey);
+		when(metadata.getReplicas(Metadata.quote("ks"), routingKey)).thenReturn(Collections.singleton(host));
+
+		return statement;
+	}
+
+	private CassandraPersistentEntity<?> getEntity(Class<?> type) {
+		return converter.getMappingContext().getRequiredPersistentEntity(type);
+	}
+}
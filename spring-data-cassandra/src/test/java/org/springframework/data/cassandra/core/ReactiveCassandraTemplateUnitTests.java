@@ -25,6 +25,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -38,8 +40,14 @@ import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cql.core.session.ReactiveResultSet;
 import org.springframework.data.cql.core.session.ReactiveSession;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Configuration;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.exceptions.NoHostAvailableException;
@@ -57,7 +65,10 @@ public class ReactiveCassandraTemplateUnitTests {
 	@Mock Row row;
 	@Mock ColumnDefinitions columnDefinitions;
 
+	@Mock PreparedStatement preparedStatement;
+
 	@Captor ArgumentCaptor<Statement> statementCaptor;
+	@Captor ArgumentCaptor<RegularStatement> regularStatementCaptor;
 
 	ReactiveCassandraTemplate template;
 
@@ -127,6 +138,64 @@ public class ReactiveCassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().toString()).isEqualTo("SELECT * FROM users WHERE id='myid';");
 	}
 
+	@Test
+	public void selectByIdsShouldReadEachIdWithPreparedStatement() {
+
+		Cluster cluster = mock(Cluster.class);
+		Configuration configuration = mock(Configuration.class);
+		BoundStatement walterRead = mock(BoundStatement.class);
+		BoundStatement jesseRead = mock(BoundStatement.class);
+		Row jesseRow = mock(Row.class);
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.prepare(any(RegularStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(configuration.getProtocolOptions()).thenReturn(mock(ProtocolOptions.class));
+		when(preparedStatement.bind("heisenberg")).thenReturn(walterRead);
+		when(preparedStatement.bind("jesse")).thenReturn(jesseRead);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row), Flux.just(jesseRow));
+		when(jesseRow.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.getType(anyInt())).thenReturn(DataType.ascii());
+		when(columnDefinitions.getIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.getIndexOf("lastname")).thenReturn(2);
+		when(row.getObject(0)).thenReturn("heisenberg");
+		when(jesseRow.getObject(0)).thenReturn("jesse");
+
+		StepVerifier.create(template.selectByIds(Arrays.asList("heisenberg", "jesse"), User.class)) //
+				.consumeNextWith(user -> assertThat(user.getId()).isEqualTo("heisenberg")) //
+				.consumeNextWith(user -> assertThat(user.getId()).isEqualTo("jesse")) //
+				.verifyComplete();
+
+		verify(session).prepare(regularStatementCaptor.capture());
+		assertThat(regularStatementCaptor.getValue().toString()).isEqualTo("SELECT * FROM users WHERE id=?;");
+		verify(session).execute(walterRead);
+		verify(session).execute(jesseRead);
+	}
+
+	@Test
+	public void selectByIdsShouldLimitInFlightReads() {
+
+		Cluster cluster = mock(Cluster.class);
+		Configuration configuration = mock(Configuration.class);
+
+		reset(session);
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.prepare(any(RegularStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(session.execute(any(Statement.class))).thenReturn(Mono.never());
+		when(cluster.getConfiguration()).thenReturn(configuration);
+		when(configuration.getProtocolOptions()).thenReturn(mock(ProtocolOptions.class));
+		when(preparedStatement.bind(any())).thenReturn(mock(BoundStatement.class));
+
+		template.setMultiGetConcurrency(1);
+
+		StepVerifier.create(template.selectByIds(Arrays.asList("heisenberg", "jesse"), User.class)) //
+				.expectSubscription() //
+				.then(() -> verify(session).execute(any(Statement.class))) //
+				.thenCancel() //
+				.verify();
+	}
+
 	@Test // DATACASS-335
 	public void existsShouldReturnExistingElement() {
 
@@ -199,6 +268,100 @@ public class ReactiveCassandraTemplateUnitTests {
 		StepVerifier.create(template.insert(user)).verifyComplete();
 	}
 
+	@Test
+	public void insertPublisherShouldLimitInFlightWrites() {
+
+		reset(session);
+		when(session.execute(any(Statement.class))).thenReturn(Mono.never());
+
+		template.setWriteConcurrency(1);
+
+		StepVerifier.create(template.insert(Flux.just(new User("heisenberg", "Walter", "White"),
+				new User("jesse", "Jesse", "Pinkman")))) //
+				.expectSubscription() //
+				.then(() -> verify(session).execute(any(Statement.class))) //
+				.thenCancel() //
+				.verify();
+	}
+
+	@Test
+	public void insertPublisherShouldEmitInUpstreamOrder() {
+
+		ReactiveResultSet delayed = mock(ReactiveResultSet.class);
+
+		reset(session);
+		when(session.execute(any(Statement.class)))
+				.thenReturn(Mono.just(delayed).delayElement(Duration.ofMillis(100)), Mono.just(reactiveResultSet));
+		when(delayed.wasApplied()).thenReturn(true);
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		template.setOrderedWrites(true);
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("jesse", "Jesse", "Pinkman");
+
+		StepVerifier.create(template.insert(Flux.just(walter, jesse))).expectNext(walter, jesse).verifyComplete();
+	}
+
+	@Test
+	public void insertPublisherShouldMicroBatchByPartition() {
+
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		template.setWriteBatchSize(3);
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("jesse", "Jesse", "Pinkman");
+
+		StepVerifier.create(template.insert(Flux.just(walter, jesse, walter))).expectNextCount(3).verifyComplete();
+
+		verify(session, times(2)).execute(statementCaptor.capture());
+
+		assertThat(statementCaptor.getAllValues().get(0).toString()).startsWith("BEGIN UNLOGGED BATCH")
+				.contains("'heisenberg'").doesNotContain("'jesse'");
+		assertThat(statementCaptor.getAllValues().get(1).toString()).startsWith("BEGIN UNLOGGED BATCH")
+				.contains("'jesse'").doesNotContain("'heisenberg'");
+	}
+
+	@Test
+	public void insertPublisherShouldFlushIncompleteMicroBatch() {
+
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		template.setWriteBatchSize(3);
+		template.setWriteBatchFlushInterval(Duration.ofMillis(50));
+
+		User walter = new User("heisenberg", "Walter", "White");
+
+		StepVerifier.create(template.insert(Flux.just(walter).concatWith(Flux.never()))) //
+				.expectNext(walter) //
+				.thenCancel() //
+				.verify(Duration.ofSeconds(5));
+
+		verify(session).execute(any(Statement.class));
+	}
+
+	@Test
+	public void insertPublisherShouldBufferMicroBatchesOfFastUpstream() {
+
+		reset(session);
+		when(session.execute(any(Statement.class)))
+				.thenAnswer(invocation -> Mono.just(reactiveResultSet).delayElement(Duration.ofMillis(10)));
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		template.setWriteBatchSize(2);
+		template.setWriteConcurrency(1);
+
+		StepVerifier
+				.withVirtualTime(() -> template
+						.insert(Flux.range(0, 1000).map(it -> new User("heisenberg", "Walter", "White")))) //
+				.thenAwait(Duration.ofSeconds(10)) //
+				.expectNextCount(1000) //
+				.verifyComplete();
+
+		verify(session, times(500)).execute(any(Statement.class));
+	}
+
 	@Test // DATACASS-335
 	public void updateShouldUpdateEntity() {
 
@@ -17,6 +17,8 @@ package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,6 +32,7 @@ import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity
 import org.springframework.data.cassandra.core.mapping.Column;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.Group;
@@ -94,6 +97,43 @@ public class StatementFactoryUnitTests {
 		assertThat(select.toString()).isEqualTo("SELECT * FROM group ORDER BY hash_prefix ASC LIMIT 10 ALLOW FILTERING;");
 	}
 
+	@Test
+	public void shouldMapParameterizedSelectQuery() {
+
+		Query query = Query.query(Criteria.where("foo").is("bar"), Criteria.where("age").in(1, 2, 3))
+				.sort(Sort.by("id.hashPrefix")).limit(10);
+
+		ParameterizedStatement select = statementFactory.selectParameterized(query, groupEntity);
+
+		assertThat(select.getStatement().toString())
+				.isEqualTo("SELECT * FROM group WHERE foo=? AND age IN ? ORDER BY hash_prefix ASC LIMIT 10;");
+		assertThat(select.getValues()).containsExactly("bar", Arrays.asList(1, 2, 3));
+	}
+
+	@Test
+	public void shouldMapKeysetToMultiColumnRelation() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("foo"),
+				Keyset.after(Collections.singletonMap("id.username", "walter")).toCriteria());
+
+		Statement select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.toString()).isEqualTo("SELECT * FROM group WHERE groupname='foo' AND (username)>('walter');");
+	}
+
+	@Test
+	public void shouldMapParameterizedKeysetToMultiColumnRelation() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("foo"),
+				Keyset.before(Collections.singletonMap("id.username", "walter")).toCriteria());
+
+		ParameterizedStatement select = statementFactory.selectParameterized(query, groupEntity);
+
+		assertThat(select.getStatement().toString())
+				.isEqualTo("SELECT * FROM group WHERE groupname=? AND (username)<(?);");
+		assertThat(select.getValues()).containsExactly("foo", "walter");
+	}
+
 	@Test // DATACASS-343
 	public void shouldMapDeleteQueryWithColumns() {
 
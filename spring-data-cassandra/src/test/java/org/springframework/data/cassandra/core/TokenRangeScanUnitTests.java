@@ -0,0 +1,225 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.TokenRangeScan.AsyncScan;
+import org.springframework.data.cassandra.core.TokenRangeScan.ScanIterator;
+import org.springframework.data.cql.support.CassandraExceptionTranslator;
+import org.springframework.data.cql.support.exception.CassandraConnectionFailureException;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+
+/**
+ * Unit tests for {@link TokenRangeScan}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class TokenRangeScanUnitTests {
+
+	@Mock Session session;
+	@Mock Statement first;
+	@Mock Statement second;
+	@Mock Statement third;
+	@Mock ResultSetFuture firstFuture;
+	@Mock ResultSetFuture secondFuture;
+	@Mock ResultSet firstResultSet;
+	@Mock ResultSet secondResultSet;
+	@Mock Row firstRow;
+	@Mock Row secondRow;
+
+	CassandraExceptionTranslator exceptionTranslator = new CassandraExceptionTranslator();
+
+	@Test
+	public void scanIteratorShouldEmitRowsOfAllRanges() throws Exception {
+
+		when(session.executeAsync(first)).thenReturn(firstFuture);
+		when(session.executeAsync(second)).thenReturn(secondFuture);
+		when(firstFuture.isDone()).thenReturn(true);
+		when(secondFuture.isDone()).thenReturn(true);
+		when(firstFuture.get()).thenReturn(firstResultSet);
+		when(secondFuture.get()).thenReturn(secondResultSet);
+		when(firstResultSet.getAvailableWithoutFetching()).thenReturn(1, 0);
+		when(firstResultSet.isFullyFetched()).thenReturn(true);
+		when(firstResultSet.one()).thenReturn(firstRow);
+		when(secondResultSet.getAvailableWithoutFetching()).thenReturn(1, 0);
+		when(secondResultSet.isFullyFetched()).thenReturn(true);
+		when(secondResultSet.one()).thenReturn(secondRow);
+
+		ScanIterator<Object> iterator = new ScanIterator<>(session, Arrays.asList(first, second), 2, row -> row,
+				exceptionTranslator);
+
+		List<Object> result = new ArrayList<>();
+		iterator.forEachRemaining(result::add);
+
+		assertThat(result).containsExactlyInAnyOrder(firstRow, secondRow);
+		verify(firstResultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void scanIteratorShouldLimitInFlightStatements() throws Exception {
+
+		when(session.executeAsync(first)).thenReturn(firstFuture);
+		when(firstFuture.isDone()).thenReturn(true);
+		when(firstFuture.get()).thenReturn(firstResultSet);
+		when(firstResultSet.getAvailableWithoutFetching()).thenReturn(1, 0);
+		when(firstResultSet.isFullyFetched()).thenReturn(true);
+		when(firstResultSet.one()).thenReturn(firstRow);
+
+		ScanIterator<Object> iterator = new ScanIterator<>(session, Arrays.asList(first, second), 1, row -> row,
+				exceptionTranslator);
+
+		assertThat(iterator.next()).isEqualTo(firstRow);
+		verify(session, never()).executeAsync(second);
+	}
+
+	@Test
+	public void scanIteratorShouldTranslateDriverExceptionsAndCancelInFlightStatements() throws Exception {
+
+		when(session.executeAsync(first)).thenReturn(firstFuture);
+		when(session.executeAsync(second)).thenReturn(secondFuture);
+		when(firstFuture.isDone()).thenReturn(true);
+		when(firstFuture.get())
+				.thenThrow(new ExecutionException(new NoHostAvailableException(Collections.emptyMap())));
+
+		ScanIterator<Object> iterator = new ScanIterator<>(session, Arrays.asList(first, second), 2, row -> row,
+				exceptionTranslator);
+
+		assertThatThrownBy(iterator::hasNext).isInstanceOf(CassandraConnectionFailureException.class);
+		verify(secondFuture).cancel(true);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void scanIteratorShouldCancelInFlightStatementsOnClose() throws Exception {
+
+		when(session.executeAsync(first)).thenReturn(firstFuture);
+		when(session.executeAsync(second)).thenReturn(secondFuture);
+		when(firstFuture.isDone()).thenReturn(true);
+		when(firstFuture.get()).thenReturn(firstResultSet);
+		when(firstResultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(firstResultSet.isFullyFetched()).thenReturn(true);
+		when(firstResultSet.one()).thenReturn(firstRow);
+
+		ScanIterator<Object> iterator = new ScanIterator<>(session, Arrays.asList(first, second, third), 2, row -> row,
+				exceptionTranslator);
+
+		assertThat(iterator.next()).isEqualTo(firstRow);
+
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+		verify(firstFuture).cancel(true);
+		verify(secondFuture).cancel(true);
+		verify(session, never()).executeAsync(third);
+	}
+
+	@Test
+	public void shouldExtrapolateSizeEstimatesToWholeRing() {
+
+		Metadata metadata = mock(Metadata.class);
+		Row quarter = mock(Row.class);
+		Row wrapping = mock(Row.class);
+
+		when(metadata.getPartitioner()).thenReturn("org.apache.cassandra.dht.Murmur3Partitioner");
+		when(quarter.getLong("partitions_count")).thenReturn(100L);
+		when(quarter.getString("range_start")).thenReturn("0");
+		when(quarter.getString("range_end")).thenReturn(Long.toString(Long.MAX_VALUE / 2));
+		when(wrapping.getLong("partitions_count")).thenReturn(100L);
+		when(wrapping.getString("range_start")).thenReturn(Long.toString(Long.MAX_VALUE - Long.MAX_VALUE / 4));
+		when(wrapping.getString("range_end")).thenReturn(Long.toString(Long.MIN_VALUE + Long.MAX_VALUE / 4));
+
+		// both ranges cover about a quarter of the ring
+		long estimate = TokenRangeScan.estimatePartitions(Arrays.asList(quarter, wrapping), metadata);
+
+		assertThat(estimate).isBetween(399L, 401L);
+	}
+
+	@Test
+	public void shouldEstimateZeroWithoutSizeEstimates() {
+		assertThat(TokenRangeScan.estimatePartitions(new ArrayList<>(), mock(Metadata.class))).isZero();
+	}
+
+	@Test
+	public void asyncScanShouldLimitConcurrency() {
+
+		List<SettableListenableFuture<Void>> futures = new ArrayList<>();
+
+		ListenableFuture<Void> result = new AsyncScan(Arrays.asList(first, second, third), 2, statement -> {
+
+			SettableListenableFuture<Void> future = new SettableListenableFuture<>();
+			futures.add(future);
+			return future;
+		}).execute();
+
+		assertThat(futures).hasSize(2);
+
+		futures.get(0).set(null);
+
+		assertThat(futures).hasSize(3);
+		assertThat(result.isDone()).isFalse();
+
+		futures.get(1).set(null);
+		futures.get(2).set(null);
+
+		assertThat(result.isDone()).isTrue();
+	}
+
+	@Test
+	public void asyncScanShouldStopOnFailure() {
+
+		List<SettableListenableFuture<Void>> futures = new ArrayList<>();
+
+		ListenableFuture<Void> result = new AsyncScan(Arrays.asList(first, second, third), 1, statement -> {
+
+			SettableListenableFuture<Void> future = new SettableListenableFuture<>();
+			futures.add(future);
+			return future;
+		}).execute();
+
+		futures.get(0).setException(new IllegalStateException());
+
+		assertThat(futures).hasSize(1);
+		assertThat(result.isDone()).isTrue();
+		assertThatThrownBy(result::get).hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void asyncScanShouldCompleteWithoutStatements() {
+		assertThat(new AsyncScan(new ArrayList<>(), 1, statement -> null).execute().isDone()).isTrue();
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.convert;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.mapping.model.DefaultSpELExpressionEvaluator;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+/**
+ * Unit tests for {@link ColumnIndexCache}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnIndexCacheUnitTests {
+
+	@Mock ColumnDefinitions columnDefinitions;
+	@Mock Row first;
+	@Mock Row second;
+	@Mock DefaultSpELExpressionEvaluator evaluator;
+
+	CassandraPersistentEntity<?> entity = new CassandraMappingContext().getRequiredPersistentEntity(User.class);
+
+	@Before
+	public void before() {
+
+		when(columnDefinitions.getIndexOf(anyString())).thenReturn(-1);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+	}
+
+	@Test
+	public void shouldResolvePropertyIndexesOncePerColumnDefinitions() {
+
+		ColumnIndexCache columnIndexCache = new ColumnIndexCache(columnDefinitions);
+		CassandraPersistentProperty firstname = entity.getRequiredPersistentProperty("firstname");
+		CassandraPersistentProperty lastname = entity.getRequiredPersistentProperty("lastname");
+
+		when(columnDefinitions.getType(1)).thenReturn(DataType.varchar());
+		when(first.getObject(1)).thenReturn("Walter");
+		when(second.getObject(1)).thenReturn("Jesse");
+
+		BasicCassandraRowValueProvider firstRow = new BasicCassandraRowValueProvider(first, columnIndexCache, evaluator);
+		BasicCassandraRowValueProvider secondRow = new BasicCassandraRowValueProvider(second, columnIndexCache, evaluator);
+
+		assertThat(firstRow.hasProperty(firstname)).isTrue();
+		assertThat(firstRow.hasProperty(lastname)).isFalse();
+		assertThat(firstRow.<String> getPropertyValue(firstname)).contains("Walter");
+		assertThat(secondRow.hasProperty(firstname)).isTrue();
+		assertThat(secondRow.<String> getPropertyValue(firstname)).contains("Jesse");
+
+		verify(columnDefinitions).getIndexOf("firstname");
+		verify(columnDefinitions).getIndexOf("lastname");
+	}
+
+	@Test
+	public void shouldReturnIndexOfProperty() {
+
+		ColumnIndexCache columnIndexCache = new ColumnIndexCache(columnDefinitions);
+
+		assertThat(columnIndexCache.getIndexOf(entity.getRequiredPersistentProperty("firstname"))).isEqualTo(1);
+		assertThat(columnIndexCache.getIndexOf(entity.getRequiredPersistentProperty("id"))).isEqualTo(-1);
+	}
+}
@@ -18,6 +18,9 @@ package org.springframework.data.cassandra.core.convert;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -25,8 +28,11 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cql.core.CqlIdentifier;
 
+import com.datastax.driver.core.CodecRegistry;
 import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 
 /**
  * Unit tests for {@link ColumnReader}.
@@ -90,4 +96,50 @@ public class ColumnReaderUnitTests {
 			assertThat(e.getMessage()).isEqualTo("Column does not exist in Cassandra table: " + NON_EXISTENT_COLUMN);
 		}
 	}
+
+	@Test
+	public void sharedColumnIndexCacheResolvesColumnIndexOnce() {
+
+		Row otherRow = mock(Row.class);
+		ColumnIndexCache columnIndexCache = new ColumnIndexCache(columnDefinitions);
+
+		when(otherRow.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.getIndexOf("firstname")).thenReturn(1);
+		when(row.getObject(1)).thenReturn("Walter");
+		when(otherRow.getObject(1)).thenReturn("Jesse");
+
+		assertThat(new ColumnReader(row, columnIndexCache).get(new CqlIdentifier("firstname"))).isEqualTo("Walter");
+		assertThat(new ColumnReader(otherRow, columnIndexCache).get(new CqlIdentifier("firstname"))).isEqualTo("Jesse");
+		assertThat(new ColumnReader(otherRow, columnIndexCache).contains(new CqlIdentifier("firstname"))).isTrue();
+
+		verify(columnDefinitions).getIndexOf("firstname");
+	}
+
+	@Test
+	public void shouldDecodeCollectionWithCollectionCodec() {
+
+		List<String> names = Arrays.asList("Walter", "Jesse");
+
+		when(columnDefinitions.getType(0)).thenReturn(DataType.list(DataType.varchar()));
+		when(row.get(eq(0), any(TypeCodec.class))).thenReturn(names);
+
+		assertThat(underTest.get(0)).isSameAs(names);
+
+		verify(row, never()).getList(anyInt(), any(Class.class));
+	}
+
+	@Test
+	public void shouldDecodeCollectionWithCodecFromCodecRegistry() {
+
+		List<String> names = Arrays.asList("Walter", "Jesse");
+		TypeCodec<List<String>> codec = TypeCodec.list(TypeCodec.varchar());
+		CodecRegistry codecRegistry = new CodecRegistry().register(codec);
+
+		when(columnDefinitions.getType(0)).thenReturn(DataType.list(DataType.varchar()));
+		when(row.get(0, codec)).thenReturn(names);
+
+		ColumnReader reader = new ColumnReader(row, new ColumnIndexCache(columnDefinitions), codecRegistry);
+
+		assertThat(reader.get(0)).isSameAs(names);
+	}
 }
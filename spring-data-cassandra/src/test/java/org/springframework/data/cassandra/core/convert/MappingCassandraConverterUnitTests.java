@@ -17,10 +17,12 @@ package org.springframework.data.cassandra.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.Assume.*;
+import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.RowMockUtil.*;
 import static org.springframework.data.cassandra.repository.support.BasicMapId.*;
 
 import lombok.AllArgsConstructor;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 
@@ -29,15 +31,18 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,7 +56,9 @@ import org.springframework.core.SpringVersion;
 import org.springframework.core.convert.ConverterNotFoundException;
 import org.springframework.data.cassandra.RowMockUtil;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.mapping.LazyLoad;
 import org.springframework.data.cassandra.core.mapping.PrimaryKey;
 import org.springframework.data.cassandra.core.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.core.mapping.PrimaryKeyColumn;
@@ -63,13 +70,17 @@ import org.springframework.data.cassandra.domain.TypeWithMapId;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.UserToken;
 import org.springframework.data.cql.core.PrimaryKeyType;
+import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.util.Version;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.datastax.driver.core.CodecRegistry;
+import com.datastax.driver.core.ColumnDefinitions;
 import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.DataType.Name;
 import com.datastax.driver.core.LocalDate;
 import com.datastax.driver.core.Row;
+import com.datastax.driver.core.TypeCodec;
 import com.datastax.driver.core.querybuilder.Assignment;
 import com.datastax.driver.core.querybuilder.BuiltStatement;
 import com.datastax.driver.core.querybuilder.Clause;
@@ -851,6 +862,321 @@ public class MappingCassandraConverterUnitTests {
 				mappingContext.getRequiredPersistentEntity(TypeWithMapId.class));
 	}
 
+	@Test
+	public void shouldReuseCompiledRowReaderForRowsOfSameShape() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("firstname", "Walter", DataType.varchar()), column("lastname", "White", DataType.varchar()));
+
+		ColumnDefinitions columnDefinitions = rowMock.getColumnDefinitions();
+
+		Row secondRow = mock(Row.class);
+		when(secondRow.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(secondRow.getObject(anyInt())).thenAnswer(invocation -> Arrays.asList("pinkman", "Jesse", "Pinkman")
+				.get((Integer) invocation.getArguments()[0]));
+
+		User walter = mappingCassandraConverter.readRow(User.class, rowMock);
+		User jesse = mappingCassandraConverter.readRow(User.class, secondRow);
+
+		assertThat(walter.getFirstname()).isEqualTo("Walter");
+		assertThat(walter.getLastname()).isEqualTo("White");
+		assertThat(jesse.getId()).isEqualTo("pinkman");
+		assertThat(jesse.getFirstname()).isEqualTo("Jesse");
+		assertThat(jesse.getLastname()).isEqualTo("Pinkman");
+
+		verify(columnDefinitions, times(3)).getIndexOf(anyString());
+		verify(columnDefinitions, never()).contains(anyString());
+	}
+
+	@Test
+	public void shouldReadRowsOfDifferentShapes() {
+
+		Row walterRow = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("firstname", "Walter", DataType.varchar()));
+		Row jesseRow = RowMockUtil.newRowMock(column("lastname", "Pinkman", DataType.varchar()),
+				column("id", "pinkman", DataType.varchar()));
+
+		User walter = mappingCassandraConverter.readRow(User.class, walterRow);
+		User jesse = mappingCassandraConverter.readRow(User.class, jesseRow);
+
+		assertThat(walter.getId()).isEqualTo("heisenberg");
+		assertThat(walter.getFirstname()).isEqualTo("Walter");
+		assertThat(walter.getLastname()).isNull();
+		assertThat(jesse.getId()).isEqualTo("pinkman");
+		assertThat(jesse.getFirstname()).isNull();
+		assertThat(jesse.getLastname()).isEqualTo("Pinkman");
+	}
+
+	@Test
+	public void shouldReadImmutableTypeWithCompiledRowReader() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("localdate", Date.from(Instant.EPOCH), DataType.timestamp()));
+
+		ImmutableTypeWithLocalDate result = mappingCassandraConverter.readRow(ImmutableTypeWithLocalDate.class, rowMock);
+
+		assertThat(result.getId()).isEqualTo("heisenberg");
+		assertThat(result.getLocalDate()).isNotNull();
+	}
+
+	@Test
+	public void shouldWriteMapFlatteningCompositeKey() {
+
+		CompositeKey key = new CompositeKey();
+		key.setFirstname("Walter");
+		key.setLastname("White");
+
+		TypeWithKeyClass entity = new TypeWithKeyClass();
+		entity.setKey(key);
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		mappingCassandraConverter.write(entity, values);
+
+		assertThat(values).containsEntry("first_name", "Walter").containsEntry("lastname", "White").hasSize(2);
+	}
+
+	@Test
+	public void shouldWriteConvertedValuesToMap() {
+
+		UserToken userToken = new UserToken();
+		userToken.setUserId(UUID.randomUUID());
+		userToken.setToken(UUID.randomUUID());
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		mappingCassandraConverter.write(userToken, values);
+
+		assertThat(values).containsEntry("user_id", userToken.getUserId()).containsEntry("auth_token",
+				userToken.getToken());
+	}
+
+	@Test
+	public void shouldRouteInsertsAndUpdatesThroughOverriddenWrapperMethods() {
+
+		List<String> invocations = new ArrayList<>();
+
+		MappingCassandraConverter converter = new MappingCassandraConverter(mappingContext) {
+
+			@Override
+			protected void writeInsertFromWrapper(ConvertingPropertyAccessor accessor, Insert insert,
+					CassandraPersistentEntity<?> entity) {
+
+				invocations.add("insert");
+				super.writeInsertFromWrapper(accessor, insert, entity);
+			}
+
+			@Override
+			protected void writeUpdateFromWrapper(ConvertingPropertyAccessor accessor, Update update,
+					CassandraPersistentEntity<?> entity) {
+
+				invocations.add("update");
+				super.writeUpdateFromWrapper(accessor, update, entity);
+			}
+		};
+
+		User user = new User("heisenberg", "Walter", "White");
+		Insert insert = QueryBuilder.insertInto("users");
+		Update update = QueryBuilder.update("users");
+
+		converter.write(user, insert);
+		converter.write(user, update);
+
+		assertThat(invocations).containsExactly("insert", "update");
+		assertThat(insert.toString()).contains("'heisenberg'", "'Walter'", "'White'");
+		assertThat(update.toString()).contains("firstname='Walter'", "id='heisenberg'");
+	}
+
+	@Test
+	public void shouldNotCompileRowReaderOnFirstReadOfPrecompiledEntity() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(TypeWithKeyClass.class, User.class)));
+		mappingContext.initialize();
+
+		MappingCassandraConverter converter = spy(new MappingCassandraConverter(mappingContext));
+		converter.setPrecompileEntities(true);
+		converter.afterPropertiesSet();
+
+		clearInvocations(converter);
+
+		Row row = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("firstname", "Walter", DataType.varchar()), column("lastname", "White", DataType.varchar()));
+
+		User user = converter.readRow(User.class, row);
+
+		assertThat(user.getId()).isEqualTo("heisenberg");
+		assertThat(user.getFirstname()).isEqualTo("Walter");
+		assertThat(user.getLastname()).isEqualTo("White");
+
+		// compiling a reader resolves lazy-loading metadata per property
+		verify(converter, never()).isLazyLoading(any());
+	}
+
+	@Test
+	public void shouldCompileRowReaderOnFirstReadOfDifferentColumnLayout() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+		mappingContext.setInitialEntitySet(new HashSet<>(Arrays.asList(User.class)));
+		mappingContext.initialize();
+
+		MappingCassandraConverter converter = spy(new MappingCassandraConverter(mappingContext));
+		converter.setPrecompileEntities(true);
+		converter.afterPropertiesSet();
+
+		clearInvocations(converter);
+
+		Row row = RowMockUtil.newRowMock(column("lastname", "White", DataType.varchar()),
+				column("id", "heisenberg", DataType.varchar()));
+
+		User user = converter.readRow(User.class, row);
+
+		assertThat(user.getId()).isEqualTo("heisenberg");
+		assertThat(user.getFirstname()).isNull();
+		assertThat(user.getLastname()).isEqualTo("White");
+
+		verify(converter, atLeastOnce()).isLazyLoading(any());
+	}
+
+	@Test
+	public void shouldNotCompileRowReaderOnceRowReaderLimitIsReached() {
+
+		MappingCassandraConverter converter = spy(new MappingCassandraConverter(mappingContext));
+		converter.afterPropertiesSet();
+
+		for (int layout = 0; layout < 16; layout++) {
+			converter.readRow(User.class, newUserRowMock(layout));
+		}
+
+		verify(converter, never()).readPropertiesFromRow(any(), any(), any());
+
+		Row row = newUserRowMock(16);
+
+		converter.readRow(User.class, row);
+		User user = converter.readRow(User.class, row);
+
+		assertThat(user.getId()).isEqualTo("heisenberg");
+		assertThat(user.getFirstname()).isEqualTo("Walter");
+		verify(converter, times(2)).readPropertiesFromRow(any(), any(), any());
+	}
+
+	@Test
+	public void shouldUseDecodedCollectionsWithoutCopying() {
+
+		List<String> list = new ArrayList<>(Arrays.asList("Walter", "Jesse"));
+		Set<String> set = new LinkedHashSet<>(Arrays.asList("Skyler", "Marie"));
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("names", list, DataType.list(DataType.varchar())),
+				column("aliases", set, DataType.set(DataType.varchar())));
+
+		TypeWithCollections result = mappingCassandraConverter.readRow(TypeWithCollections.class, rowMock);
+
+		assertThat(result.getNames()).isSameAs(list);
+		assertThat(result.getAliases()).isSameAs(set);
+	}
+
+	@Test
+	public void shouldReadCollectionsUsingConfiguredCodecRegistry() {
+
+		List<String> list = new ArrayList<>(Arrays.asList("Walter", "Jesse"));
+		TypeCodec<List<String>> codec = TypeCodec.list(TypeCodec.varchar());
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("names", list, DataType.list(DataType.varchar())));
+
+		mappingCassandraConverter.setCodecRegistry(new CodecRegistry().register(codec));
+
+		TypeWithCollections result = mappingCassandraConverter.readRow(TypeWithCollections.class, rowMock);
+
+		assertThat(result.getNames()).isSameAs(list);
+		verify(rowMock).get(1, codec);
+	}
+
+	@Test
+	public void shouldCopyDecodedCollectionsRequiringConversion() {
+
+		Set<String> set = new LinkedHashSet<>(Arrays.asList("MINT", "USED"));
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("conditions", set, DataType.set(DataType.varchar())));
+
+		TypeWithCollections result = mappingCassandraConverter.readRow(TypeWithCollections.class, rowMock);
+
+		assertThat(result.getConditions()).containsExactly(Condition.MINT, Condition.USED);
+	}
+
+	@Test
+	public void shouldReadBlobWithoutCopying() {
+
+		ByteBuffer content = ByteBuffer.wrap(new byte[] { 1, 2, 3 });
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("content", content, DataType.blob()));
+
+		TypeWithBlob result = mappingCassandraConverter.readRow(TypeWithBlob.class, rowMock);
+
+		assertThat(result.getContent()).isSameAs(content);
+	}
+
+	@Test
+	public void shouldMaterializeLazyPropertyOnFirstAccess() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("names", Arrays.asList("Walter", "Jesse"), DataType.list(DataType.varchar())));
+
+		TypeWithLazyProperty result = mappingCassandraConverter.readRow(TypeWithLazyProperty.class, rowMock);
+
+		assertThat(result.getId()).isEqualTo("heisenberg");
+		assertThat(result.getNames()).isInstanceOf(LazyLoadingProxy.class);
+		assertThat(((LazyLoadingProxy) result.getNames()).isMaterialized()).isFalse();
+		verify(rowMock, never()).get(anyInt(), any(TypeCodec.class));
+
+		assertThat(result.getNames().get(1)).isEqualTo("Jesse");
+		assertThat(((LazyLoadingProxy) result.getNames()).isMaterialized()).isTrue();
+		assertThat(result.getNames()).containsExactly("Walter", "Jesse");
+		verify(rowMock).get(anyInt(), any(TypeCodec.class));
+	}
+
+	@Test
+	public void shouldWriteModifiedLazyProperty() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("names", new ArrayList<>(Arrays.asList("Walter", "Jesse")), DataType.list(DataType.varchar())));
+
+		TypeWithLazyProperty result = mappingCassandraConverter.readRow(TypeWithLazyProperty.class, rowMock);
+		result.getNames().add("Skyler");
+
+		Insert insert = QueryBuilder.insertInto("table");
+		mappingCassandraConverter.write(result, insert);
+
+		assertThat(getValues(insert)).contains("heisenberg", Arrays.asList("Walter", "Jesse", "Skyler"))
+				.noneMatch(LazyLoadingProxy.class::isInstance);
+	}
+
+	@Test
+	public void shouldWriteTargetOfClassBasedLazyLoadingProxy() {
+
+		User user = new User("heisenberg", "Walter", "White");
+		Object proxy = LazyLoadingProxyFactory.createProxy(User.class, () -> user, null);
+
+		Insert insert = QueryBuilder.insertInto("users");
+		mappingCassandraConverter.write(proxy, insert);
+
+		assertThat(proxy).isInstanceOf(User.class).isNotSameAs(user);
+		assertThat(getValues(insert)).contains("heisenberg", "Walter", "White");
+	}
+
+	@Test
+	public void shouldReadLazyPropertyEagerlyWhenUsingConstructorCreation() {
+
+		rowMock = RowMockUtil.newRowMock(column("id", "heisenberg", DataType.varchar()),
+				column("names", Arrays.asList("Walter", "Jesse"), DataType.list(DataType.varchar())));
+
+		TypeWithLazyConstructorArgument result = mappingCassandraConverter
+				.readRow(TypeWithLazyConstructorArgument.class, rowMock);
+
+		assertThat(result.getNames()).isNotInstanceOf(LazyLoadingProxy.class).containsExactly("Walter", "Jesse");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> List<T> getListValue(Insert statement) {
 
@@ -921,6 +1247,20 @@ public class MappingCassandraConverterUnitTests {
 		return result;
 	}
 
+	private static Row newUserRowMock(int leadingColumns) {
+
+		List<Column> columns = new ArrayList<>();
+
+		for (int index = 0; index < leadingColumns; index++) {
+			columns.add(column("unmapped" + index, null, DataType.varchar()));
+		}
+
+		columns.add(column("id", "heisenberg", DataType.varchar()));
+		columns.add(column("firstname", "Walter", DataType.varchar()));
+
+		return RowMockUtil.newRowMock(columns.toArray(new Column[0]));
+	}
+
 	@Table
 	public static class UnsupportedEnumToOrdinalMapping {
 
@@ -1055,6 +1395,52 @@ public class MappingCassandraConverterUnitTests {
 		Set<java.time.LocalDate> set;
 	}
 
+	@Table
+	@Data
+	public static class TypeWithCollections {
+
+		@PrimaryKey String id;
+
+		List<String> names;
+		Set<String> aliases;
+		Set<Condition> conditions;
+	}
+
+	@Table
+	@Data
+	public static class TypeWithBlob {
+
+		@PrimaryKey String id;
+
+		ByteBuffer content;
+	}
+
+	@Table
+	@Data
+	public static class TypeWithLazyProperty {
+
+		@PrimaryKey String id;
+
+		@LazyLoad List<String> names;
+	}
+
+	@Table
+	@Value
+	public static class TypeWithLazyConstructorArgument {
+
+		@PrimaryKey String id;
+
+		@LazyLoad List<String> names;
+	}
+
+	@Value
+	public static class ImmutableTypeWithLocalDate {
+
+		@PrimaryKey String id;
+
+		java.time.LocalDate localDate;
+	}
+
 	/**
 	 * Uses Cassandra's {@link Name#DATE} which maps by default to {@link LocalDate}
 	 */
@@ -24,6 +24,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -346,6 +348,26 @@ public class CassandraMappingContextUnitTests {
 				.isEqualTo(DataType.list(DataType.varchar()));
 	}
 
+	@Test
+	public void shouldCacheDataTypeUntilCustomConversionsChange() {
+
+		mappingContext.setCustomConversions(
+				new CassandraCustomConversions(Collections.singletonList(HumanToStringConverter.INSTANCE)));
+
+		CassandraPersistentProperty property = mappingContext.getRequiredPersistentEntity(TypeWithListOfHumans.class)
+				.getRequiredPersistentProperty("humans");
+
+		DataType dataType = mappingContext.getDataType(property);
+
+		assertThat(dataType).isEqualTo(DataType.list(DataType.varchar()));
+		assertThat(mappingContext.getDataType(property)).isSameAs(dataType);
+
+		mappingContext.setCustomConversions(
+				new CassandraCustomConversions(Collections.singletonList(HumanToUuidConverter.INSTANCE)));
+
+		assertThat(mappingContext.getDataType(property)).isEqualTo(DataType.list(DataType.uuid()));
+	}
+
 	@Test // DATACASS-172, DATACASS-455
 	public void shouldRegisterUdtTypes() {
 
@@ -407,6 +429,29 @@ public class CassandraMappingContextUnitTests {
 		assertThat(mappingContext.usesUserType(CqlIdentifier.cqlId("mappedudt"))).isTrue();
 	}
 
+	@Test
+	public void getDataTypeShouldResolveUserTypeAgainAfterUserTypeChange() {
+
+		UserType previous = mock(UserType.class, "previous");
+		UserType current = mock(UserType.class, "current");
+		AtomicReference<UserType> resolvedType = new AtomicReference<>(previous);
+
+		mappingContext.setUserTypeResolver(typeName -> resolvedType.get());
+
+		CassandraPersistentProperty property = mappingContext.getRequiredPersistentEntity(WithMappedUdt.class)
+				.getRequiredPersistentProperty("mappedUdt");
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(previous);
+
+		resolvedType.set(current);
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(previous);
+
+		new UserTypeChangeListener(mappingContext).onUserTypeChanged(current, previous);
+
+		assertThat(mappingContext.getDataType(property)).isSameAs(current);
+	}
+
 	@Test // DATACASS-172
 	public void createTableForComplexPrimaryKeyShouldFail() {
 
@@ -501,6 +546,14 @@ public class CassandraMappingContextUnitTests {
 	@UserDefinedType
 	private static class MappedUdt {}
 
+	@Table
+	private static class WithMappedUdt {
+
+		@Id String id;
+
+		MappedUdt mappedUdt;
+	}
+
 	@Table
 	private static class WithUdt {
 
@@ -519,6 +572,16 @@ public class CassandraMappingContextUnitTests {
 		}
 	}
 
+	enum HumanToUuidConverter implements Converter<Human, UUID> {
+
+		INSTANCE;
+
+		@Override
+		public UUID convert(Human source) {
+			return UUID.randomUUID();
+		}
+	}
+
 	@Table
 	private static class TypeWithCustomConvertedMap {
 
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link CassandraPageRequest}.
+ *
+ * @author Mark Paluch
+ */
+public class CassandraPageRequestUnitTests {
+
+	@Test
+	public void shouldCreateNextPageRequestCarryingPagingState() {
+
+		PagingState pagingState = mock(PagingState.class);
+
+		CassandraPageRequest current = CassandraPageRequest.of(CassandraPageRequest.first(10, Sort.by("foo")),
+				pagingState);
+		CassandraPageRequest next = current.next();
+
+		assertThat(current.hasNext()).isTrue();
+		assertThat(next.getPageNumber()).isEqualTo(1);
+		assertThat(next.getPageSize()).isEqualTo(10);
+		assertThat(next.getSort()).isEqualTo(Sort.by("foo"));
+		assertThat(next.getPagingState()).isSameAs(pagingState);
+		assertThat(next.hasNext()).isFalse();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void shouldRejectNextWithoutPagingState() {
+		CassandraPageRequest.first(10).next();
+	}
+
+	@Test
+	public void shouldApplyFetchSizeAndPagingState() {
+
+		PagingState pagingState = mock(PagingState.class);
+		Statement statement = mock(Statement.class);
+
+		CassandraPageRequest.apply(statement, CassandraPageRequest.of(CassandraPageRequest.first(10), pagingState).next());
+
+		verify(statement).setFetchSize(10);
+		verify(statement).setPagingState(pagingState);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectIndexedPageWithoutPagingState() {
+		CassandraPageRequest.apply(mock(Statement.class), new PageRequest(2, 10));
+	}
+}
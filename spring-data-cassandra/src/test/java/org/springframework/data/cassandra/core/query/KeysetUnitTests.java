@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.cassandra.core.mapping.BasicCassandraMappingContext;
+import org.springframework.data.cassandra.core.mapping.PrimaryKeyColumn;
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition.Operators;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
+import org.springframework.data.cql.core.Ordering;
+import org.springframework.data.cql.core.PrimaryKeyType;
+
+/**
+ * Unit tests for {@link Keyset}.
+ *
+ * @author Mark Paluch
+ */
+public class KeysetUnitTests {
+
+	BasicCassandraMappingContext mappingContext = new BasicCassandraMappingContext();
+
+	@Test
+	public void shouldCaptureClusteringColumnsOfCompositePrimaryKey() {
+
+		Keyset keyset = Keyset.from(new Group(new GroupKey("users", "0x1", "walter")), mappingContext);
+
+		assertThat(keyset.isAfter()).isTrue();
+		assertThat(keyset.getValues()).containsOnlyKeys("id.username").containsEntry("id.username", "walter");
+	}
+
+	@Test
+	public void shouldCaptureClusteringColumnsInDeclarationOrderUsingDescendingOrdering() {
+
+		Event event = new Event();
+		event.partition = "p";
+		event.day = 20170101;
+		event.sequence = 42;
+
+		Keyset keyset = Keyset.from(event, mappingContext);
+
+		assertThat(keyset.isAfter()).isFalse();
+		assertThat(keyset.getValues()).containsExactly(entry("day", 20170101), entry("sequence", 42));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectEntityWithoutClusteringColumns() {
+		Keyset.from(new Simple(), mappingContext);
+	}
+
+	@Test
+	public void shouldCreateTupleCriteria() {
+
+		Map<String, Object> values = new LinkedHashMap<>();
+		values.put("day", 20170101);
+		values.put("sequence", 42);
+
+		CriteriaDefinition criteria = Keyset.after(values).toCriteria();
+
+		assertThat(criteria).isInstanceOf(TupleCriteria.class);
+		assertThat(((TupleCriteria) criteria).getColumnNames()).containsExactly(ColumnName.from("day"),
+				ColumnName.from("sequence"));
+		assertThat(criteria.getPredicate().getOperator()).isEqualTo(Operators.GT);
+		assertThat(criteria.getPredicate().getValue()).isEqualTo(java.util.Arrays.asList(20170101, 42));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNullValues() {
+		Keyset.after(Collections.singletonMap("day", null));
+	}
+
+	@Table
+	static class Event {
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.PARTITIONED, ordinal = 0) String partition;
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 1, ordering = Ordering.DESCENDING) Integer day;
+
+		@PrimaryKeyColumn(type = PrimaryKeyType.CLUSTERED, ordinal = 2, ordering = Ordering.DESCENDING) Integer sequence;
+	}
+
+	@Table
+	static class Simple {
+
+		@Id String id;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.repository.query.CassandraQueryExecution.SlicedExecution;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.domain.Slice;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link CassandraQueryExecution}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CassandraQueryExecutionUnitTests {
+
+	@Mock CassandraOperations operations;
+	@Mock CqlOperations cqlOperations;
+	@Mock CassandraConverter converter;
+	@Mock ResultSet resultSet;
+	@Mock ExecutionInfo executionInfo;
+	@Mock PagingState pagingState;
+	@Mock Row first;
+	@Mock Row second;
+	@Mock Statement statement;
+
+	@Before
+	public void setUp() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(operations.getConverter()).thenReturn(converter);
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(2);
+		when(resultSet.one()).thenReturn(first, second);
+		when(converter.read(String.class, first)).thenReturn("first");
+		when(converter.read(String.class, second)).thenReturn("second");
+	}
+
+	@Test
+	public void slicedExecutionShouldReadSinglePageAndCarryPagingState() {
+
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+
+		Slice<?> slice = (Slice<?>) new SlicedExecution(operations, CassandraPageRequest.first(2)).execute(statement,
+				String.class);
+
+		verify(statement).setFetchSize(2);
+		verify(statement, never()).setPagingState(any(PagingState.class));
+		assertThat(slice.getContent()).containsExactly("first", "second");
+		assertThat(slice.hasNext()).isTrue();
+		assertThat(((CassandraPageRequest) slice.nextPageable()).getPagingState()).isSameAs(pagingState);
+		assertThat(slice.nextPageable().getPageNumber()).isEqualTo(1);
+		verify(resultSet, never()).fetchMoreResults();
+	}
+
+	@Test
+	public void slicedExecutionShouldApplyPagingStateOfNextPageRequest() {
+
+		CassandraPageRequest nextPage = CassandraPageRequest.of(CassandraPageRequest.first(2), pagingState).next();
+
+		Slice<?> slice = (Slice<?>) new SlicedExecution(operations, nextPage).execute(statement, String.class);
+
+		verify(statement).setPagingState(pagingState);
+		assertThat(slice.getNumber()).isEqualTo(1);
+		assertThat(slice.hasNext()).isFalse();
+	}
+}
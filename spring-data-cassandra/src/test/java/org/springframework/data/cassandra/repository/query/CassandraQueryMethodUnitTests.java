@@ -22,8 +22,14 @@ import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -70,6 +76,34 @@ public class CassandraQueryMethodUnitTests {
 		assertThat(queryMethod.isCollectionQuery()).isTrue();
 	}
 
+	@Test
+	public void considersMethodAsSliceQuery() throws Exception {
+
+		CassandraQueryMethod queryMethod = queryMethod(SampleRepository.class, "sliced", Pageable.class);
+
+		assertThat(queryMethod.isSliceQuery()).isTrue();
+		assertThat(queryMethod.isCollectionQuery()).isFalse();
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void rejectsPageQuery() throws Exception {
+		queryMethod(SampleRepository.class, "paged", Pageable.class);
+	}
+
+	@Test(expected = InvalidDataAccessApiUsageException.class)
+	public void rejectsKeysetParameterOnStringBasedQuery() throws Exception {
+		queryMethod(SampleRepository.class, "stringBasedWithKeyset", Pageable.class, Keyset.class);
+	}
+
+	@Test
+	public void acceptsKeysetParameterOnDerivedQuery() throws Exception {
+
+		CassandraQueryMethod queryMethod = queryMethod(SampleRepository.class, "findByFirstname", String.class,
+				Pageable.class, Keyset.class);
+
+		assertThat(queryMethod.getParameters().getKeysetIndex()).isEqualTo(2);
+	}
+
 	private CassandraQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -82,5 +116,14 @@ public class CassandraQueryMethodUnitTests {
 
 		List<User> method();
 
+		Slice<User> sliced(Pageable pageable);
+
+		Page<User> paged(Pageable pageable);
+
+		@Query("SELECT * FROM users")
+		Slice<User> stringBasedWithKeyset(Pageable pageable, Keyset keyset);
+
+		Slice<User> findByFirstname(String firstname, Pageable pageable, Keyset keyset);
+
 	}
 }
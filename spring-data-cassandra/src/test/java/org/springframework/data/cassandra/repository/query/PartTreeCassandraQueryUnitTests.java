@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
@@ -28,6 +29,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cassandra.core.CassandraOperations;
@@ -40,12 +42,20 @@ import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.MapIdCassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.cassandra.repository.query.PartTreeCassandraQueryUnitTests.Repo.NumberOfChildren;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
@@ -64,6 +74,9 @@ public class PartTreeCassandraQueryUnitTests {
 	@Mock UserTypeResolver userTypeResolverMock;
 	@Mock UserType userTypeMock;
 	@Mock UDTValue udtValueMock;
+	@Mock CqlOperations cqlOperationsMock;
+	@Mock PreparedStatement preparedStatementMock;
+	@Mock BoundStatement boundStatementMock;
 
 	CassandraMappingContext mappingContext;
 	CassandraConverter converter;
@@ -155,6 +168,93 @@ public class PartTreeCassandraQueryUnitTests {
 		assertThat(query.toString()).isEqualTo("SELECT * FROM group WHERE hash_prefix='foo';");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldPrepareQueryOncePerArgumentShape() {
+
+		Session session = mockSession();
+		PartTreeCassandraQuery partTreeQuery = spy(
+				createQueryForMethod(PreparedStatementCache.create(), Repo.class, "findByLastname", String.class));
+
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, "White"));
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, "Pinkman"));
+
+		verify(partTreeQuery, times(2)).createParameterizedQuery(any());
+		verify(session).prepare(any(RegularStatement.class));
+		verify(preparedStatementMock).bind("White");
+		verify(preparedStatementMock).bind("Pinkman");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldBindCollectionArgumentsOfCachedQuery() {
+
+		Session session = mockSession();
+		PartTreeCassandraQuery partTreeQuery = spy(createQueryForMethod(PreparedStatementCache.create(), Repo.class,
+				"findByFirstnameIn", Collection.class));
+
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, Arrays.asList("Hank", "Walter")));
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, Arrays.asList("Skyler", "Walter", "Jr")));
+
+		ArgumentCaptor<RegularStatement> captor = ArgumentCaptor.forClass(RegularStatement.class);
+
+		verify(partTreeQuery, times(2)).createParameterizedQuery(any());
+		verify(session).prepare(captor.capture());
+		verify(preparedStatementMock).bind(Arrays.asList("Hank", "Walter"));
+		verify(preparedStatementMock).bind(Arrays.asList("Skyler", "Walter", "Jr"));
+
+		assertThat(captor.getValue().toString()).isEqualTo("SELECT * FROM person WHERE firstname IN ?;");
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void shouldBindEqualArgumentsOfCachedQuery() {
+
+		Session session = mockSession();
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(PreparedStatementCache.create(), Repo.class,
+				"findByNumberOfChildrenGreaterThanEqualAndNumberOfChildrenLessThanEqual", Integer.class, Integer.class);
+
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, 2, 2));
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, 1, 3));
+
+		verify(session).prepare(any(RegularStatement.class));
+		verify(preparedStatementMock).bind(2, 2);
+		verify(preparedStatementMock).bind(1, 3);
+	}
+
+	@Test
+	public void shouldBindConvertedArgumentsOfCachedQuery() {
+
+		Session session = mockSession();
+		PartTreeCassandraQuery partTreeQuery = createQueryForMethod(PreparedStatementCache.create(), Repo.class,
+				"findByNumberOfChildren", NumberOfChildren.class);
+
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, NumberOfChildren.ONE));
+		partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, NumberOfChildren.TWO));
+
+		verify(session).prepare(any(RegularStatement.class));
+		verify(preparedStatementMock).bind(1);
+		verify(preparedStatementMock).bind(2);
+	}
+
+	private Session mockSession() {
+
+		Session session = mock(Session.class);
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperationsMock);
+		when(cqlOperationsMock.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> ((SessionCallback<?>) invocation.getArgument(0)).doInSession(session));
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatementMock);
+		when(preparedStatementMock.bind(any())).thenReturn(boundStatementMock);
+
+		return session;
+	}
+
+	private CassandraParameterAccessor convertingAccessor(PartTreeCassandraQuery partTreeQuery, Object... args) {
+		return new ConvertingParameterAccessor(converter,
+				new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(), args));
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -179,6 +279,11 @@ public class PartTreeCassandraQueryUnitTests {
 
 	private PartTreeCassandraQuery createQueryForMethod(Class<?> repositoryInterface, String methodName,
 			Class<?>... paramTypes) {
+		return createQueryForMethod(null, repositoryInterface, methodName, paramTypes);
+	}
+
+	private PartTreeCassandraQuery createQueryForMethod(PreparedStatementCache preparedStatementCache,
+			Class<?> repositoryInterface, String methodName, Class<?>... paramTypes) {
 		Class<?>[] userTypes = Arrays.stream(paramTypes)//
 				.map(it -> it.getName().contains("Mockito") ? it.getSuperclass() : it)//
 				.toArray(size -> new Class<?>[size]);
@@ -188,7 +293,7 @@ public class PartTreeCassandraQueryUnitTests {
 			CassandraQueryMethod queryMethod = new CassandraQueryMethod(method,
 					new DefaultRepositoryMetadata(repositoryInterface), factory, mappingContext);
 
-			return new PartTreeCassandraQuery(queryMethod, mockCassandraOperations);
+			return new PartTreeCassandraQuery(queryMethod, mockCassandraOperations, preparedStatementCache);
 		} catch (NoSuchMethodException e) {
 			throw new IllegalArgumentException(e.getMessage(), e);
 		} catch (SecurityException e) {
@@ -224,10 +329,17 @@ public class PartTreeCassandraQueryUnitTests {
 
 		Person findByFirstnameIn(Collection<String> firstname);
 
+		Person findByNumberOfChildren(NumberOfChildren numberOfChildren);
+
+		Person findByNumberOfChildrenGreaterThanEqualAndNumberOfChildrenLessThanEqual(Integer min, Integer max);
+
 		PersonProjection findPersonProjectedBy();
 
 		<T> T findDynamicallyProjectedBy(Class<T> type);
 
+		enum NumberOfChildren {
+			ZERO, ONE, TWO,
+		}
 	}
 
 	interface PersonProjection {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.repository.query.ReactiveCassandraQueryExecution.SlicedExecution;
+import org.springframework.data.cql.core.ReactiveCqlOperations;
+import org.springframework.data.cql.core.session.ReactiveResultSet;
+import org.springframework.data.domain.Slice;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Statement;
+
+/**
+ * Unit tests for {@link ReactiveCassandraQueryExecution}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveCassandraQueryExecutionUnitTests {
+
+	@Mock ReactiveCassandraOperations operations;
+	@Mock ReactiveCqlOperations cqlOperations;
+	@Mock CassandraConverter converter;
+	@Mock ReactiveResultSet resultSet;
+	@Mock ExecutionInfo executionInfo;
+	@Mock PagingState pagingState;
+	@Mock Row row;
+	@Mock Statement statement;
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void slicedExecutionShouldEmitSinglePageAndCarryPagingState() {
+
+		when(operations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(operations.getConverter()).thenReturn(converter);
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(Mono.just(resultSet));
+		when(resultSet.availableRows()).thenReturn(Flux.just(row));
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(executionInfo.getPagingState()).thenReturn(pagingState);
+		when(converter.read(String.class, row)).thenReturn("row");
+
+		Object result = new SlicedExecution(operations, CassandraPageRequest.first(1), source -> source)
+				.execute(statement, String.class);
+
+		StepVerifier.create((Mono<Slice<?>>) result).consumeNextWith(slice -> {
+
+			assertThat(slice.getContent()).containsExactly("row");
+			assertThat(slice.hasNext()).isTrue();
+			assertThat(((CassandraPageRequest) slice.nextPageable()).getPagingState()).isSameAs(pagingState);
+		}).verifyComplete();
+
+		verify(statement).setFetchSize(1);
+		verify(resultSet, never()).rows();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void slicedExecutionShouldApplyResultProcessingToSlice() {
+
+		Converter<Object, Object> resultProcessing = mock(Converter.class);
+
+		when(operations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(operations.getConverter()).thenReturn(converter);
+		when(cqlOperations.queryForResultSet(any(Statement.class))).thenReturn(Mono.just(resultSet));
+		when(resultSet.availableRows()).thenReturn(Flux.empty());
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(resultProcessing.convert(any())).thenReturn("processed");
+
+		Mono<?> result = (Mono<?>) new SlicedExecution(operations, CassandraPageRequest.first(1), resultProcessing)
+				.execute(statement, String.class);
+
+		StepVerifier.create(result).expectNext("processed").verifyComplete();
+		verify(resultProcessing).convert(any(Slice.class));
+	}
+}
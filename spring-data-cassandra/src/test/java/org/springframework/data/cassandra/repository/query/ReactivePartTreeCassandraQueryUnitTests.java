@@ -16,10 +16,12 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import rx.Single;
 
 import java.lang.reflect.Method;
@@ -38,10 +40,18 @@ import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.MapIdCassandraRepository;
 import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.cql.core.ReactiveCqlOperations;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+
 /**
  * Unit tests for {@link ReactivePartTreeCassandraQuery}.
  *
@@ -54,6 +64,9 @@ public class ReactivePartTreeCassandraQueryUnitTests {
 
 	@Mock ReactiveCassandraOperations mockCassandraOperations;
 	@Mock UserTypeResolver userTypeResolver;
+	@Mock ReactiveCqlOperations mockCqlOperations;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	private CassandraMappingContext mappingContext;
 
@@ -94,6 +107,38 @@ public class ReactivePartTreeCassandraQueryUnitTests {
 		assertThat(query).isEqualTo("SELECT * FROM person;");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void shouldPrepareQueryOncePerArgumentShape() {
+
+		ReactiveSession session = mock(ReactiveSession.class);
+
+		when(mockCassandraOperations.getReactiveCqlOperations()).thenReturn(mockCqlOperations);
+		when(mockCqlOperations.execute(any(ReactiveSessionCallback.class))).thenAnswer(
+				invocation -> Flux.from(((ReactiveSessionCallback<?>) invocation.getArgument(0)).doInSession(session)));
+		when(session.prepare(any(RegularStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		ReactivePartTreeCassandraQuery partTreeQuery = spy(
+				createQueryForMethod(AsyncPreparedStatementCache.create(), "findByLastname", String.class));
+
+		StepVerifier.create(partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, "White")))
+				.expectNextCount(1).verifyComplete();
+		StepVerifier.create(partTreeQuery.createExecutableQuery(convertingAccessor(partTreeQuery, "Pinkman")))
+				.expectNextCount(1).verifyComplete();
+
+		verify(partTreeQuery, times(2)).createParameterizedQuery(any());
+		verify(session).prepare(any(RegularStatement.class));
+		verify(preparedStatement).bind("White");
+		verify(preparedStatement).bind("Pinkman");
+	}
+
+	private CassandraParameterAccessor convertingAccessor(ReactivePartTreeCassandraQuery partTreeQuery,
+			Object... args) {
+		return new ConvertingParameterAccessor(mockCassandraOperations.getConverter(),
+				new CassandraParametersParameterAccessor(partTreeQuery.getQueryMethod(), args));
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -112,13 +157,18 @@ public class ReactivePartTreeCassandraQueryUnitTests {
 	}
 
 	private ReactivePartTreeCassandraQuery createQueryForMethod(String methodName, Class<?>... paramTypes) {
+		return createQueryForMethod(null, methodName, paramTypes);
+	}
+
+	private ReactivePartTreeCassandraQuery createQueryForMethod(AsyncPreparedStatementCache preparedStatementCache,
+			String methodName, Class<?>... paramTypes) {
 		try {
 			Method method = Repo.class.getMethod(methodName, paramTypes);
 			ProjectionFactory factory = new SpelAwareProxyProjectionFactory();
 			ReactiveCassandraQueryMethod queryMethod = new ReactiveCassandraQueryMethod(method,
 					new DefaultRepositoryMetadata(Repo.class), factory, mappingContext);
 
-			return new ReactivePartTreeCassandraQuery(queryMethod, mockCassandraOperations);
+			return new ReactivePartTreeCassandraQuery(queryMethod, mockCassandraOperations, preparedStatementCache);
 		} catch (NoSuchMethodException e) {
 			throw new IllegalArgumentException(e.getMessage(), e);
 		} catch (SecurityException e) {
@@ -16,12 +16,19 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
@@ -30,7 +37,9 @@ import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cql.core.ReactiveCqlOperations;
+import org.springframework.data.cql.core.ReactiveSessionCallback;
 import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.data.cql.core.support.AsyncPreparedStatementCache;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -40,8 +49,11 @@ import org.springframework.data.repository.query.ExtensionAwareEvaluationContext
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.SimpleStatement;
 
 /**
@@ -88,6 +100,38 @@ public class ReactiveStringBasedCassandraQueryUnitTests {
 		assertThat(stringQuery.getObject(0)).isEqualTo("White");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesQueryAsCachedPreparedStatement() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(operations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(ReactiveSessionCallback.class))).thenAnswer(invocation -> Flux
+				.from(((ReactiveSessionCallback<?>) invocation.getArgument(0)).doInSession(reactiveSession)));
+		when(reactiveSession.prepare(any(RegularStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, "findByLastname", String.class);
+		ReactiveCassandraQueryMethod queryMethod = new ReactiveCassandraQueryMethod(method, metadata, factory,
+				converter.getMappingContext());
+		ReactiveStringBasedCassandraQuery cassandraQuery = new ReactiveStringBasedCassandraQuery(queryMethod, operations,
+				PARSER, new ExtensionAwareEvaluationContextProvider(), AsyncPreparedStatementCache.create());
+
+		StepVerifier.create(cassandraQuery.createExecutableQuery(
+				new CassandraParametersParameterAccessor(queryMethod, "White"))).expectNextCount(1).verifyComplete();
+		StepVerifier.create(cassandraQuery.createExecutableQuery(
+				new CassandraParametersParameterAccessor(queryMethod, "Pinkman"))).expectNextCount(1).verifyComplete();
+
+		ArgumentCaptor<RegularStatement> captor = ArgumentCaptor.forClass(RegularStatement.class);
+		verify(reactiveSession).prepare(captor.capture());
+		verify(preparedStatement).bind("White");
+		verify(preparedStatement).bind("Pinkman");
+
+		assertThat(captor.getValue().toString()).isEqualTo("SELECT * FROM person WHERE lastname=?;");
+	}
+
 	private ReactiveStringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
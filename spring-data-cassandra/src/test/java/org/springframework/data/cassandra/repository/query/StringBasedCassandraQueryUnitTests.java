@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.annotation.Retention;
@@ -30,6 +31,7 @@ import java.util.HashSet;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cassandra.core.CassandraOperations;
@@ -41,6 +43,9 @@ import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.support.UserTypeBuilder;
 import org.springframework.data.cql.core.CqlIdentifier;
+import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.SessionCallback;
+import org.springframework.data.cql.core.support.PreparedStatementCache;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -52,8 +57,13 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
+import com.datastax.driver.core.BoundStatement;
 import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
 import com.datastax.driver.core.UDTValue;
 import com.datastax.driver.core.UserType;
 
@@ -104,6 +114,41 @@ public class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getObject(0)).isEqualTo("Matthews");
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executesQueryAsCachedPreparedStatement() {
+
+		CqlOperations cqlOperations = mock(CqlOperations.class);
+		Session session = mock(Session.class);
+		PreparedStatementCache cache = mock(PreparedStatementCache.class);
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> ((SessionCallback<?>) invocation.getArgument(0)).doInSession(session));
+		when(cache.getPreparedStatement(eq(session), any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any(), any())).thenReturn(boundStatement);
+
+		Method method = ReflectionUtils.findMethod(SampleRepository.class, "findByLastnameUsedTwice", String.class);
+		CassandraQueryMethod queryMethod = new CassandraQueryMethod(method, metadata, factory,
+				converter.getMappingContext());
+		StringBasedCassandraQuery cassandraQuery = new StringBasedCassandraQuery(queryMethod, operations, PARSER,
+				new ExtensionAwareEvaluationContextProvider(), cache);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(queryMethod,
+				"Matthews");
+
+		Statement actual = cassandraQuery.createExecutableQuery(accessor);
+
+		ArgumentCaptor<RegularStatement> captor = ArgumentCaptor.forClass(RegularStatement.class);
+		verify(cache).getPreparedStatement(eq(session), captor.capture());
+		verify(preparedStatement).bind("Matthews", "Matthews");
+
+		assertThat(actual).isSameAs(boundStatement);
+		assertThat(captor.getValue().toString())
+				.isEqualTo("SELECT * FROM person WHERE lastname = ? or firstname = ?;");
+	}
+
 	@Test // DATACASS-259
 	public void bindsIndexParameterForComposedQueryAnnotationCorrectly() {
 
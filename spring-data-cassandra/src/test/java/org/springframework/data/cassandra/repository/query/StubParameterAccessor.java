@@ -21,6 +21,7 @@ import java.util.Optional;
 
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.Keyset;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.query.ParameterAccessor;
@@ -103,4 +104,9 @@ class StubParameterAccessor implements CassandraParameterAccessor {
 	public Object[] getValues() {
 		return new Object[0];
 	}
+
+	@Override
+	public Keyset getKeyset() {
+		return null;
+	}
 }
@@ -21,6 +21,9 @@ import static org.mockito.Mockito.*;
 import lombok.Data;
 
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.ScanOptions;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
@@ -38,6 +42,7 @@ import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cql.core.CqlIdentifier;
 import org.springframework.data.cql.core.CqlOperations;
+import org.springframework.data.cql.core.PipelinedStatementCallback;
 
 import com.datastax.driver.core.UserType;
 import com.datastax.driver.core.querybuilder.Insert;
@@ -139,6 +144,76 @@ public class SimpleCassandraRepositoryUnitTests {
 		verify(cassandraOperations).insert(person);
 	}
 
+	@Test
+	public void saveAllShouldPipelineInserts() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations);
+
+		SimplePerson first = new SimplePerson();
+		SimplePerson second = new SimplePerson();
+
+		assertThat(repository.saveAll(Arrays.asList(first, second))).containsExactly(first, second);
+
+		verify(cqlOperations).execute(any(PipelinedStatementCallback.class));
+		verify(cqlOperations, never()).execute(any(Insert.class));
+	}
+
+	@Test
+	public void insertAllShouldInsertEntitiesThroughTemplate() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations);
+
+		SimplePerson first = new SimplePerson();
+		SimplePerson second = new SimplePerson();
+		List<SimplePerson> entities = Arrays.asList(first, second);
+
+		when(cassandraOperations.insert(entities)).thenReturn(Collections.singletonList(first));
+
+		assertThat(repository.insert(entities)).containsExactly(first);
+		verify(cqlOperations, never()).execute(any(PipelinedStatementCallback.class));
+	}
+
+	@Test
+	public void countShouldCountTokenRangesIfCountOptionsAreConfigured() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations);
+
+		ScanOptions countOptions = ScanOptions.builder().parallelism(4).build();
+		repository.setCountOptions(countOptions);
+
+		when(cassandraOperations.count(SimplePerson.class, countOptions)).thenReturn(42L);
+
+		assertThat(repository.count()).isEqualTo(42L);
+		verify(cassandraOperations, never()).count(SimplePerson.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void findAllByIdShouldSelectByIds() {
+
+		CassandraPersistentEntity<?> entity = converter.getMappingContext().getRequiredPersistentEntity(SimplePerson.class);
+
+		repository = new SimpleCassandraRepository<Object, String>(new MappingCassandraEntityInformation(entity, converter),
+				cassandraOperations);
+
+		SimplePerson person = new SimplePerson();
+		List<String> ids = Arrays.asList("heisenberg", "walter");
+
+		when(cassandraOperations.selectByIds(ids, SimplePerson.class)).thenReturn(Collections.singletonList(person));
+
+		assertThat(repository.findAllById((Iterable) ids)).containsExactly(person);
+		verify(cassandraOperations, never()).selectBySimpleIds(any(), any());
+	}
+
 	@Data
 	static class SimplePerson {
 
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.support;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.domain.User;
+
+/**
+ * Unit tests for {@link SimpleReactiveCassandraRepository}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+@SuppressWarnings("unchecked")
+public class SimpleReactiveCassandraRepositoryUnitTests {
+
+	MappingCassandraConverter converter = new MappingCassandraConverter();
+
+	@Mock ReactiveCassandraOperations operations;
+
+	SimpleReactiveCassandraRepository<User, String> repository;
+
+	@Before
+	public void before() {
+
+		CassandraPersistentEntity<User> entity = (CassandraPersistentEntity<User>) converter.getMappingContext()
+				.getRequiredPersistentEntity(User.class);
+
+		repository = new SimpleReactiveCassandraRepository<>(new MappingCassandraEntityInformation<>(entity, converter),
+				operations);
+	}
+
+	@Test
+	public void findAllByIdPublisherShouldReadIdsAsTheyAreEmitted() {
+
+		User walter = new User("heisenberg", "Walter", "White");
+
+		when(operations.selectByIds(Collections.singletonList("heisenberg"), User.class)).thenReturn(Flux.just(walter));
+
+		StepVerifier.create(repository.findAllById(Flux.just("heisenberg").concatWith(Flux.never()))) //
+				.expectNext(walter) //
+				.thenCancel() //
+				.verify();
+	}
+
+	@Test
+	public void findAllByIdPublisherShouldLimitInFlightReads() {
+
+		when(operations.selectByIds(anyIterable(), any())).thenReturn(Flux.never());
+
+		repository.setMultiGetConcurrency(1);
+
+		StepVerifier.create(repository.findAllById(Flux.just("heisenberg", "jesse"))) //
+				.expectSubscription() //
+				.then(() -> verify(operations).selectByIds(Collections.singletonList("heisenberg"), User.class)) //
+				.thenCancel() //
+				.verify();
+
+		verify(operations, never()).selectByIds(Collections.singletonList("jesse"), User.class);
+	}
+}
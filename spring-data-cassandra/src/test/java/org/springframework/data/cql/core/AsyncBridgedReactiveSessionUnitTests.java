@@ -0,0 +1,109 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import static org.mockito.Mockito.*;
+
+import reactor.test.StepVerifier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cql.core.session.AsyncBridgedReactiveSession;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.SyntaxError;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Unit tests for {@link AsyncBridgedReactiveSession}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncBridgedReactiveSessionUnitTests {
+
+	@Mock Session sessionMock;
+	@Mock ResultSetFuture future;
+	@Mock ResultSet resultSet;
+
+	private AsyncBridgedReactiveSession reactiveSession;
+
+	@Before
+	public void before() throws Exception {
+		reactiveSession = new AsyncBridgedReactiveSession(sessionMock);
+	}
+
+	@Test
+	public void executeShouldNotCallSessionBeforeSubscription() {
+
+		reactiveSession.execute("SELECT *");
+
+		verifyZeroInteractions(sessionMock);
+	}
+
+	@Test
+	public void executeShouldEmitResultSetOnCompletion() throws Exception {
+
+		SimpleStatement statement = new SimpleStatement("SELECT *");
+
+		when(sessionMock.executeAsync(any(Statement.class))).thenReturn(future);
+		when(future.get()).thenReturn(resultSet);
+		doAnswer(invocation -> {
+			invocation.<Runnable> getArgument(0).run();
+			return null;
+		}).when(future).addListener(any(Runnable.class), any());
+
+		StepVerifier.create(reactiveSession.execute(statement)).expectNextCount(1).verifyComplete();
+
+		verify(sessionMock).executeAsync(statement);
+	}
+
+	@Test
+	public void prepareShouldCompleteFromDriverCallback() {
+
+		SimpleStatement statement = new SimpleStatement("SELECT *");
+		SettableFuture<PreparedStatement> preparation = SettableFuture.create();
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+
+		when(sessionMock.prepareAsync(any(RegularStatement.class))).thenReturn(preparation);
+
+		StepVerifier.create(reactiveSession.prepare(statement)) //
+				.then(() -> preparation.set(preparedStatement)) //
+				.expectNext(preparedStatement) //
+				.verifyComplete();
+
+		verify(sessionMock).prepareAsync(statement);
+	}
+
+	@Test
+	public void prepareShouldEmitDriverException() {
+
+		when(sessionMock.prepareAsync(any(RegularStatement.class)))
+				.thenReturn(Futures.immediateFailedFuture(new SyntaxError(null, "Invalid")));
+
+		StepVerifier.create(reactiveSession.prepare("SELECT *")).expectError(SyntaxError.class).verify();
+	}
+}
@@ -20,12 +20,14 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
@@ -171,6 +173,70 @@ public class AsyncCqlTemplateUnitTests {
 		});
 	}
 
+	@Test // DATACASS-292
+	public void queryShouldExtractResultsOnResultExecutor() throws Exception {
+
+		List<Runnable> tasks = new ArrayList<>();
+		template.setResultExecutor(tasks::add);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(row.getString(0)).thenReturn("Walter");
+
+		ListenableFuture<List<String>> future = template.query("SELECT * from USERS", (row, index) -> row.getString(0));
+
+		assertThat(future.isDone()).isFalse();
+		assertThat(template.getResultExecutor().getQueueDepth()).isEqualTo(1);
+		verifyZeroInteractions(row);
+
+		tasks.forEach(Runnable::run);
+
+		assertThat(future.get()).containsExactly("Walter");
+		assertThat(template.getResultExecutor().getQueueDepth()).isZero();
+		assertThat(template.getResultExecutor().getCompletedTaskCount()).isEqualTo(1);
+	}
+
+	@Test // DATACASS-292
+	public void queryShouldFailIfResultExecutorRejectsExtraction() throws Exception {
+
+		template.setResultExecutor(command -> {
+			throw new RejectedExecutionException("Queue full");
+		});
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+
+		try {
+			template.query("SELECT * from USERS", (row, index) -> row.getString(0)).get();
+
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(RejectedExecutionException.class);
+		}
+
+		assertThat(template.getResultExecutor().getQueueDepth()).isZero();
+		assertThat(template.getResultExecutor().getRejectedTaskCount()).isEqualTo(1);
+	}
+
+	@Test // DATACASS-292
+	public void queryShouldTranslateExtractionExceptionsOnResultExecutor() throws Exception {
+
+		template.setResultExecutor(Runnable::run);
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+
+		ListenableFuture<String> future = template.query("SELECT * from USERS", (ResultSetExtractor<String>) rs -> {
+			throw new NoHostAvailableException(Collections.emptyMap());
+		});
+
+		try {
+			future.get();
+
+			fail("Missing CassandraConnectionFailureException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(CassandraConnectionFailureException.class);
+		}
+	}
+
 	@Test // DATACASS-292
 	public void queryWithResultSetExtractorWithArgumentsShouldCallExecution() {
 
@@ -645,6 +711,44 @@ public class AsyncCqlTemplateUnitTests {
 		}
 	}
 
+	@Test // DATACASS-292
+	public void queryPreparedStatementCreatorAndBinderShouldCompleteExceptionallyIfExtractionFails() throws Exception {
+
+		when(session.executeAsync(boundStatement)).thenReturn(new TestResultSetFuture(resultSet));
+
+		ListenableFuture<ResultSet> future = template.query(session -> new AsyncResult<>(preparedStatement),
+				ps -> boundStatement, (ResultSetExtractor<ResultSet>) rs -> {
+					throw new IllegalStateException("Cannot extract");
+				});
+
+		assertThat(future.isDone()).isTrue();
+
+		try {
+			future.get();
+			fail("Missing IllegalStateException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(IllegalStateException.class);
+		}
+	}
+
+	@Test // DATACASS-292
+	public void queryPreparedStatementCreatorAndBinderShouldTranslateExtractionExceptions() throws Exception {
+
+		when(session.executeAsync(boundStatement)).thenReturn(new TestResultSetFuture(resultSet));
+
+		ListenableFuture<ResultSet> future = template.query(session -> new AsyncResult<>(preparedStatement),
+				ps -> boundStatement, (ResultSetExtractor<ResultSet>) rs -> {
+					throw new NoHostAvailableException(Collections.emptyMap());
+				});
+
+		try {
+			future.get();
+			fail("Missing CassandraConnectionFailureException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(CassandraConnectionFailureException.class);
+		}
+	}
+
 	@Test // DATACASS-292
 	public void queryPreparedStatementCreatorAndBinderAndMapperShouldReturnResult() {
 
@@ -19,8 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -29,15 +31,20 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.data.cql.core.session.DefaultBridgedReactiveSession;
+import org.springframework.data.cql.core.session.ReactiveResultSet;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.PreparedStatement;
 import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.ResultSet;
 import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
 import com.datastax.driver.core.SimpleStatement;
 import com.datastax.driver.core.Statement;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 /**
  * Unit tests for {@link DefaultBridgedReactiveSession}.
@@ -114,6 +121,74 @@ public class DefaultBridgedReactiveSessionUnitTests {
 		verify(sessionMock).prepareAsync(statement);
 	}
 
+	@Test // DATACASS-335
+	public void rowsShouldFetchNextPageAsynchronously() throws Exception {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row first = mock(Row.class);
+		Row second = mock(Row.class);
+		SettableFuture<ResultSet> nextPage = SettableFuture.create();
+
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		doAnswer(invocation -> {
+			invocation.<Runnable> getArgument(0).run();
+			return null;
+		}).when(future).addListener(any(Runnable.class), any());
+		when(future.isDone()).thenReturn(true);
+
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(1, 0, 1, 0);
+		when(resultSet.isFullyFetched()).thenReturn(false, true);
+		when(resultSet.one()).thenReturn(first, second);
+		when(resultSet.fetchMoreResults()).thenReturn(nextPage);
+
+		ReactiveResultSet reactiveResultSet = reactiveSession.execute("SELECT *").block();
+
+		StepVerifier.create(reactiveResultSet.rows(), 0) //
+				.thenRequest(1) //
+				.expectNext(first) //
+				.then(() -> nextPage.set(resultSet)) //
+				.thenRequest(1) //
+				.expectNext(second) //
+				.verifyComplete();
+
+		verify(resultSet).fetchMoreResults();
+	}
+
+	@Test
+	public void rowsShouldFetchManyPagesIteratively() throws Exception {
+
+		int pages = 10000;
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+		AtomicInteger available = new AtomicInteger(1);
+		AtomicInteger fetchedPages = new AtomicInteger(1);
+
+		when(future.getUninterruptibly()).thenReturn(resultSet);
+		doAnswer(invocation -> {
+			invocation.<Runnable> getArgument(0).run();
+			return null;
+		}).when(future).addListener(any(Runnable.class), any());
+		when(future.isDone()).thenReturn(true);
+
+		when(resultSet.getAvailableWithoutFetching()).thenAnswer(invocation -> available.get());
+		when(resultSet.isFullyFetched()).thenAnswer(invocation -> fetchedPages.get() == pages);
+		when(resultSet.one()).thenAnswer(invocation -> {
+			available.decrementAndGet();
+			return row;
+		});
+		when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+			fetchedPages.incrementAndGet();
+			available.set(1);
+			return Futures.immediateFuture(resultSet);
+		});
+
+		ReactiveResultSet reactiveResultSet = reactiveSession.execute("SELECT *").block();
+
+		StepVerifier.create(reactiveResultSet.rows()).expectNextCount(pages).verifyComplete();
+
+		verify(resultSet, times(pages - 1)).fetchMoreResults();
+	}
+
 	@Test // DATACASS-335
 	public void testClose() throws Exception {
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2016-2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.SyntaxError;
+
+/**
+ * Unit tests for {@link PipelinedStatementCallback}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PipelinedStatementCallbackUnitTests {
+
+	@Mock Session session;
+	@Mock ResultSetFuture first;
+	@Mock ResultSetFuture second;
+	@Mock ResultSet resultSet;
+
+	@Test
+	public void shouldExecuteAllStatementsAndReturnResultSetsInOrder() {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(first, second);
+		when(first.getUninterruptibly()).thenReturn(resultSet);
+		when(second.getUninterruptibly()).thenReturn(resultSet);
+
+		List<ResultSet> resultSets = new PipelinedStatementCallback(
+				Arrays.asList(new SimpleStatement("INSERT 1"), new SimpleStatement("INSERT 2"))).doInSession(session);
+
+		assertThat(resultSets).containsExactly(resultSet, resultSet);
+		verify(session, times(2)).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	public void shouldAwaitAllStatementsAndAggregateFailures() {
+
+		SyntaxError firstError = new SyntaxError(null, "first");
+		SyntaxError secondError = new SyntaxError(null, "second");
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(first, second);
+		when(first.getUninterruptibly()).thenThrow(firstError);
+		when(second.getUninterruptibly()).thenThrow(secondError);
+
+		try {
+			new PipelinedStatementCallback(Arrays.asList(new SimpleStatement("INSERT 1"), new SimpleStatement("INSERT 2")))
+					.doInSession(session);
+
+			fail("Missing SyntaxError");
+		} catch (SyntaxError e) {
+			assertThat(e).isSameAs(firstError);
+			assertThat(e.getSuppressed()).containsExactly(secondError);
+		}
+
+		verify(second).getUninterruptibly();
+	}
+
+	@Test
+	public void shouldStopIssuingStatementsAfterFailureInFailFastMode() {
+
+		SyntaxError error = new SyntaxError(null, "first");
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(first);
+		when(first.getUninterruptibly()).thenThrow(error);
+		doAnswer(invocation -> {
+			invocation.<Runnable> getArgument(0).run();
+			return null;
+		}).when(first).addListener(any(Runnable.class), any());
+
+		try {
+			new PipelinedStatementCallback(Arrays.asList(new SimpleStatement("INSERT 1"), new SimpleStatement("INSERT 2")), 1,
+					true).doInSession(session);
+
+			fail("Missing SyntaxError");
+		} catch (SyntaxError e) {
+			assertThat(e).isSameAs(error);
+		}
+
+		verify(session).executeAsync(any(Statement.class));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectInvalidMaxInFlight() {
+		new PipelinedStatementCallback(Arrays.asList(new SimpleStatement("INSERT 1")), 0);
+	}
+}
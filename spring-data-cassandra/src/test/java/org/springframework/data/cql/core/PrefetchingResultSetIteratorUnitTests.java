@@ -0,0 +1,147 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+
+/**
+ * Unit tests for {@link PrefetchingResultSetIterator}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class PrefetchingResultSetIteratorUnitTests {
+
+	@Mock ResultSet resultSet;
+
+	@Test
+	public void shouldPrefetchNextPageBeforeMappingLastRowOfPage() {
+
+		Pages pages = new Pages(2, 2, 1);
+		Map<Integer, Integer> fetchesWhenMapping = new ConcurrentHashMap<>();
+
+		List<Integer> result = PrefetchingResultSetIterator.stream(resultSet, (row, rowNum) -> {
+
+			fetchesWhenMapping.put(rowNum, pages.fetches);
+			return rowNum;
+		}, 0, null).collect(Collectors.toList());
+
+		assertThat(result).containsExactly(0, 1, 2, 3, 4);
+		assertThat(fetchesWhenMapping.get(1)).isEqualTo(1);
+		assertThat(fetchesWhenMapping.get(3)).isEqualTo(2);
+		assertThat(pages.fetches).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldPrefetchAtThreshold() {
+
+		Pages pages = new Pages(4, 1);
+		Map<Integer, Integer> fetchesWhenMapping = new ConcurrentHashMap<>();
+
+		List<Integer> result = PrefetchingResultSetIterator.stream(resultSet, (row, rowNum) -> {
+
+			fetchesWhenMapping.put(rowNum, pages.fetches);
+			return rowNum;
+		}, 2, null).collect(Collectors.toList());
+
+		assertThat(result).containsExactly(0, 1, 2, 3, 4);
+		assertThat(fetchesWhenMapping.get(0)).isZero();
+		assertThat(fetchesWhenMapping.get(1)).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldMapPagesInParallelPreservingOrder() {
+
+		new Pages(100, 50);
+		ForkJoinPool pool = new ForkJoinPool(4);
+
+		try {
+			List<Integer> result = PrefetchingResultSetIterator
+					.stream(resultSet, (row, rowNum) -> rowNum, 0, pool).collect(Collectors.toList());
+
+			assertThat(result).containsExactlyElementsOf(IntStream.range(0, 150).boxed().collect(Collectors.toList()));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Simulates paged fetching of a {@link ResultSet}.
+	 */
+	class Pages {
+
+		final Deque<List<Row>> pending = new ArrayDeque<>();
+		final Deque<Row> available = new ArrayDeque<>();
+		volatile int fetches;
+
+		Pages(int... pageSizes) {
+
+			for (int pageSize : pageSizes) {
+
+				List<Row> page = new ArrayList<>();
+
+				for (int i = 0; i < pageSize; i++) {
+					page.add(mock(Row.class));
+				}
+
+				pending.add(page);
+			}
+
+			available.addAll(pending.poll());
+
+			when(resultSet.getAvailableWithoutFetching()).thenAnswer(invocation -> available.size());
+			when(resultSet.isFullyFetched()).thenAnswer(invocation -> pending.isEmpty());
+			when(resultSet.fetchMoreResults()).thenAnswer(invocation -> {
+
+				if (!pending.isEmpty()) {
+					available.addAll(pending.poll());
+					fetches++;
+				}
+
+				return Futures.immediateFuture(resultSet);
+			});
+			when(resultSet.isExhausted()).thenAnswer(invocation -> {
+
+				if (available.isEmpty()) {
+					resultSet.fetchMoreResults();
+				}
+
+				return available.isEmpty();
+			});
+			when(resultSet.one()).thenAnswer(invocation -> available.poll());
+		}
+	}
+}
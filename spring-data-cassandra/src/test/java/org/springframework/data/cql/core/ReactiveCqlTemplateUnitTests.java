@@ -25,6 +25,8 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 
 import org.junit.Before;
@@ -183,6 +185,28 @@ public class ReactiveCqlTemplateUnitTests {
 		});
 	}
 
+	@Test // DATACASS-335
+	public void queryShouldMapRowsOnResultExecutor() {
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		try {
+			template.setResultExecutor(executor);
+
+			when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+			when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row));
+
+			Thread caller = Thread.currentThread();
+			Flux<Boolean> flux = template.query("SELECT * from USERS", (row, index) -> Thread.currentThread() != caller);
+
+			StepVerifier.create(flux).expectNext(true, true).verifyComplete();
+
+			assertThat(template.getResultExecutor().getCompletedTaskCount()).isGreaterThan(0);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@Test // DATACASS-335
 	public void queryWithResultSetExtractorWithArgumentsShouldCallExecution() {
 
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.TableMetadata;
+import com.datastax.driver.core.exceptions.SyntaxError;
+
+/**
+ * Unit tests for {@link BoundedPreparedStatementCache}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class BoundedPreparedStatementCacheUnitTests {
+
+	@Mock Session session;
+
+	@Mock Session otherKeyspaceSession;
+
+	@Mock Cluster cluster;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Before
+	public void before() {
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(otherKeyspaceSession.getCluster()).thenReturn(cluster);
+
+		when(session.getLoggedKeyspace()).thenReturn("keyspace");
+		when(otherKeyspaceSession.getLoggedKeyspace()).thenReturn("other");
+	}
+
+	@Test
+	public void shouldCachePreparedStatementAndRecordStatistics() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumSize(10);
+
+		assertThat(cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;")))
+				.isSameAs(preparedStatement);
+		assertThat(cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;")))
+				.isSameAs(preparedStatement);
+
+		verify(session).prepare(any(RegularStatement.class));
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getHitCount()).isEqualTo(1);
+		assertThat(cache.getMissCount()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isZero();
+	}
+
+	@Test
+	public void shouldEvictStatementsExceedingMaximumSize() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumSize(1);
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;"));
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM orders;"));
+
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.getEvictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void shouldEvictStatementsExceedingMaximumWeight() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumWeight(30);
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;"));
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM orders;"));
+
+		assertThat(cache.size()).isLessThan(2);
+		assertThat(cache.getEvictionCount()).isGreaterThanOrEqualTo(1);
+	}
+
+	@Test
+	public void shouldPropagatePreparationFailure() {
+
+		SyntaxError error = new SyntaxError(null, "line 1:0 no viable alternative");
+		when(session.prepare(any(RegularStatement.class))).thenThrow(error);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumSize(10);
+
+		assertThatThrownBy(() -> cache.getPreparedStatement(session, new SimpleStatement("SELECT")))
+				.isSameAs(error);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	public void shouldInvalidateStatementsOfChangedKeyspace() {
+
+		when(session.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+		when(otherKeyspaceSession.prepare(any(RegularStatement.class))).thenReturn(preparedStatement);
+
+		KeyspaceMetadata keyspaceMetadata = mock(KeyspaceMetadata.class);
+		TableMetadata tableMetadata = mock(TableMetadata.class);
+
+		when(keyspaceMetadata.getName()).thenReturn("keyspace");
+		when(tableMetadata.getKeyspace()).thenReturn(keyspaceMetadata);
+
+		BoundedPreparedStatementCache cache = BoundedPreparedStatementCache.ofMaximumSize(10);
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;"));
+		cache.getPreparedStatement(otherKeyspaceSession, new SimpleStatement("SELECT * FROM users;"));
+
+		cache.getSchemaChangeListener().onTableChanged(tableMetadata, tableMetadata);
+
+		assertThat(cache.size()).isEqualTo(1);
+
+		cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;"));
+
+		verify(session, times(2)).prepare(any(RegularStatement.class));
+		verify(otherKeyspaceSession).prepare(any(RegularStatement.class));
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cql.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.ExecutionException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.cql.core.session.ReactiveSession;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.RegularStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.exceptions.SyntaxError;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
+
+/**
+ * Unit tests for {@link MapAsyncPreparedStatementCache}.
+ *
+ * @author Mark Paluch
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MapAsyncPreparedStatementCacheUnitTests {
+
+	@Mock Session session;
+
+	@Mock ReactiveSession reactiveSession;
+
+	@Mock Cluster cluster;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@Before
+	public void before() {
+
+		when(session.getCluster()).thenReturn(cluster);
+		when(session.getLoggedKeyspace()).thenReturn("keyspace");
+
+		when(reactiveSession.getCluster()).thenReturn(cluster);
+		when(reactiveSession.getLoggedKeyspace()).thenReturn("keyspace");
+	}
+
+	@Test
+	public void concurrentRequestsShouldShareSinglePreparation() throws Exception {
+
+		SettableFuture<PreparedStatement> preparation = SettableFuture.create();
+		when(session.prepareAsync(any(RegularStatement.class))).thenReturn(preparation);
+
+		AsyncPreparedStatementCache cache = MapAsyncPreparedStatementCache.create();
+
+		ListenableFuture<PreparedStatement> first = cache.getPreparedStatement(session,
+				new SimpleStatement("SELECT * FROM users;"));
+		ListenableFuture<PreparedStatement> second = cache.getPreparedStatement(session,
+				new SimpleStatement("SELECT * FROM users;"));
+
+		assertThat(first.isDone()).isFalse();
+		assertThat(second.isDone()).isFalse();
+
+		preparation.set(preparedStatement);
+
+		assertThat(first.get()).isSameAs(preparedStatement);
+		assertThat(second.get()).isSameAs(preparedStatement);
+
+		verify(session).prepareAsync(any(RegularStatement.class));
+	}
+
+	@Test
+	public void failedPreparationShouldBeRetried() throws Exception {
+
+		when(session.prepareAsync(any(RegularStatement.class)))
+				.thenReturn(Futures.immediateFailedFuture(new SyntaxError(null, "Invalid")))
+				.thenReturn(Futures.immediateFuture(preparedStatement));
+
+		AsyncPreparedStatementCache cache = MapAsyncPreparedStatementCache.create();
+
+		try {
+			cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;")).get();
+			fail("Missing ExecutionException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(SyntaxError.class);
+		}
+
+		assertThat(cache.getPreparedStatement(session, new SimpleStatement("SELECT * FROM users;")).get())
+				.isSameAs(preparedStatement);
+
+		verify(session, times(2)).prepareAsync(any(RegularStatement.class));
+	}
+
+	@Test
+	public void reactiveRequestsShouldShareSinglePreparation() {
+
+		when(reactiveSession.prepare(any(RegularStatement.class))).thenReturn(Mono.just(preparedStatement));
+
+		AsyncPreparedStatementCache cache = MapAsyncPreparedStatementCache.create();
+
+		StepVerifier.create(cache.getPreparedStatement(reactiveSession, new SimpleStatement("SELECT * FROM users;")))
+				.expectNext(preparedStatement).verifyComplete();
+		StepVerifier.create(cache.getPreparedStatement(reactiveSession, new SimpleStatement("SELECT * FROM users;")))
+				.expectNext(preparedStatement).verifyComplete();
+
+		verify(reactiveSession).prepare(any(RegularStatement.class));
+	}
+}